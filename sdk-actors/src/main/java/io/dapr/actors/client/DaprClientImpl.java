@@ -49,7 +49,7 @@ class DaprClientImpl implements DaprClient {
   private final RetryPolicy retryPolicy;
 
   /**
-   * The async gRPC stub.
+   * The async gRPC stub, with Dapr interceptors applied.
    */
   private final DaprGrpc.DaprStub client;
 
@@ -76,9 +76,9 @@ class DaprClientImpl implements DaprClient {
       Map<String, String> metadata,
       ResiliencyOptions resiliencyOptions,
       String daprApiToken) {
-    this.client = grpcClient;
     this.grpcInterceptors = new DaprClientGrpcInterceptors(daprApiToken,
         new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()));
+    this.client = this.grpcInterceptors.intercept(grpcClient);
     this.retryPolicy = new RetryPolicy(
         resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries());
     this.metadata = metadata == null ? Map.of() : metadata;
@@ -99,7 +99,7 @@ class DaprClientImpl implements DaprClient {
             .build();
     return Mono.deferContextual(
         context -> this.<DaprProtos.InvokeActorResponse>createMono(
-            it -> this.grpcInterceptors.intercept(client, context).invokeActor(req, it)
+            it -> this.grpcInterceptors.withContext(client, context, null).invokeActor(req, it)
         )
     ).map(r -> r.getData().toByteArray());
   }
@@ -71,7 +71,8 @@ public abstract class AbstractActor {
     this.actorStateManager = new ActorStateManager(
           runtimeContext.getStateProvider(),
           runtimeContext.getActorTypeInformation().getName(),
-          id);
+          id,
+          runtimeContext.getActorTypeConfig());
     this.actorTrace = runtimeContext.getActorTrace();
     this.started = new AtomicBoolean(false);
   }
@@ -257,7 +258,7 @@ public abstract class AbstractActor {
       throw new IllegalStateException("Cannot reset state before starting call.");
     }
 
-    this.resetState();
+    this.actorStateManager.rollback();
     this.started.set(false);
   }
 
@@ -277,7 +278,8 @@ public abstract class AbstractActor {
     return Mono.fromRunnable(() -> {
       this.actorTrace.writeInfo(TRACE_TYPE, this.id.toString(), "Activating ...");
       this.resetState();
-    }).then(this.onActivate())
+    }).then(this.actorStateManager.prefetch())
+          .then(this.onActivate())
           .then(this.doWriteInfo(TRACE_TYPE, this.id.toString(), "Activated"))
           .then(this.saveState());
   }
@@ -319,13 +321,24 @@ public abstract class AbstractActor {
    * @return Asynchronous void response.
    */
   Mono<Void> onPostActorMethodInternal(ActorMethodContext actorMethodContext) {
+    return this.onPostActorMethodInternal(actorMethodContext, true);
+  }
+
+  /**
+   * Internal callback after method is invoked.
+   *
+   * @param actorMethodContext Method context.
+   * @param saveState          Whether to save the state, false if a later call will save it.
+   * @return Asynchronous void response.
+   */
+  Mono<Void> onPostActorMethodInternal(ActorMethodContext actorMethodContext, boolean saveState) {
     return Mono.fromRunnable(() -> {
       if (!this.started.get()) {
         throw new IllegalStateException("Cannot complete a method before starting a call.");
       }
     })
         .then(this.onPostActorMethod(actorMethodContext))
-        .then(this.saveState())
+        .then(saveState ? this.saveState() : Mono.empty())
         .then(Mono.fromRunnable(() -> this.started.set(false)));
   }
 
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+/**
+ * Threads that run actor methods which do not return {@link reactor.core.publisher.Mono}, timers and reminders.
+ */
+public enum ActorExecutionMode {
+
+  /**
+   * Runs on the thread that delivered the call from Dapr. This is the default.
+   * Blocking actors can starve the application's request threads in this mode.
+   */
+  CALLER_THREAD,
+
+  /**
+   * Runs each call on its own virtual thread. Requires Java 21 or newer.
+   */
+  VIRTUAL_THREADS,
+
+  /**
+   * Runs on Reactor's shared bounded elastic scheduler.
+   */
+  BOUNDED_ELASTIC
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs an Actor's turns one at a time, in the order they were submitted.
+ *
+ * <p>Turns are queued without locking and started by whichever thread finds the mailbox idle, so no thread
+ * waits for a turn to finish. A turn is over when its Mono terminates.
+ */
+final class ActorMailbox {
+
+  /**
+   * Turns waiting to run.
+   */
+  private final Queue<Supplier<Mono<Void>>> turns = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Number of pending drain requests. Only the caller that moves it from 0 drains the queue.
+   */
+  private final AtomicInteger wip = new AtomicInteger();
+
+  /**
+   * Whether a turn is running. Only changed while draining, or when the running turn ends.
+   */
+  private volatile boolean busy;
+
+  /**
+   * Submits a turn, whose result is emitted once it ran.
+   *
+   * @param turn Creates the turn's work when it is its turn to run.
+   * @param <T>  Type of the turn's result.
+   * @return Result of the turn.
+   */
+  <T> Mono<T> submit(Supplier<Mono<T>> turn) {
+    return Mono.create(sink -> this.enqueue(() -> Mono.defer(turn)
+        .doOnSuccess(sink::success)
+        .doOnError(sink::error)
+        .onErrorResume(e -> Mono.empty())
+        .then()));
+  }
+
+  /**
+   * Queues a turn. The next turn starts once the Mono created by this one terminates.
+   *
+   * @param turn Creates the turn's work when it is its turn to run.
+   */
+  void enqueue(Supplier<Mono<Void>> turn) {
+    this.turns.offer(turn);
+    this.drain();
+  }
+
+  /**
+   * Checks if turns are waiting behind the one running.
+   *
+   * @return True if more turns are queued.
+   */
+  boolean hasQueuedTurns() {
+    return !this.turns.isEmpty();
+  }
+
+  private void drain() {
+    if (this.wip.getAndIncrement() != 0) {
+      return;
+    }
+
+    int missed = 1;
+    do {
+      if (!this.busy) {
+        Supplier<Mono<Void>> turn = this.turns.poll();
+        if (turn != null) {
+          this.busy = true;
+          // Turns ending synchronously call drain() again, which only bumps wip, so this loop picks up the next.
+          Mono.defer(turn).subscribe(null, e -> this.onTurnEnded(), this::onTurnEnded);
+        }
+      }
+
+      missed = this.wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void onTurnEnded() {
+    this.busy = false;
+    this.drain();
+  }
+}
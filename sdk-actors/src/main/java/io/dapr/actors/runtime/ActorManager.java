@@ -14,14 +14,20 @@ limitations under the License.
 package io.dapr.actors.runtime;
 
 import io.dapr.actors.ActorId;
-import io.dapr.utils.TypeRef;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -34,6 +40,11 @@ class ActorManager<T extends AbstractActor> {
    */
   private static final ActorObjectSerializer OBJECT_SERIALIZER = new ActorObjectSerializer();
 
+  /**
+   * A trace type used when logging.
+   */
+  private static final String TRACE_TYPE = "ActorManager";
+
   /**
    * Context for the Actor runtime.
    */
@@ -45,9 +56,40 @@ class ActorManager<T extends AbstractActor> {
   private final ActorMethodInfoMap actorMethods;
 
   /**
-   * Active Actor instances.
+   * Active Actor instances, including the ones still being activated.
+   */
+  private final ConcurrentHashMap<ActorId, ActiveActor<T>> activeActors;
+
+  /**
+   * Activated Actors from least to most recently used, only tracked when there is a maximum of resident Actors.
+   * Guarded by itself.
+   */
+  private final LinkedHashMap<ActorId, ActiveActor<T>> recentlyUsedActors = new LinkedHashMap<>(16, 0.75f, true);
+
+  /**
+   * Maximum number of Actors kept in memory before idle ones are evicted, 0 or less for no limit.
+   */
+  private final int maxResidentActors;
+
+  /**
+   * Whether each Actor queues its calls in a mailbox.
+   */
+  private final boolean mailboxEnabled;
+
+  /**
+   * Maximum number of consecutive mailbox turns saved in a single state transaction.
+   */
+  private final int maxTurnsPerSave;
+
+  /**
+   * Number of Actors evicted so far.
+   */
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Runs blocking methods, timers and reminders.
    */
-  private final Map<ActorId, T> activeActors;
+  private final ActorMethodScheduler methodScheduler;
 
   /**
    * Instantiates a new manager for a given actor referenced in the runtimeContext.
@@ -55,9 +97,33 @@ class ActorManager<T extends AbstractActor> {
    * @param runtimeContext Runtime context for the Actor.
    */
   ActorManager(ActorRuntimeContext runtimeContext) {
+    this(runtimeContext, ActorMethodScheduler.CALLER_THREAD);
+  }
+
+  /**
+   * Instantiates a new manager for a given actor referenced in the runtimeContext.
+   *
+   * @param runtimeContext  Runtime context for the Actor.
+   * @param methodScheduler Runs blocking methods, timers and reminders.
+   */
+  ActorManager(ActorRuntimeContext runtimeContext, ActorMethodScheduler methodScheduler) {
     this.runtimeContext = runtimeContext;
     this.actorMethods = new ActorMethodInfoMap(runtimeContext.getActorTypeInformation().getInterfaces());
-    this.activeActors = Collections.synchronizedMap(new HashMap<>());
+    this.activeActors = new ConcurrentHashMap<>();
+    this.methodScheduler = methodScheduler;
+    ActorTypeConfig actorTypeConfig = runtimeContext.getActorTypeConfig();
+    this.maxResidentActors = actorTypeConfig == null ? 0 : actorTypeConfig.getMaxResidentActors();
+    this.mailboxEnabled = (actorTypeConfig != null) && actorTypeConfig.isMailboxEnabled();
+    this.maxTurnsPerSave = actorTypeConfig == null ? 1 : actorTypeConfig.getMaxTurnsPerSave();
+  }
+
+  /**
+   * Gets the scheduler for blocking methods, timers and reminders.
+   *
+   * @return Scheduler for blocking calls.
+   */
+  ActorMethodScheduler getMethodScheduler() {
+    return this.methodScheduler;
   }
 
   /**
@@ -67,13 +133,15 @@ class ActorManager<T extends AbstractActor> {
    * @return Asynchronous void response.
    */
   Mono<Void> activateActor(ActorId actorId) {
-    return Mono.fromSupplier(() -> {
-      if (this.activeActors.containsKey(actorId)) {
-        return null;
+    return Mono.defer(() -> {
+      // Concurrent first calls share the same instance and wait for the same activation.
+      ActiveActor<T> activeActor = this.activeActors.computeIfAbsent(actorId, this::createActiveActor);
+      if (activeActor == null) {
+        return Mono.empty();
       }
 
-      return this.runtimeContext.getActorFactory().createActor(runtimeContext, actorId);
-    }).flatMap(actor -> actor.onActivateInternal().then(this.onActivatedActor(actorId, actor)));
+      return activeActor.activation;
+    });
   }
 
   /**
@@ -83,7 +151,27 @@ class ActorManager<T extends AbstractActor> {
    * @return Asynchronous void response.
    */
   Mono<Void> deactivateActor(ActorId actorId) {
-    return Mono.fromSupplier(() -> this.activeActors.remove(actorId)).flatMap(actor -> actor.onDeactivateInternal());
+    return Mono.fromSupplier(() -> this.activeActors.remove(actorId))
+        .doOnNext(activeActor -> this.forget(actorId, activeActor))
+        .flatMap(this::deactivate);
+  }
+
+  /**
+   * Gets the number of Actors in memory, including the ones still being activated.
+   *
+   * @return Number of active Actors.
+   */
+  int getActiveActorCount() {
+    return this.activeActors.size();
+  }
+
+  /**
+   * Gets the number of Actors evicted to stay within the maximum number of resident Actors.
+   *
+   * @return Number of evicted Actors.
+   */
+  long getEvictionCount() {
+    return this.evictionCount.sum();
   }
 
   /**
@@ -135,14 +223,116 @@ class ActorManager<T extends AbstractActor> {
   }
 
   /**
-   * Internal callback for when Actor is activated.
+   * Creates an Actor and its activation, which runs once, when first subscribed.
    *
    * @param actorId Actor identifier.
-   * @param actor   Actor's instance.
+   * @return Actor pending activation, or null if the factory did not create one.
+   */
+  private ActiveActor<T> createActiveActor(ActorId actorId) {
+    T actor = this.runtimeContext.getActorFactory().createActor(runtimeContext, actorId);
+    if (actor == null) {
+      return null;
+    }
+
+    ActiveActor<T> activeActor = new ActiveActor<>(actor, this.mailboxEnabled ? new ActorMailbox() : null);
+    activeActor.activation = actor.onActivateInternal()
+        .doOnSuccess(v -> {
+          activeActor.activated = true;
+          this.touch(actorId, activeActor);
+          this.evictIdleActors(activeActor);
+        })
+        .doOnError(e -> this.activeActors.remove(actorId, activeActor))
+        .cache();
+    return activeActor;
+  }
+
+  /**
+   * Marks an Actor as the most recently used one.
+   *
+   * @param actorId     Actor identifier.
+   * @param activeActor Actor that was activated or called.
+   */
+  private void touch(ActorId actorId, ActiveActor<?> activeActor) {
+    if (this.maxResidentActors <= 0) {
+      return;
+    }
+
+    synchronized (this.recentlyUsedActors) {
+      // Calls racing an explicit deactivation must not bring the Actor back.
+      ActiveActor<T> current = this.activeActors.get(actorId);
+      if (current == activeActor) {
+        this.recentlyUsedActors.put(actorId, current);
+      }
+    }
+  }
+
+  /**
+   * Stops tracking an Actor removed from the active ones.
+   *
+   * @param actorId     Actor identifier.
+   * @param activeActor Actor that was removed.
+   */
+  private void forget(ActorId actorId, ActiveActor<?> activeActor) {
+    if (this.maxResidentActors <= 0) {
+      return;
+    }
+
+    synchronized (this.recentlyUsedActors) {
+      this.recentlyUsedActors.remove(actorId, activeActor);
+    }
+  }
+
+  /**
+   * Deactivates the least recently used idle Actors, until the maximum number of resident Actors is met.
+   * Actors with calls in progress, still being activated, or just activated are never evicted.
+   *
+   * @param activated Actor that was just activated.
+   */
+  private void evictIdleActors(ActiveActor<T> activated) {
+    if (this.maxResidentActors <= 0) {
+      return;
+    }
+
+    Map<ActorId, ActiveActor<T>> evicted = new HashMap<>();
+    synchronized (this.recentlyUsedActors) {
+      Iterator<Map.Entry<ActorId, ActiveActor<T>>> leastRecentlyUsed = this.recentlyUsedActors.entrySet().iterator();
+      while ((this.activeActors.size() > this.maxResidentActors) && leastRecentlyUsed.hasNext()) {
+        Map.Entry<ActorId, ActiveActor<T>> entry = leastRecentlyUsed.next();
+        ActiveActor<T> candidate = entry.getValue();
+        if (this.activeActors.get(entry.getKey()) != candidate) {
+          leastRecentlyUsed.remove();
+        } else if ((candidate != activated) && candidate.tryEvict()) {
+          leastRecentlyUsed.remove();
+          this.activeActors.remove(entry.getKey(), candidate);
+          evicted.put(entry.getKey(), candidate);
+        }
+      }
+    }
+
+    evicted.forEach((actorId, activeActor) -> {
+      this.evictionCount.increment();
+      this.deactivate(activeActor).subscribe(
+          null,
+          e -> this.runtimeContext.getActorTrace().writeError(
+              TRACE_TYPE, actorId.toString(), "Failed to deactivate evicted actor: %s", e.getMessage()));
+    });
+  }
+
+  /**
+   * Deactivates an Actor already removed from the active ones, after its activation and queued calls.
+   *
+   * @param activeActor Actor to be deactivated.
    * @return Asynchronous void response.
    */
-  private Mono<Void> onActivatedActor(ActorId actorId, T actor) {
-    return Mono.fromRunnable(() -> this.activeActors.put(actorId, actor));
+  private Mono<Void> deactivate(ActiveActor<?> activeActor) {
+    Mono<Void> deactivation = activeActor.activation
+        .onErrorResume(e -> Mono.empty())
+        .then(Mono.defer(() -> activeActor.actor.onDeactivateInternal()));
+    if (activeActor.mailbox == null) {
+      return deactivation;
+    }
+
+    return activeActor.mailbox.submit(() -> this.saveUnsavedTurns(activeActor).then(deactivation));
   }
 
   /**
@@ -157,7 +347,7 @@ class ActorManager<T extends AbstractActor> {
       Remindable actor,
       String reminderName,
       ActorReminderParams reminderParams) {
-    return Mono.fromSupplier(() -> {
+    return this.methodScheduler.schedule(Mono.fromSupplier(() -> {
       if (actor == null) {
         throw new IllegalArgumentException("actor is mandatory.");
       }
@@ -182,7 +372,7 @@ class ActorManager<T extends AbstractActor> {
       } catch (Exception e) {
         return Mono.error(e);
       }
-    }).thenReturn(true);
+    })).thenReturn(true);
   }
 
   /**
@@ -215,20 +405,18 @@ class ActorManager<T extends AbstractActor> {
     return this.invoke(actorId, actorMethodContext, actor -> {
       try {
         // Finds the actor method with the given name and 1 or no parameter.
-        Method method = this.actorMethods.get(methodName);
+        ActorMethodInvoker invoker = this.actorMethods.getInvoker(methodName);
 
         Object input = null;
-        if (method.getParameterCount() == 1) {
-          // Actor methods must have a one or no parameter, which is guaranteed at this point.
-          Class<?> inputClass = method.getParameterTypes()[0];
-          input = this.runtimeContext.getObjectSerializer().deserialize(request, TypeRef.get(inputClass));
+        if (invoker.getInputType() != null) {
+          input = this.runtimeContext.getObjectSerializer().deserialize(request, invoker.getInputType());
         }
 
-        if (method.getReturnType().equals(Mono.class)) {
-          return invokeMonoMethod(actor, method, input);
+        if (invoker.returnsMono()) {
+          return invokeMonoMethod(actor, invoker, input);
         }
 
-        return invokeMethod(actor, method, input);
+        return invokeMethod(actor, invoker, input);
       } catch (Exception e) {
         return Mono.error(e);
       }
@@ -244,44 +432,34 @@ class ActorManager<T extends AbstractActor> {
   /**
    * Invokes a method that returns a plain object (not Mono).
    *
-   * @param actor  Actor to be invoked.
-   * @param method Method to be invoked.
-   * @param input  Input object for the method (or null).
+   * @param actor   Actor to be invoked.
+   * @param invoker Invoker for the method.
+   * @param input   Input object for the method (or null).
    * @return Asynchronous object response.
    */
-  private Mono<Object> invokeMethod(AbstractActor actor, Method method, Object input) {
-    return Mono.fromSupplier(() -> {
+  private Mono<Object> invokeMethod(AbstractActor actor, ActorMethodInvoker invoker, Object input) {
+    return this.methodScheduler.schedule(Mono.fromSupplier(() -> {
       try {
-        if (method.getParameterCount() == 0) {
-          return method.invoke(actor);
-        } else {
-          // Actor methods must have a one or no parameter, which is guaranteed at this point.
-          return method.invoke(actor, input);
-        }
+        return invoker.invoke(actor, input);
       } catch (RuntimeException e) {
         throw e;
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
-    });
+    }));
   }
 
   /**
    * Invokes a method that returns Mono.
    *
-   * @param actor  Actor to be invoked.
-   * @param method Method to be invoked.
-   * @param input  Input object for the method (or null).
+   * @param actor   Actor to be invoked.
+   * @param invoker Invoker for the method.
+   * @param input   Input object for the method (or null).
    * @return Asynchronous object response.
    */
-  private Mono<Object> invokeMonoMethod(AbstractActor actor, Method method, Object input) {
+  private Mono<Object> invokeMonoMethod(AbstractActor actor, ActorMethodInvoker invoker, Object input) {
     try {
-      if (method.getParameterCount() == 0) {
-        return (Mono<Object>) method.invoke(actor);
-      } else {
-        // Actor methods must have a one or no parameter, which is guaranteed at this point.
-        return (Mono<Object>) method.invoke(actor, input);
-      }
+      return (Mono<Object>) invoker.invoke(actor, input);
     } catch (Exception e) {
       return Mono.error(e);
     }
@@ -298,27 +476,270 @@ class ActorManager<T extends AbstractActor> {
    */
   private <T> Mono<T> invoke(ActorId actorId, ActorMethodContext context, Function<AbstractActor, Mono<T>> func) {
     try {
-      AbstractActor actor = this.activeActors.getOrDefault(actorId, null);
-      if (actor == null) {
-        throw new IllegalArgumentException(
-            String.format("Could not find actor %s of type %s.",
-                actorId.toString(),
-                this.runtimeContext.getActorTypeInformation().getName()));
+      ActiveActor<?> activeActor = this.activeActors.get(actorId);
+      if ((activeActor == null) || !activeActor.activated) {
+        throw this.actorNotFound(actorId);
       }
 
-      return Mono.fromRunnable(() -> actor.rollback(true))
-          .onErrorMap(throwable -> {
-            actor.rollback(false);
-            return throwable;
-          })
-          .then(actor.onPreActorMethodInternal(context))
-          .then((Mono<Object>) func.apply(actor))
-          .switchIfEmpty(
-              actor.onPostActorMethodInternal(context))
-          .flatMap(r -> actor.onPostActorMethodInternal(context).thenReturn(r))
-          .map(o -> (T) o);
+      return Mono.defer(() -> {
+        // Eviction claims idle Actors atomically, so a call either keeps the Actor busy or sees it evicted.
+        if (!activeActor.tryAcquire()) {
+          return Mono.<T>error(this.actorNotFound(actorId));
+        }
+
+        this.touch(actorId, activeActor);
+        return this.invokeActive(activeActor, context, func).doFinally(signal -> activeActor.release());
+      });
     } catch (Exception e) {
       return Mono.error(e);
     }
   }
+
+  /**
+   * Builds the error for calls to an Actor that is not active.
+   *
+   * @param actorId Actor identifier.
+   * @return Error to be returned to the caller.
+   */
+  private IllegalArgumentException actorNotFound(ActorId actorId) {
+    return new IllegalArgumentException(
+        String.format("Could not find actor %s of type %s.",
+            actorId.toString(),
+            this.runtimeContext.getActorTypeInformation().getName()));
+  }
+
+  /**
+   * Runs a method, timer or reminder for an Actor already marked as busy.
+   *
+   * @param activeActor Actor being invoked.
+   * @param context     Context for the method/timer/reminder call.
+   * @param func        Function to perform the method call.
+   * @param <T>         Expected return type for the function call.
+   * @return Asynchronous response for the returned object.
+   */
+  private <T> Mono<T> invokeActive(
+      ActiveActor<?> activeActor, ActorMethodContext context, Function<AbstractActor, Mono<T>> func) {
+    if (activeActor.mailbox == null) {
+      return this.invokeTurn(activeActor.actor, context, func, true, true);
+    }
+    if (this.maxTurnsPerSave <= 1) {
+      return activeActor.mailbox.submit(() -> this.invokeTurn(activeActor.actor, context, func, true, true));
+    }
+
+    return Mono.<T>create(sink -> activeActor.mailbox.enqueue(
+        () -> this.invokeBatchedTurn(activeActor, context, func, sink)));
+  }
+
+  /**
+   * Runs a method, timer or reminder with its pre and post callbacks.
+   *
+   * @param actor     Actor being invoked.
+   * @param context   Context for the method/timer/reminder call.
+   * @param func      Function to perform the method call.
+   * @param rollback  Whether to discard the cached state first.
+   * @param saveState Whether to save the state afterwards.
+   * @param <T>       Expected return type for the function call.
+   * @return Asynchronous response for the returned object.
+   */
+  private <T> Mono<T> invokeTurn(
+      AbstractActor actor,
+      ActorMethodContext context,
+      Function<AbstractActor, Mono<T>> func,
+      boolean rollback,
+      boolean saveState) {
+    return Mono.fromRunnable(() -> {
+      if (rollback) {
+        actor.rollback(true);
+      }
+    })
+        .onErrorMap(throwable -> {
+          actor.rollback(false);
+          return throwable;
+        })
+        .then(actor.onPreActorMethodInternal(context))
+        .then((Mono<Object>) func.apply(actor))
+        .switchIfEmpty(
+            actor.onPostActorMethodInternal(context, saveState))
+        .flatMap(r -> actor.onPostActorMethodInternal(context, saveState).thenReturn(r))
+        .map(o -> (T) o);
+  }
+
+  /**
+   * Runs a mailbox turn whose state is saved together with the following queued turns. The caller is only
+   * answered once the state changes of its turn are saved.
+   *
+   * @param activeActor Actor being invoked.
+   * @param context     Context for the method/timer/reminder call.
+   * @param func        Function to perform the method call.
+   * @param sink        Caller waiting for the result.
+   * @param <T>         Expected return type for the function call.
+   * @return Asynchronous void response, once the turn is over.
+   */
+  private <T> Mono<Void> invokeBatchedTurn(
+      ActiveActor<?> activeActor,
+      ActorMethodContext context,
+      Function<AbstractActor, Mono<T>> func,
+      MonoSink<T> sink) {
+    // Keeps the cached state when previous turns still have changes to be saved.
+    boolean rollback = activeActor.unsavedTurns.isEmpty();
+    return this.invokeTurn(activeActor.actor, context, func, rollback, false)
+        .doOnSuccess(r -> activeActor.unsavedTurns.add(new UnsavedTurn(() -> sink.success(r), sink::error)))
+        .then(Mono.defer(() -> {
+          if (activeActor.mailbox.hasQueuedTurns() && (activeActor.unsavedTurns.size() < this.maxTurnsPerSave)) {
+            return Mono.<Void>empty();
+          }
+
+          return this.saveUnsavedTurns(activeActor);
+        }))
+        .onErrorResume(e -> {
+          // Changes from this turn cannot be told apart from the unsaved ones, so all are discarded.
+          activeActor.actor.rollback(true);
+          for (UnsavedTurn unsavedTurn : activeActor.takeUnsavedTurns()) {
+            unsavedTurn.fail.accept(e);
+          }
+          sink.error(e);
+          return Mono.empty();
+        });
+  }
+
+  /**
+   * Saves the state changes of turns not saved yet, then answers their callers.
+   *
+   * @param activeActor Actor with unsaved turns.
+   * @return Asynchronous void response, which never fails.
+   */
+  private Mono<Void> saveUnsavedTurns(ActiveActor<?> activeActor) {
+    List<UnsavedTurn> unsavedTurns = activeActor.takeUnsavedTurns();
+    if (unsavedTurns.isEmpty()) {
+      return Mono.empty();
+    }
+
+    return activeActor.actor.saveState()
+        .doOnSuccess(v -> unsavedTurns.forEach(unsavedTurn -> unsavedTurn.complete.run()))
+        .onErrorResume(e -> {
+          activeActor.actor.rollback(true);
+          unsavedTurns.forEach(unsavedTurn -> unsavedTurn.fail.accept(e));
+          return Mono.empty();
+        });
+  }
+
+  /**
+   * Internal class to track an Actor instance and its activation.
+   *
+   * @param <T> Actor's type.
+   */
+  private static final class ActiveActor<T extends AbstractActor> {
+
+    /**
+     * Actor's instance.
+     */
+    private final T actor;
+
+    /**
+     * Number of calls in progress for this Actor, or -1 once it is claimed for eviction.
+     */
+    private final AtomicInteger calls = new AtomicInteger();
+
+    /**
+     * Queue of calls for this Actor, or null if calls are not queued.
+     */
+    private final ActorMailbox mailbox;
+
+    /**
+     * Turns run but not saved yet. Only accessed from mailbox turns, which never overlap.
+     */
+    private List<UnsavedTurn> unsavedTurns = new ArrayList<>();
+
+    /**
+     * Activation shared by all callers waiting for this Actor.
+     */
+    private Mono<Void> activation;
+
+    /**
+     * Whether the activation completed successfully.
+     */
+    private volatile boolean activated;
+
+    /**
+     * Creates a new entry for an Actor not yet activated.
+     *
+     * @param actor   Actor's instance.
+     * @param mailbox Queue of calls for this Actor, or null if calls are not queued.
+     */
+    private ActiveActor(T actor, ActorMailbox mailbox) {
+      this.actor = actor;
+      this.mailbox = mailbox;
+    }
+
+    /**
+     * Removes the turns not saved yet.
+     *
+     * @return Unsaved turns, in the order they ran.
+     */
+    private List<UnsavedTurn> takeUnsavedTurns() {
+      List<UnsavedTurn> taken = this.unsavedTurns;
+      this.unsavedTurns = new ArrayList<>();
+      return taken;
+    }
+
+    /**
+     * Marks a call in progress for this Actor, unless it was claimed for eviction.
+     *
+     * @return True if the call can proceed.
+     */
+    private boolean tryAcquire() {
+      while (true) {
+        int current = this.calls.get();
+        if (current < 0) {
+          return false;
+        }
+        if (this.calls.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+    }
+
+    /**
+     * Marks the end of a call in progress for this Actor.
+     */
+    private void release() {
+      this.calls.decrementAndGet();
+    }
+
+    /**
+     * Claims this Actor for eviction if it is activated and without calls in progress.
+     *
+     * @return True if the Actor can be evicted, in which case new calls are refused.
+     */
+    private boolean tryEvict() {
+      return this.activated && this.calls.compareAndSet(0, -1);
+    }
+  }
+
+  /**
+   * Internal class to answer the caller of a turn once its state changes are saved.
+   */
+  private static final class UnsavedTurn {
+
+    /**
+     * Answers the caller with the turn's result.
+     */
+    private final Runnable complete;
+
+    /**
+     * Fails the caller with the given error.
+     */
+    private final Consumer<Throwable> fail;
+
+    /**
+     * Creates a turn waiting for its state to be saved.
+     *
+     * @param complete Answers the caller with the turn's result.
+     * @param fail     Fails the caller with the given error.
+     */
+    private UnsavedTurn(Runnable complete, Consumer<Throwable> fail) {
+      this.complete = complete;
+      this.fail = fail;
+    }
+  }
 }
@@ -22,13 +22,13 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Actor method dispatcher map. Holds method_name -> Method for methods defined in Actor interfaces.
+ * Actor method dispatcher map. Holds method_name -> invoker for methods defined in Actor interfaces.
  */
 class ActorMethodInfoMap {
   /**
    * Map for methods based on name.
    */
-  private final Map<String, Method> methods;
+  private final Map<String, ActorMethodInvoker> methods;
 
   /**
    * Instantiates a given Actor map based on the interfaces found in the class.
@@ -36,7 +36,7 @@ class ActorMethodInfoMap {
    * @param interfaceTypes Interfaces found in the Actor class.
    */
   ActorMethodInfoMap(Collection<Class<?>> interfaceTypes) {
-    Map<String, Method> methods = new HashMap<>();
+    Map<String, ActorMethodInvoker> methods = new HashMap<>();
 
     // Find methods which are defined in Actor interface.
     for (Class<?> actorInterface : interfaceTypes) {
@@ -50,7 +50,7 @@ class ActorMethodInfoMap {
           if ((actorMethodAnnotation != null) && !actorMethodAnnotation.name().isEmpty()) {
             methodName = actorMethodAnnotation.name();
           }
-          methods.put(methodName, methodInfo);
+          methods.put(methodName, new ActorMethodInvoker(methodInfo));
         }
       }
     }
@@ -66,11 +66,22 @@ class ActorMethodInfoMap {
    * @throws NoSuchMethodException If method is not found.
    */
   Method get(String methodName) throws NoSuchMethodException {
-    Method method = this.methods.get(methodName);
-    if (method == null) {
+    return this.getInvoker(methodName).getMethod();
+  }
+
+  /**
+   * Gets the invoker for an Actor's method by name.
+   *
+   * @param methodName Name of the method.
+   * @return Invoker for the method.
+   * @throws NoSuchMethodException If method is not found.
+   */
+  ActorMethodInvoker getInvoker(String methodName) throws NoSuchMethodException {
+    ActorMethodInvoker invoker = this.methods.get(methodName);
+    if (invoker == null) {
       throw new NoSuchMethodException(String.format("Could not find method %s.", methodName));
     }
 
-    return method;
+    return invoker;
   }
 }
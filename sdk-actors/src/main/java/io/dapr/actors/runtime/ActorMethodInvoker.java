@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Mono;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invokes an Actor method, with everything that does not depend on the call resolved once upfront.
+ */
+final class ActorMethodInvoker {
+
+  /**
+   * Type every method handle is adapted to: (actor, input) -> result.
+   */
+  private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+
+  /**
+   * Method being invoked.
+   */
+  private final Method method;
+
+  /**
+   * Handle for the method, or null if it cannot be created and reflection is used instead.
+   */
+  private final MethodHandle handle;
+
+  /**
+   * Type of the method's input, or null if it has no parameter.
+   */
+  private final TypeRef<?> inputType;
+
+  /**
+   * Whether the method returns Mono.
+   */
+  private final boolean returnsMono;
+
+  /**
+   * Instantiates a new invoker for the given Actor method.
+   *
+   * @param method Actor method, with one or no parameter.
+   */
+  ActorMethodInvoker(Method method) {
+    this.method = method;
+    this.handle = createHandle(method);
+    this.inputType = method.getParameterCount() == 1 ? TypeRef.get(method.getParameterTypes()[0]) : null;
+    this.returnsMono = method.getReturnType().equals(Mono.class);
+  }
+
+  /**
+   * Gets the method being invoked.
+   *
+   * @return Actor method.
+   */
+  Method getMethod() {
+    return this.method;
+  }
+
+  /**
+   * Gets the type of the method's input.
+   *
+   * @return Input type, or null if the method has no parameter.
+   */
+  TypeRef<?> getInputType() {
+    return this.inputType;
+  }
+
+  /**
+   * Gets whether the method returns Mono.
+   *
+   * @return True if the method returns Mono.
+   */
+  boolean returnsMono() {
+    return this.returnsMono;
+  }
+
+  /**
+   * Invokes the method, with the same exceptions as {@link Method#invoke(Object, Object...)}.
+   *
+   * @param actor Actor to be invoked.
+   * @param input Input for the method, ignored if it has no parameter.
+   * @return Value returned by the method, null for void methods.
+   * @throws InvocationTargetException If the method throws.
+   * @throws IllegalAccessException    If the method is not accessible.
+   */
+  Object invoke(Object actor, Object input) throws InvocationTargetException, IllegalAccessException {
+    if (this.handle == null) {
+      return this.inputType == null ? this.method.invoke(actor) : this.method.invoke(actor, input);
+    }
+
+    try {
+      return (Object) this.handle.invokeExact(actor, input);
+    } catch (Throwable e) {
+      throw new InvocationTargetException(e);
+    }
+  }
+
+  /**
+   * Creates a handle of type {@link #INVOKER_TYPE} for the given method.
+   *
+   * @param method Actor method, with one or no parameter.
+   * @return Method handle, or null if the method is not accessible through one.
+   */
+  private static MethodHandle createHandle(Method method) {
+    try {
+      method.setAccessible(true);
+      MethodHandle handle = MethodHandles.lookup().unreflect(method);
+      if (method.getParameterCount() == 0) {
+        handle = MethodHandles.dropArguments(handle, 1, Object.class);
+      }
+
+      return handle.asType(INVOKER_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Moves blocking actor calls off the thread that delivered them, according to the {@link ActorExecutionMode}.
+ */
+final class ActorMethodScheduler {
+
+  /**
+   * Runs calls on the caller's thread.
+   */
+  static final ActorMethodScheduler CALLER_THREAD = new ActorMethodScheduler(null, false);
+
+  /**
+   * Scheduler for blocking calls, or null to stay on the caller's thread.
+   */
+  private final Scheduler scheduler;
+
+  /**
+   * Whether the scheduler was created for this instance, and must be disposed with it.
+   */
+  private final boolean ownsScheduler;
+
+  /**
+   * Calls currently running on the scheduler.
+   */
+  private final AtomicInteger activeCalls = new AtomicInteger();
+
+  /**
+   * Calls dispatched to the scheduler so far.
+   */
+  private final LongAdder callCount = new LongAdder();
+
+  private ActorMethodScheduler(Scheduler scheduler, boolean ownsScheduler) {
+    this.scheduler = scheduler;
+    this.ownsScheduler = ownsScheduler;
+  }
+
+  /**
+   * Creates the scheduler for an actor type.
+   *
+   * @param mode          Execution mode, null for {@link ActorExecutionMode#CALLER_THREAD}.
+   * @param actorTypeName Actor type, used to name threads.
+   * @return Scheduler for the actor type.
+   */
+  static ActorMethodScheduler create(ActorExecutionMode mode, String actorTypeName) {
+    if (mode == null) {
+      return CALLER_THREAD;
+    }
+
+    switch (mode) {
+      case VIRTUAL_THREADS:
+        return new ActorMethodScheduler(
+            Schedulers.fromExecutorService(newVirtualThreadExecutor(), "dapr-actor-" + actorTypeName), true);
+      case BOUNDED_ELASTIC:
+        return new ActorMethodScheduler(Schedulers.boundedElastic(), false);
+      default:
+        return CALLER_THREAD;
+    }
+  }
+
+  /**
+   * Subscribes to the given blocking call on this scheduler's threads.
+   *
+   * @param call Call to be run.
+   * @param <T>  Type of the call's result.
+   * @return Call running on this scheduler.
+   */
+  <T> Mono<T> schedule(Mono<T> call) {
+    if (this.scheduler == null) {
+      return call;
+    }
+
+    return Mono.defer(() -> {
+      this.callCount.increment();
+      this.activeCalls.incrementAndGet();
+      // Released before the result is handed on, so a caller that got it never sees the call as active.
+      AtomicBoolean released = new AtomicBoolean();
+      Runnable release = () -> {
+        if (released.compareAndSet(false, true)) {
+          this.activeCalls.decrementAndGet();
+        }
+      };
+      return call.doOnTerminate(release).doOnCancel(release);
+    }).subscribeOn(this.scheduler);
+  }
+
+  /**
+   * Gets the number of calls currently running on this scheduler.
+   *
+   * @return Calls in flight.
+   */
+  int getActiveCalls() {
+    return this.activeCalls.get();
+  }
+
+  /**
+   * Gets the number of calls dispatched to this scheduler.
+   *
+   * @return Calls dispatched.
+   */
+  long getCallCount() {
+    return this.callCount.sum();
+  }
+
+  /**
+   * Releases the threads owned by this scheduler.
+   */
+  void dispose() {
+    if (this.ownsScheduler) {
+      this.scheduler.dispose();
+    }
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Virtual threads for actors require Java 21 or newer.", e);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create virtual thread executor for actors.", e);
+    }
+  }
+}
@@ -239,15 +239,27 @@ public class ActorRuntime implements Closeable {
 
     // Create ActorManager, if not yet registered.
     this.actorManagers.computeIfAbsent(actorTypeInfo.getName(), (k) -> {
+      // Settings specific to this actor type, added with ActorRuntimeConfig.addActorTypeConfig().
+      ActorTypeConfig actorTypeConfig = this.config.getActorTypeConfig(actorTypeInfo.getName());
+      ActorStateEncoding stateEncoding = ActorStateEncoding.JSON_BASE64;
+      ActorExecutionMode executionMode = this.config.getExecutionMode();
+      if (actorTypeConfig != null) {
+        stateEncoding = actorTypeConfig.getStateEncoding();
+        if (actorTypeConfig.getExecutionMode() != null) {
+          executionMode = actorTypeConfig.getExecutionMode();
+        }
+      }
+
       ActorRuntimeContext<T> context = new ActorRuntimeContext<>(
           this,
           objectSerializer,
           actorFactory,
           actorTypeInfo,
           this.daprClient,
-          new DaprStateAsyncProvider(this.daprClient, stateSerializer));
+          new DaprStateAsyncProvider(this.daprClient, stateSerializer, stateEncoding),
+          actorTypeConfig);
       this.config.addRegisteredActorType(actorTypeInfo.getName());
-      return new ActorManager<T>(context);
+      return new ActorManager<T>(context, ActorMethodScheduler.create(executionMode, actorTypeInfo.getName()));
     });
   }
 
@@ -312,6 +324,33 @@ public class ActorRuntime implements Closeable {
         .flatMap(m -> ((ActorManager) m).invokeTimer(new ActorId(actorId), timerName, params));
   }
 
+  /**
+   * Gets the number of blocking actor calls currently running off the caller's thread, across actor types.
+   * Only actor types with an execution mode other than {@link ActorExecutionMode#CALLER_THREAD} are counted.
+   *
+   * @return Blocking actor calls in flight.
+   */
+  public int getActiveBlockingCalls() {
+    int active = 0;
+    for (ActorManager<?> actorManager : this.actorManagers.values()) {
+      active += actorManager.getMethodScheduler().getActiveCalls();
+    }
+    return active;
+  }
+
+  /**
+   * Gets the number of blocking actor calls dispatched off the caller's thread so far, across actor types.
+   *
+   * @return Blocking actor calls dispatched.
+   */
+  public long getBlockingCallCount() {
+    long count = 0;
+    for (ActorManager<?> actorManager : this.actorManagers.values()) {
+      count += actorManager.getMethodScheduler().getCallCount();
+    }
+    return count;
+  }
+
   /**
    * Finds the actor manager or errors out.
    *
@@ -350,5 +389,9 @@ public class ActorRuntime implements Closeable {
     if (channel != null && !channel.isShutdown()) {
       channel.shutdown();
     }
+
+    for (ActorManager<?> actorManager : this.actorManagers.values()) {
+      actorManager.getMethodScheduler().dispose();
+    }
   }
 }
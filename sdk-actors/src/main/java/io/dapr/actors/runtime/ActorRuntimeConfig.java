@@ -38,6 +38,8 @@ public class ActorRuntimeConfig {
 
   private volatile List<ActorTypeConfig> actorTypeConfigs = new CopyOnWriteArrayList<>();
 
+  private volatile ActorExecutionMode executionMode = ActorExecutionMode.CALLER_THREAD;
+
   /**
    * Instantiates a new config for the Actor Runtime.
    */
@@ -169,12 +171,39 @@ public class ActorRuntimeConfig {
   }
 
   /**
-   * Adds a actor type config to the list of actors type configs.
+   * Gets the threads that run blocking actor methods, timers and reminders.
+   *
+   * @return Execution mode for actors.
+   */
+  public ActorExecutionMode getExecutionMode() {
+    return executionMode;
+  }
+
+  /**
+   * Sets the threads that run actor methods not returning Mono, timers and reminders. Applies to actor types
+   * registered afterwards, unless their {@link ActorTypeConfig} sets one. This is handled by the SDK and not
+   * sent to Dapr.
+   *
+   * @param executionMode Execution mode for actors.
+   * @return This instance.
+   */
+  public ActorRuntimeConfig setExecutionMode(ActorExecutionMode executionMode) {
+    if (executionMode == null) {
+      throw new IllegalArgumentException("Execution mode is required.");
+    }
+
+    this.executionMode = executionMode;
+    return this;
+  }
+
+  /**
+   * Adds a actor type config to the list of actors type configs. It must name its actor type, and be added
+   * before that actor type is registered.
    * 
-   * @param actorTypeName Actor type that was registered.
+   * @param config Settings for the actor type.
    * @return This instance.
    */
-  ActorRuntimeConfig addActorTypeConfig(ActorTypeConfig config) {
+  public ActorRuntimeConfig addActorTypeConfig(ActorTypeConfig config) {
     if (config == null) {
       throw new IllegalArgumentException("Add actor type config failed.");
     }
@@ -183,6 +212,22 @@ public class ActorRuntimeConfig {
     return this;
   }
 
+  /**
+   * Gets the config for a given actor type.
+   *
+   * @param actorTypeName Actor type's name.
+   * @return Settings for the actor type, or null if it has none.
+   */
+  ActorTypeConfig getActorTypeConfig(String actorTypeName) {
+    for (ActorTypeConfig config : this.actorTypeConfigs) {
+      if (actorTypeName.equals(config.getActorTypeName())) {
+        return config;
+      }
+    }
+
+    return null;
+  }
+
   /**
    * Gets the list of registered actor types.
    *
@@ -58,6 +58,11 @@ public class ActorRuntimeContext<T extends AbstractActor> {
    */
   private final DaprStateAsyncProvider stateProvider;
 
+  /**
+   * Settings for the Actor's type, may be null.
+   */
+  private final ActorTypeConfig actorTypeConfig;
+
   /**
    * Instantiates a new runtime context for the Actor type.
    *
@@ -74,6 +79,27 @@ public class ActorRuntimeContext<T extends AbstractActor> {
                       ActorTypeInformation<T> actorTypeInformation,
                       DaprClient daprClient,
                       DaprStateAsyncProvider stateProvider) {
+    this(actorRuntime, objectSerializer, actorFactory, actorTypeInformation, daprClient, stateProvider, null);
+  }
+
+  /**
+   * Instantiates a new runtime context for the Actor type.
+   *
+   * @param actorRuntime         Runtime.
+   * @param objectSerializer     Serializer for transient objects.
+   * @param actorFactory         Factory for Actors.
+   * @param actorTypeInformation Information for Actor's type.
+   * @param daprClient           Client to communicate to Dapr.
+   * @param stateProvider        State provider for given Actor's type.
+   * @param actorTypeConfig      Settings for the Actor's type, or null if not configured.
+   */
+  ActorRuntimeContext(ActorRuntime actorRuntime,
+                      DaprObjectSerializer objectSerializer,
+                      ActorFactory<T> actorFactory,
+                      ActorTypeInformation<T> actorTypeInformation,
+                      DaprClient daprClient,
+                      DaprStateAsyncProvider stateProvider,
+                      ActorTypeConfig actorTypeConfig) {
     this.actorRuntime = actorRuntime;
     this.objectSerializer = objectSerializer;
     this.actorFactory = actorFactory;
@@ -81,6 +107,7 @@ public class ActorRuntimeContext<T extends AbstractActor> {
     this.actorTrace = new ActorTrace();
     this.daprClient = daprClient;
     this.stateProvider = stateProvider;
+    this.actorTypeConfig = actorTypeConfig;
   }
 
   /**
@@ -145,4 +172,13 @@ public class ActorRuntimeContext<T extends AbstractActor> {
   DaprStateAsyncProvider getStateProvider() {
     return stateProvider;
   }
+
+  /**
+   * Gets the settings for the Actor's type.
+   *
+   * @return Settings for the Actor's type, or null if not configured.
+   */
+  ActorTypeConfig getActorTypeConfig() {
+    return this.actorTypeConfig;
+  }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+/**
+ * How serialized actor state is stored in Dapr.
+ *
+ * <p>This only applies to state written as bytes, which is state from a custom state serializer or
+ * {@code byte[]} state with {@link io.dapr.serializer.DefaultObjectSerializer}. JSON state from
+ * {@link io.dapr.serializer.DefaultObjectSerializer} is always stored as-is.
+ */
+public enum ActorStateEncoding {
+
+  /**
+   * Bytes are stored as a base64 JSON string. This is the legacy format and remains the default.
+   */
+  JSON_BASE64,
+
+  /**
+   * Bytes are stored directly, avoiding the base64 overhead. Stored values are always read as raw bytes, so
+   * state written in {@link #JSON_BASE64} is not readable.
+   */
+  RAW,
+
+  /**
+   * Bytes are stored directly like {@link #RAW}, and state written in {@link #JSON_BASE64} is still readable,
+   * to migrate an actor type without migrating its state.
+   *
+   * <p>A stored value that is a JSON string holding valid base64 is decoded as legacy state. Raw values that
+   * happen to have that exact shape are therefore ambiguous, so only use this when the serialized state
+   * cannot take that form.
+   */
+  RAW_READING_LEGACY
+}
@@ -15,12 +15,16 @@ package io.dapr.actors.runtime;
 
 import io.dapr.actors.ActorId;
 import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -29,6 +33,11 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class ActorStateManager {
 
+  /**
+   * Placeholder for prefetched states that do not exist.
+   */
+  private static final byte[] EMPTY_STATE = new byte[0];
+
   /**
    * Provides states using a state store.
    */
@@ -49,6 +58,31 @@ public class ActorStateManager {
    */
   private final Map<String, StateChangeMetadata> stateChangeTracker;
 
+  /**
+   * Names of the states loaded when the Actor is activated.
+   */
+  private final List<String> prefetchStateNames;
+
+  /**
+   * Whether states known not to exist are remembered, instead of checked in the state store.
+   */
+  private final boolean stateExistenceTracked;
+
+  /**
+   * States known not to exist in the state store, if existence is tracked.
+   */
+  private final Set<String> absentStates;
+
+  /**
+   * Stored bytes of the prefetched states not changed since, kept across rollbacks.
+   */
+  private final Map<String, byte[]> prefetchedStates;
+
+  /**
+   * Whether set and remove record changes without checking the state store.
+   */
+  private final boolean blindWritesEnabled;
+
   /**
    * Instantiates a new state manager for the given Actor's instance.
    *
@@ -57,10 +91,29 @@ public class ActorStateManager {
    * @param actorId       Actor's identifier.
    */
   ActorStateManager(DaprStateAsyncProvider stateProvider, String actorTypeName, ActorId actorId) {
+    this(stateProvider, actorTypeName, actorId, null);
+  }
+
+  /**
+   * Instantiates a new state manager for the given Actor's instance.
+   *
+   * @param stateProvider   State store provider.
+   * @param actorTypeName   Name of Actor's type.
+   * @param actorId         Actor's identifier.
+   * @param actorTypeConfig Settings for the Actor's type, may be null.
+   */
+  ActorStateManager(
+      DaprStateAsyncProvider stateProvider, String actorTypeName, ActorId actorId, ActorTypeConfig actorTypeConfig) {
     this.stateProvider = stateProvider;
     this.actorTypeName = actorTypeName;
     this.actorId = actorId;
     this.stateChangeTracker = new ConcurrentHashMap<>();
+    this.prefetchStateNames = actorTypeConfig == null
+        ? Collections.emptyList() : actorTypeConfig.getPrefetchStateNames();
+    this.stateExistenceTracked = (actorTypeConfig != null) && actorTypeConfig.isStateExistenceTracked();
+    this.absentStates = ConcurrentHashMap.newKeySet();
+    this.prefetchedStates = new ConcurrentHashMap<>();
+    this.blindWritesEnabled = (actorTypeConfig != null) && actorTypeConfig.isBlindWritesEnabled();
   }
 
   /**
@@ -78,7 +131,10 @@ public class ActorStateManager {
       }
 
       return null;
-    }).then(this.stateProvider.contains(this.actorTypeName, this.actorId, stateName)
+    }).then(Mono.defer(() -> this.stateChangeTracker.containsKey(stateName)
+            // Cached states are resolved below, without checking the state store.
+            ? Mono.just(Boolean.TRUE)
+            : this.exists(stateName))
         .map(exists -> {
           if (this.stateChangeTracker.containsKey(stateName)) {
             StateChangeMetadata metadata = this.stateChangeTracker.get(stateName);
@@ -134,17 +190,28 @@ public class ActorStateManager {
           throw new NoSuchElementException("State is marked for removal: " + stateName);
         }
 
+        if (metadata.value instanceof PrefetchedState) {
+          return this.decodePrefetched(stateName, (PrefetchedState) metadata.value, type);
+        }
+
         return (T) metadata.value;
       }
 
+      if (this.stateExistenceTracked && this.absentStates.contains(stateName)) {
+        throw new NoSuchElementException("State not found: " + stateName);
+      }
+
       return (T) null;
-    }).switchIfEmpty(
+    }).switchIfEmpty(Mono.defer(() ->
         this.stateProvider.load(this.actorTypeName, this.actorId, stateName, type)
-            .switchIfEmpty(Mono.error(new NoSuchElementException("State not found: " + stateName)))
+            .switchIfEmpty(Mono.defer(() -> {
+              this.markAbsent(stateName);
+              return Mono.error(new NoSuchElementException("State not found: " + stateName));
+            }))
             .map(v -> {
               this.stateChangeTracker.put(stateName, new StateChangeMetadata(ActorStateChangeKind.NONE, v));
               return (T) v;
-            }));
+            })));
   }
 
   /**
@@ -175,7 +242,7 @@ public class ActorStateManager {
 
       return false;
     }).filter(x -> x)
-        .switchIfEmpty(this.stateProvider.contains(this.actorTypeName, this.actorId, stateName)
+        .switchIfEmpty(this.existsBeforeWrite(stateName)
             .map(exists -> {
               this.stateChangeTracker.put(stateName,
                   new StateChangeMetadata(exists ? ActorStateChangeKind.UPDATE : ActorStateChangeKind.ADD, value));
@@ -215,7 +282,7 @@ public class ActorStateManager {
       return false;
     })
         .filter(x -> x)
-        .switchIfEmpty(this.stateProvider.contains(this.actorTypeName, this.actorId, stateName))
+        .switchIfEmpty(this.existsBeforeWrite(stateName))
         .filter(exists -> exists)
         .map(exists -> {
           this.stateChangeTracker.put(stateName, new StateChangeMetadata(ActorStateChangeKind.REMOVE, null));
@@ -244,7 +311,33 @@ public class ActorStateManager {
       }
 
       return Boolean.TRUE;
-    }).switchIfEmpty(this.stateProvider.contains(this.actorTypeName, this.actorId, stateName));
+    }).switchIfEmpty(this.exists(stateName));
+  }
+
+  /**
+   * Loads the configured states into the cache, in parallel. Values are deserialized on first access.
+   *
+   * @return Asynchronous void result.
+   */
+  Mono<Void> prefetch() {
+    if (this.prefetchStateNames.isEmpty()) {
+      return Mono.empty();
+    }
+
+    return Flux.fromIterable(this.prefetchStateNames)
+        .flatMap(stateName -> this.stateProvider.loadRaw(this.actorTypeName, this.actorId, stateName)
+            .defaultIfEmpty(EMPTY_STATE)
+            .doOnNext(data -> {
+              if (data.length == 0) {
+                this.markAbsent(stateName);
+                return;
+              }
+
+              this.prefetchedStates.put(stateName, data);
+              this.stateChangeTracker.putIfAbsent(
+                  stateName, new StateChangeMetadata(ActorStateChangeKind.NONE, new PrefetchedState(data)));
+            }))
+        .then();
   }
 
   /**
@@ -277,6 +370,89 @@ public class ActorStateManager {
    */
   public void clear() {
     this.stateChangeTracker.clear();
+    this.absentStates.clear();
+    this.prefetchedStates.clear();
+  }
+
+  /**
+   * Discards the changes not yet saved to state store. Unlike {@link #clear()}, what is known from the state
+   * store is kept: prefetched states not changed since and, if existence is tracked, the absent states.
+   */
+  void rollback() {
+    this.stateChangeTracker.clear();
+    for (Map.Entry<String, byte[]> prefetched : this.prefetchedStates.entrySet()) {
+      this.stateChangeTracker.put(prefetched.getKey(),
+          new StateChangeMetadata(ActorStateChangeKind.NONE, new PrefetchedState(prefetched.getValue())));
+    }
+  }
+
+  /**
+   * Checks if a given state exists in the state store, unless it is already known not to.
+   *
+   * @param stateName State being checked.
+   * @return Asynchronous boolean result indicating whether state is present.
+   */
+  private Mono<Boolean> exists(String stateName) {
+    return Mono.defer(() -> {
+      if (this.stateExistenceTracked && this.absentStates.contains(stateName)) {
+        return Mono.just(Boolean.FALSE);
+      }
+
+      return this.stateProvider.contains(this.actorTypeName, this.actorId, stateName)
+          .doOnNext(exists -> {
+            if (!exists) {
+              this.markAbsent(stateName);
+            }
+          });
+    });
+  }
+
+  /**
+   * Checks if a given state exists before it is set or removed. With blind writes, it is assumed to exist:
+   * it is then saved as an upsert or a delete, which do not depend on the state being there.
+   *
+   * @param stateName State being written.
+   * @return Asynchronous boolean result indicating whether state is present.
+   */
+  private Mono<Boolean> existsBeforeWrite(String stateName) {
+    if (this.blindWritesEnabled) {
+      return Mono.just(Boolean.TRUE);
+    }
+
+    return this.exists(stateName);
+  }
+
+  /**
+   * Remembers that a given state does not exist in the state store, if existence is tracked.
+   *
+   * @param stateName State that does not exist.
+   */
+  private void markAbsent(String stateName) {
+    if (this.stateExistenceTracked) {
+      this.absentStates.add(stateName);
+    }
+  }
+
+  /**
+   * Deserializes a prefetched state and caches the result.
+   */
+  private <T> T decodePrefetched(String stateName, PrefetchedState prefetched, TypeRef<T> type) {
+    T value;
+    try {
+      value = this.stateProvider.decode(prefetched.data, type);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    if (value == null) {
+      this.stateChangeTracker.remove(stateName);
+      this.prefetchedStates.remove(stateName);
+      this.markAbsent(stateName);
+      throw new NoSuchElementException("State not found: " + stateName);
+    }
+
+    this.stateChangeTracker.put(stateName, new StateChangeMetadata(ActorStateChangeKind.NONE, value));
+    return value;
   }
 
   /**
@@ -285,9 +461,15 @@ public class ActorStateManager {
   private void flush() {
     for (Map.Entry<String, StateChangeMetadata> tuple : this.stateChangeTracker.entrySet()) {
       String stateName = tuple.getKey();
+      if (tuple.getValue().kind != ActorStateChangeKind.NONE) {
+        this.prefetchedStates.remove(stateName);
+      }
+
       if (tuple.getValue().kind == ActorStateChangeKind.REMOVE) {
         this.stateChangeTracker.remove(stateName);
+        this.markAbsent(stateName);
       } else {
+        this.absentStates.remove(stateName);
         StateChangeMetadata metadata = new StateChangeMetadata(ActorStateChangeKind.NONE, tuple.getValue().value);
         this.stateChangeTracker.put(stateName, metadata);
       }
@@ -320,4 +502,24 @@ public class ActorStateManager {
       this.value = value;
     }
   }
+
+  /**
+   * Internal class to hold a prefetched state until its type is known.
+   */
+  private static final class PrefetchedState {
+
+    /**
+     * Stored bytes.
+     */
+    private final byte[] data;
+
+    /**
+     * Creates a new instance of a prefetched state.
+     *
+     * @param data Stored bytes.
+     */
+    private PrefetchedState(byte[] data) {
+      this.data = data;
+    }
+  }
 }
@@ -34,6 +34,11 @@ final class ActorStateOperation {
    */
   private Object value;
 
+  /**
+   * Whether a byte[] value is stored as-is instead of as a base64 JSON string.
+   */
+  private boolean rawBytes;
+
   /**
    * Instantiates a new Actor Timer.
    *
@@ -44,9 +49,25 @@ final class ActorStateOperation {
   ActorStateOperation(String operationType,
                       String key,
                       Object value) {
+    this(operationType, key, value, false);
+  }
+
+  /**
+   * Instantiates a new state operation.
+   *
+   * @param operationType Type of state operation.
+   * @param key Key to be persisted.
+   * @param value Value to be persisted.
+   * @param rawBytes Whether a byte[] value is stored as-is instead of as a base64 JSON string.
+   */
+  ActorStateOperation(String operationType,
+                      String key,
+                      Object value,
+                      boolean rawBytes) {
     this.operationType = operationType;
     this.key = key;
     this.value = value;
+    this.rawBytes = rawBytes;
   }
 
   /**
@@ -75,4 +96,13 @@ final class ActorStateOperation {
   public Object getValue() {
     return value;
   }
+
+  /**
+   * Gets whether a byte[] value is stored as-is instead of as a base64 JSON string.
+   *
+   * @return True if the value is stored as raw bytes.
+   */
+  public boolean isRawBytes() {
+    return rawBytes;
+  }
 }
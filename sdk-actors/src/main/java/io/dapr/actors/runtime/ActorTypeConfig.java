@@ -14,6 +14,9 @@ limitations under the License.
 package io.dapr.actors.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Represents the configuration for the Actor Type.
@@ -32,10 +35,26 @@ public class ActorTypeConfig {
 
   private volatile Integer remindersStoragePartitions;
 
+  private volatile ActorStateEncoding stateEncoding = ActorStateEncoding.JSON_BASE64;
+
+  private volatile List<String> prefetchStateNames = Collections.emptyList();
+
+  private volatile boolean stateExistenceTracked;
+
+  private volatile boolean blindWritesEnabled;
+
+  private volatile ActorExecutionMode executionMode;
+
+  private volatile int maxResidentActors;
+
+  private volatile boolean mailboxEnabled;
+
+  private volatile int maxTurnsPerSave = 1;
+
   /**
-   * Instantiates a new config for the Actor Runtime.
+   * Instantiates a new config for the Actor Type.
    */
-  ActorTypeConfig() {
+  public ActorTypeConfig() {
   }
 
   /**
@@ -44,7 +63,7 @@ public class ActorTypeConfig {
    * @param actorTypeName Actor type that was registered.
    * @return This instance.
    */
-  ActorTypeConfig setActorTypeName(String actorTypeName) {
+  public ActorTypeConfig setActorTypeName(String actorTypeName) {
     if (actorTypeName == null) {
       throw new IllegalArgumentException("Registered actor must have a type name.");
     }
@@ -161,4 +180,205 @@ public class ActorTypeConfig {
     this.remindersStoragePartitions = remindersStoragePartitions;
     return this;
   }
+
+  /**
+   * Gets how this actor type's byte state is stored.
+   *
+   * @return State encoding.
+   */
+  public ActorStateEncoding getStateEncoding() {
+    return this.stateEncoding;
+  }
+
+  /**
+   * Sets how this actor type's byte state is stored. This is handled by the SDK and not sent to Dapr.
+   *
+   * @param stateEncoding State encoding.
+   * @return This instance.
+   */
+  public ActorTypeConfig setStateEncoding(ActorStateEncoding stateEncoding) {
+    if (stateEncoding == null) {
+      throw new IllegalArgumentException("State encoding is required.");
+    }
+
+    this.stateEncoding = stateEncoding;
+    return this;
+  }
+
+  /**
+   * Gets the names of the states loaded when an actor of this type is activated.
+   *
+   * @return Names of the states to prefetch.
+   */
+  public List<String> getPrefetchStateNames() {
+    return this.prefetchStateNames;
+  }
+
+  /**
+   * Sets the names of the states loaded, in parallel, when an actor of this type is activated.
+   * Prefetched states are then served from the actor's cache instead of one sidecar call each.
+   * This is handled by the SDK and not sent to Dapr.
+   *
+   * @param prefetchStateNames Names of the states to prefetch.
+   * @return This instance.
+   */
+  public ActorTypeConfig setPrefetchStateNames(String... prefetchStateNames) {
+    if (prefetchStateNames == null) {
+      throw new IllegalArgumentException("State names to prefetch are required.");
+    }
+
+    List<String> names = new ArrayList<>(prefetchStateNames.length);
+    for (String name : prefetchStateNames) {
+      if (name == null) {
+        throw new IllegalArgumentException("State's name cannot be null.");
+      }
+      names.add(name);
+    }
+
+    this.prefetchStateNames = Collections.unmodifiableList(names);
+    return this;
+  }
+
+  /**
+   * Gets whether actors of this type remember which states do not exist.
+   *
+   * @return Whether state existence is tracked.
+   */
+  public boolean isStateExistenceTracked() {
+    return this.stateExistenceTracked;
+  }
+
+  /**
+   * Sets whether actors of this type remember which states do not exist, so adding, setting or removing
+   * them does not check the state store first. Only enable this if the actor's state is not changed outside
+   * of the actor, for example by a TTL. This is handled by the SDK and not sent to Dapr.
+   *
+   * @param stateExistenceTracked Whether state existence is tracked.
+   * @return This instance.
+   */
+  public ActorTypeConfig setStateExistenceTracked(boolean stateExistenceTracked) {
+    this.stateExistenceTracked = stateExistenceTracked;
+    return this;
+  }
+
+  /**
+   * Gets whether actors of this type write state without checking if it exists first.
+   *
+   * @return Whether blind writes are enabled.
+   */
+  public boolean isBlindWritesEnabled() {
+    return this.blindWritesEnabled;
+  }
+
+  /**
+   * Sets whether actors of this type write state without checking if it exists first. Setting or removing a
+   * state that is not cached then costs no sidecar call, and is saved as an upsert or a delete. This is
+   * handled by the SDK and not sent to Dapr.
+   *
+   * @param blindWritesEnabled Whether blind writes are enabled.
+   * @return This instance.
+   */
+  public ActorTypeConfig setBlindWritesEnabled(boolean blindWritesEnabled) {
+    this.blindWritesEnabled = blindWritesEnabled;
+    return this;
+  }
+
+  /**
+   * Gets the threads that run blocking methods, timers and reminders of this actor type.
+   *
+   * @return Execution mode, or null to use the runtime's.
+   */
+  public ActorExecutionMode getExecutionMode() {
+    return this.executionMode;
+  }
+
+  /**
+   * Sets the threads that run methods not returning Mono, timers and reminders of this actor type.
+   * This is handled by the SDK and not sent to Dapr.
+   *
+   * @param executionMode Execution mode, or null to use the runtime's.
+   * @return This instance.
+   */
+  public ActorTypeConfig setExecutionMode(ActorExecutionMode executionMode) {
+    this.executionMode = executionMode;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of actors of this type kept in memory by the SDK.
+   *
+   * @return Maximum number of resident actors, 0 for no limit.
+   */
+  public int getMaxResidentActors() {
+    return this.maxResidentActors;
+  }
+
+  /**
+   * Sets the maximum number of actors of this type kept in memory by the SDK. Once exceeded, the least
+   * recently used actors without calls in progress are deactivated, without waiting for Dapr to deactivate
+   * them. They are activated again on their next call. This is handled by the SDK and not sent to Dapr.
+   *
+   * @param maxResidentActors Maximum number of resident actors, 0 for no limit.
+   * @return This instance.
+   */
+  public ActorTypeConfig setMaxResidentActors(int maxResidentActors) {
+    if (maxResidentActors < 0) {
+      throw new IllegalArgumentException("Maximum number of resident actors cannot be negative.");
+    }
+
+    this.maxResidentActors = maxResidentActors;
+    return this;
+  }
+
+  /**
+   * Checks if calls to actors of this type are queued in a per-actor mailbox.
+   *
+   * @return True if calls are queued in a mailbox.
+   */
+  public boolean isMailboxEnabled() {
+    return this.mailboxEnabled;
+  }
+
+  /**
+   * Sets whether calls to actors of this type are queued in a per-actor mailbox. Methods, timers and
+   * reminders then run one turn at a time, in arrival order, instead of failing when a call is already in
+   * progress, and no thread is blocked while they wait. Must not be combined with Dapr actor reentrancy,
+   * since a reentrant call would wait for the turn that made it. This is handled by the SDK and not sent
+   * to Dapr.
+   *
+   * @param mailboxEnabled True to queue calls in a mailbox.
+   * @return This instance.
+   */
+  public ActorTypeConfig setMailboxEnabled(boolean mailboxEnabled) {
+    this.mailboxEnabled = mailboxEnabled;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of consecutive mailbox turns whose state changes are saved together.
+   *
+   * @return Maximum number of turns per state save.
+   */
+  public int getMaxTurnsPerSave() {
+    return this.maxTurnsPerSave;
+  }
+
+  /**
+   * Sets the maximum number of consecutive mailbox turns whose state changes are saved in a single
+   * transaction. A turn only defers its save when another turn is already queued, and its caller is
+   * answered once the save is done. If a turn or the save fails, every turn in the batch fails, since none
+   * of their changes were saved. Only applies when the mailbox is enabled. This is handled by the SDK and
+   * not sent to Dapr.
+   *
+   * @param maxTurnsPerSave Maximum number of turns per state save, 1 to save after every turn.
+   * @return This instance.
+   */
+  public ActorTypeConfig setMaxTurnsPerSave(int maxTurnsPerSave) {
+    if (maxTurnsPerSave < 1) {
+      throw new IllegalArgumentException("Maximum number of turns per save must be at least 1.");
+    }
+
+    this.maxTurnsPerSave = maxTurnsPerSave;
+    return this;
+  }
 }
@@ -17,6 +17,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
+import com.google.protobuf.UnsafeByteOperations;
 import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprException;
 import io.dapr.utils.DurationUtils;
@@ -109,6 +110,10 @@ class DaprClientImpl implements DaprClient {
       if (value != null) {
         if (value instanceof String) {
           opBuilder.setValue(Any.newBuilder().setValue(ByteString.copyFrom((String) value, CHARSET)));
+        } else if ((value instanceof byte[]) && op.isRawBytes()) {
+          // Raw bytes are owned by the request: DaprStateAsyncProvider hands over either a freshly serialized
+          // buffer or a private copy of a passthrough byte[], so it can back the ByteString without a copy.
+          opBuilder.setValue(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap((byte[]) value)));
         } else if (value instanceof byte[]) {
           try {
             String base64 = OBJECT_MAPPER.writeValueAsString(value);
@@ -55,6 +55,11 @@ class DaprStateAsyncProvider {
    */
   private final boolean isStateSerializerDefault;
 
+  /**
+   * How byte state is stored.
+   */
+  private final ActorStateEncoding stateEncoding;
+
   /**
    * Instantiates a new Actor's state provider.
    *
@@ -62,39 +67,115 @@ class DaprStateAsyncProvider {
    * @param stateSerializer Serializer for state objects.
    */
   DaprStateAsyncProvider(DaprClient daprClient, DaprObjectSerializer stateSerializer) {
+    this(daprClient, stateSerializer, ActorStateEncoding.JSON_BASE64);
+  }
+
+  /**
+   * Instantiates a new Actor's state provider.
+   *
+   * @param daprClient      Dapr client for Actor runtime.
+   * @param stateSerializer Serializer for state objects.
+   * @param stateEncoding   How byte state is stored.
+   */
+  DaprStateAsyncProvider(
+      DaprClient daprClient, DaprObjectSerializer stateSerializer, ActorStateEncoding stateEncoding) {
     this.daprClient = daprClient;
     this.stateSerializer = stateSerializer;
     this.isStateSerializerDefault = stateSerializer.getClass() == DefaultObjectSerializer.class;
+    this.stateEncoding = stateEncoding;
   }
 
   <T> Mono<T> load(String actorType, ActorId actorId, String stateName, TypeRef<T> type) {
-    Mono<byte[]> result = this.daprClient.getState(actorType, actorId.toString(), stateName);
+    Mono<byte[]> result = this.loadRaw(actorType, actorId, stateName);
 
     return result.flatMap(s -> {
       try {
-        if (s == null) {
-          return Mono.empty();
-        }
-
-        T response = this.stateSerializer.deserialize(s, type);
-        if (this.isStateSerializerDefault && (response instanceof byte[])) {
-          if (s.length == 0) {
-            return Mono.empty();
-          }
-          // Default serializer just passes through byte arrays, so we need to decode it here.
-          response = (T) OBJECT_MAPPER.readValue(s, byte[].class);
-        }
-        if (response == null) {
-          return Mono.empty();
-        }
-
-        return Mono.just(response);
+        return Mono.justOrEmpty(this.decode(s, type));
       } catch (IOException e) {
         return Mono.error(new RuntimeException(e));
       }
     });
   }
 
+  /**
+   * Loads the stored bytes of a state, without deserializing them.
+   *
+   * @param actorType Name of the actor's type.
+   * @param actorId   Identifier of the actor.
+   * @param stateName Name of the state.
+   * @return Stored bytes, empty if the state does not exist.
+   */
+  Mono<byte[]> loadRaw(String actorType, ActorId actorId, String stateName) {
+    return this.daprClient.getState(actorType, actorId.toString(), stateName);
+  }
+
+  /**
+   * Deserializes bytes returned by {@link #loadRaw(String, ActorId, String)}.
+   *
+   * @param s    Stored bytes.
+   * @param type Type of the state.
+   * @param <T>  Type of the state.
+   * @return Deserialized state, or null if there is none.
+   * @throws IOException If the state cannot be deserialized.
+   */
+  <T> T decode(byte[] s, TypeRef<T> type) throws IOException {
+    if (s == null) {
+      return null;
+    }
+
+    T response = this.deserialize(s, type);
+    if (this.isStateSerializerDefault && (response instanceof byte[])) {
+      if (s.length == 0) {
+        return null;
+      }
+      if (this.stateEncoding != ActorStateEncoding.RAW) {
+        // Default serializer just passes through byte arrays, so we need to decode it here. Raw bytes are
+        // accepted too, so actor types can switch back from a raw encoding.
+        byte[] legacy = decodeLegacyBytes(s);
+        response = (T) (legacy != null ? legacy : s);
+      }
+    }
+
+    return response;
+  }
+
+  /**
+   * Deserializes state, falling back to the legacy encoding for custom serializers if it was opted into.
+   */
+  private <T> T deserialize(byte[] s, TypeRef<T> type) throws IOException {
+    if (this.isStateSerializerDefault || (this.stateEncoding != ActorStateEncoding.RAW_READING_LEGACY)) {
+      return this.stateSerializer.deserialize(s, type);
+    }
+
+    try {
+      return this.stateSerializer.deserialize(s, type);
+    } catch (IOException | RuntimeException e) {
+      byte[] legacy = decodeLegacyBytes(s);
+      if (legacy == null) {
+        throw e;
+      }
+      return this.stateSerializer.deserialize(legacy, type);
+    }
+  }
+
+  /**
+   * Decodes bytes stored as a base64 JSON string.
+   *
+   * @param s Stored state.
+   * @return Decoded bytes, or null if the state is not a JSON string holding valid base64.
+   */
+  private static byte[] decodeLegacyBytes(byte[] s) {
+    if ((s.length < 2) || (s[0] != '"') || (s[s.length - 1] != '"')) {
+      return null;
+    }
+
+    try {
+      return OBJECT_MAPPER.readValue(s, byte[].class);
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
   Mono<Boolean> contains(String actorType, ActorId actorId, String stateName) {
     Mono<byte[]> result = this.daprClient.getState(actorType, actorId.toString(), stateName);
     return result.map(s -> s.length > 0).defaultIfEmpty(false);
@@ -141,6 +222,7 @@ class DaprStateAsyncProvider {
 
       String key = stateChange.getStateName();
       Object value = null;
+      boolean rawBytes = false;
       if ((stateChange.getChangeKind() == ActorStateChangeKind.UPDATE)
           || (stateChange.getChangeKind() == ActorStateChangeKind.ADD)) {
         try {
@@ -152,7 +234,10 @@ class DaprStateAsyncProvider {
             } else {
               // Custom serializer uses byte[].
               // DefaultObjectSerializer is just a passthrough for byte[], so we handle it here too.
-              value = data;
+              // The passthrough returns the caller's own array, which is copied so that the outgoing
+              // request does not alias state the actor may still mutate.
+              value = this.isStateSerializerDefault ? data.clone() : data;
+              rawBytes = this.stateEncoding != ActorStateEncoding.JSON_BASE64;
             }
           }
         } catch (IOException e) {
@@ -160,7 +245,7 @@ class DaprStateAsyncProvider {
         }
       }
 
-      operations.add(new ActorStateOperation(operationName, key, value));
+      operations.add(new ActorStateOperation(operationName, key, value, rawBytes));
     }
 
     return this.daprClient.saveStateTransactionally(actorType, actorId.toString(), operations);
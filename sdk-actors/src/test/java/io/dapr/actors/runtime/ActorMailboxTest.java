@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ActorMailboxTest {
+
+  @Test
+  public void turnsRunInSubmissionOrder() {
+    ActorMailbox mailbox = new ActorMailbox();
+    Sinks.Empty<Void> gate = Sinks.empty();
+    List<Integer> order = new CopyOnWriteArrayList<>();
+
+    Mono<Integer> first = mailbox.submit(() -> gate.asMono().then(Mono.fromSupplier(() -> {
+      order.add(1);
+      return 1;
+    })));
+    Mono<Integer> second = mailbox.submit(() -> Mono.fromSupplier(() -> {
+      order.add(2);
+      return 2;
+    }));
+    Mono<Void> calls = Mono.when(first, second).cache();
+    calls.subscribe();
+
+    Assertions.assertTrue(order.isEmpty());
+    Assertions.assertTrue(mailbox.hasQueuedTurns());
+    gate.tryEmitEmpty();
+    calls.block();
+
+    Assertions.assertEquals(List.of(1, 2), order);
+    Assertions.assertFalse(mailbox.hasQueuedTurns());
+  }
+
+  @Test
+  public void turnsNeverOverlap() {
+    ActorMailbox mailbox = new ActorMailbox();
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger overlaps = new AtomicInteger();
+
+    Flux.range(0, 200)
+        .flatMap(i -> mailbox.submit(() -> Mono.fromRunnable(() -> {
+          if (running.incrementAndGet() > 1) {
+            overlaps.incrementAndGet();
+          }
+        }).then(Mono.delay(Duration.ofMillis(1))).doOnTerminate(running::decrementAndGet))
+            .subscribeOn(Schedulers.parallel()), 200)
+        .blockLast(Duration.ofSeconds(30));
+
+    Assertions.assertEquals(0, overlaps.get());
+  }
+
+  @Test
+  public void failedTurnDoesNotStopMailbox() {
+    ActorMailbox mailbox = new ActorMailbox();
+
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> mailbox.submit(() -> Mono.error(new IllegalStateException())).block());
+    Assertions.assertEquals("ok", mailbox.submit(() -> Mono.just("ok")).block());
+  }
+}
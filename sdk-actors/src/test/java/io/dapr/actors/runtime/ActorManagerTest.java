@@ -20,14 +20,20 @@ import io.dapr.utils.TypeRef;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -140,6 +146,130 @@ public class ActorManagerTest {
       this.context.getObjectSerializer().deserialize(response, TypeRef.STRING));
   }
 
+  @Test
+  public void blockingCallsRunOnExecutionModeScheduler() throws Exception {
+    ActorMethodScheduler scheduler = ActorMethodScheduler.create(ActorExecutionMode.BOUNDED_ELASTIC, "MyActor");
+    ActorManager<MyActorImpl> manager = new ActorManager<>(this.context, scheduler);
+    ActorId actorId = newActorId();
+    byte[] message = this.context.getObjectSerializer().serialize("something");
+    manager.activateActor(actorId).block();
+
+    byte[] response = manager.invokeMethod(actorId, "say", message).block();
+    manager.invokeTimer(actorId, "count", createTimerParams("incrementCount", 2)).block();
+    manager.invokeReminder(actorId, "myremind", createReminderParams("hello")).block();
+
+    Assertions.assertEquals(executeSayMethod("something"),
+      this.context.getObjectSerializer().deserialize(response, TypeRef.STRING));
+    Assertions.assertEquals(3, scheduler.getCallCount());
+    Assertions.assertEquals(0, scheduler.getActiveCalls());
+  }
+
+  @Test
+  public void concurrentActivationsCreateOneActor() {
+    AtomicInteger created = new AtomicInteger();
+    ActorRuntimeContext<MyActorImpl> context = createContext(MyActorImpl.class, (c, id) -> {
+      created.incrementAndGet();
+      return new MyActorImpl(c, id);
+    }, null);
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+    ActorId actorId = newActorId();
+
+    Mono.when(manager.activateActor(actorId), manager.activateActor(actorId)).block();
+    manager.activateActor(actorId).block();
+
+    Assertions.assertEquals(1, created.get());
+    Assertions.assertEquals(1, manager.getActiveActorCount());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedIdleActor() throws Exception {
+    ActorRuntimeContext<MyActorImpl> context = createContext(MyActorImpl.class, new DefaultActorFactory<>(),
+        new ActorTypeConfig().setMaxResidentActors(2));
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+    ActorId first = newActorId();
+    ActorId second = newActorId();
+    ActorId third = newActorId();
+    byte[] message = context.getObjectSerializer().serialize("something");
+
+    manager.activateActor(first).block();
+    manager.activateActor(second).block();
+    manager.invokeMethod(first, "say", message).block();
+    manager.activateActor(third).block();
+
+    Assertions.assertEquals(2, manager.getActiveActorCount());
+    Assertions.assertEquals(1, manager.getEvictionCount());
+    Assertions.assertNotNull(manager.invokeMethod(first, "say", message).block());
+    assertThrows(IllegalArgumentException.class, () -> manager.invokeMethod(second, "say", message).block());
+
+    manager.activateActor(second).block();
+    Assertions.assertNotNull(manager.invokeMethod(second, "say", message).block());
+  }
+
+  @Test
+  public void callEvictedBeforeSubscriptionIsRefused() throws Exception {
+    ActorRuntimeContext<MyActorImpl> context = createContext(MyActorImpl.class, new DefaultActorFactory<>(),
+        new ActorTypeConfig().setMaxResidentActors(1));
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+    ActorId first = newActorId();
+    byte[] message = context.getObjectSerializer().serialize("something");
+
+    manager.activateActor(first).block();
+    Mono<byte[]> call = manager.invokeMethod(first, "say", message);
+    manager.activateActor(newActorId()).block();
+
+    Assertions.assertEquals(1, manager.getEvictionCount());
+    assertThrows(IllegalArgumentException.class, call::block);
+  }
+
+  @Test
+  public void mailboxQueuesCallsDuringTurn() throws Exception {
+    Sinks.Empty<Void> gate = Sinks.empty();
+    AtomicInteger saves = new AtomicInteger();
+    ActorManager<MyActorImpl> manager = new ActorManager<>(createGatedContext(
+        new ActorTypeConfig().setMailboxEnabled(true), gate, saves));
+    ActorId actorId = newActorId();
+    byte[] delta = this.context.getObjectSerializer().serialize(1);
+    manager.activateActor(actorId).block();
+    saves.set(0);
+
+    CompletableFuture<Void> calls = Mono.when(
+        manager.invokeMethod(actorId, "incrementCount", delta),
+        manager.invokeMethod(actorId, "incrementCount", delta),
+        manager.invokeMethod(actorId, "incrementCount", delta)).toFuture();
+    Assertions.assertFalse(calls.isDone());
+
+    gate.tryEmitEmpty();
+    calls.get();
+
+    byte[] count = manager.invokeMethod(actorId, "getCount", null).block();
+    Assertions.assertEquals(3, this.context.getObjectSerializer().deserialize(count, TypeRef.INT));
+    Assertions.assertEquals(4, saves.get());
+  }
+
+  @Test
+  public void mailboxSavesQueuedTurnsTogether() throws Exception {
+    Sinks.Empty<Void> gate = Sinks.empty();
+    AtomicInteger saves = new AtomicInteger();
+    ActorManager<MyActorImpl> manager = new ActorManager<>(createGatedContext(
+        new ActorTypeConfig().setMailboxEnabled(true).setMaxTurnsPerSave(10), gate, saves));
+    ActorId actorId = newActorId();
+    byte[] delta = this.context.getObjectSerializer().serialize(1);
+    manager.activateActor(actorId).block();
+    saves.set(0);
+
+    CompletableFuture<Void> calls = Mono.when(
+        manager.invokeMethod(actorId, "incrementCount", delta),
+        manager.invokeMethod(actorId, "incrementCount", delta),
+        manager.invokeMethod(actorId, "incrementCount", delta)).toFuture();
+    gate.tryEmitEmpty();
+    calls.get();
+
+    Assertions.assertEquals(1, saves.get());
+    assertThrows(RuntimeException.class, () -> Mono.when(
+        manager.invokeMethod(actorId, "incrementCount", delta),
+        manager.invokeMethod(actorId, "throwsException", null)).block());
+  }
+
   @Test
   public void activateThenInvokeWithActorImplException() throws Exception {
     ActorId actorId = newActorId();
@@ -279,6 +409,42 @@ public class ActorManagerTest {
     assertThrows(IllegalArgumentException.class, () -> this.manager.invokeTimer(actorId, "count", createTimerParams("incrementCount", 2)).block());
   }
 
+  @Test
+  public void prefetchedStatesAreKeptAcrossTurns() throws Exception {
+    DaprClient daprClient = mock(DaprClient.class);
+    when(daprClient.registerTimer(any(), any(), any(), any())).thenReturn(Mono.empty());
+    when(daprClient.getState(any(), any(), eq("name"))).thenReturn(Mono.just("\"Jon Doe\"".getBytes()));
+    when(daprClient.getState(any(), any(), eq("missing"))).thenReturn(Mono.just(new byte[0]));
+    ActorRuntimeContext<MyActorImpl> context = new ActorRuntimeContext<>(
+        mock(ActorRuntime.class),
+        new DefaultObjectSerializer(),
+        (c, id) -> new MyActorImpl(c, id) {
+          @Override
+          public String say(String something) {
+            ActorStateManager stateManager = super.getActorStateManager();
+            return stateManager.get("name", String.class)
+                .filterWhen(name -> stateManager.contains("missing").map(exists -> !exists))
+                .block();
+          }
+        },
+        ActorTypeInformation.create(MyActorImpl.class),
+        daprClient,
+        new DaprStateAsyncProvider(daprClient, new DefaultObjectSerializer()),
+        new ActorTypeConfig().setPrefetchStateNames("name", "missing").setStateExistenceTracked(true));
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+    ActorId actorId = newActorId();
+    byte[] message = context.getObjectSerializer().serialize("something");
+
+    manager.activateActor(actorId).block();
+    byte[] first = manager.invokeMethod(actorId, "say", message).block();
+    byte[] second = manager.invokeMethod(actorId, "say", message).block();
+
+    Assertions.assertEquals("Jon Doe", context.getObjectSerializer().deserialize(first, TypeRef.STRING));
+    Assertions.assertEquals("Jon Doe", context.getObjectSerializer().deserialize(second, TypeRef.STRING));
+    verify(daprClient, times(1)).getState(any(), any(), eq("name"));
+    verify(daprClient, times(1)).getState(any(), any(), eq("missing"));
+  }
+
   private byte[] createReminderParams(String data) throws IOException {
     byte[] serializedData = this.context.getObjectSerializer().serialize(data);
     ActorReminderParams p = new ActorReminderParams(serializedData, Duration.ofSeconds(1), Duration.ofSeconds(1));
@@ -299,7 +465,29 @@ public class ActorManagerTest {
     return "Said: " + (something == null ? "" : something);
   }
 
+  private static ActorRuntimeContext createGatedContext(
+      ActorTypeConfig actorTypeConfig, Sinks.Empty<Void> gate, AtomicInteger saves) {
+    AtomicBoolean gated = new AtomicBoolean(true);
+    return createContext(MyActorImpl.class, (c, id) -> new MyActorImpl(c, id) {
+      @Override
+      protected Mono<Void> onPreActorMethod(ActorMethodContext actorMethodContext) {
+        // Holds the first call in its turn until the gate opens.
+        return gated.getAndSet(false) ? gate.asMono() : Mono.empty();
+      }
+
+      @Override
+      protected Mono<Void> saveState() {
+        return Mono.fromRunnable(saves::incrementAndGet).then(super.saveState());
+      }
+    }, actorTypeConfig);
+  }
+
   private static <T extends AbstractActor> ActorRuntimeContext createContext(Class<T> clazz) {
+    return createContext(clazz, new DefaultActorFactory<T>(), null);
+  }
+
+  private static <T extends AbstractActor> ActorRuntimeContext createContext(
+      Class<T> clazz, ActorFactory<T> actorFactory, ActorTypeConfig actorTypeConfig) {
     DaprClient daprClient = mock(DaprClient.class);
 
     when(daprClient.registerTimer(any(), any(), any(), any())).thenReturn(Mono.empty());
@@ -310,10 +498,11 @@ public class ActorManagerTest {
     return new ActorRuntimeContext(
       mock(ActorRuntime.class),
       new DefaultObjectSerializer(),
-      new DefaultActorFactory<T>(),
+      actorFactory,
       ActorTypeInformation.create(clazz),
       daprClient,
-      mock(DaprStateAsyncProvider.class)
+      mock(DaprStateAsyncProvider.class),
+      actorTypeConfig
     );
   }
 }
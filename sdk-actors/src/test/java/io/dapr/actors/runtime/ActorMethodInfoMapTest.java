@@ -15,7 +15,9 @@ package io.dapr.actors.runtime;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
@@ -55,10 +57,81 @@ public class ActorMethodInfoMapTest {
     m.get("thisMethodDoesNotExist"));
   }
 
+  @Test
+  public void invokersCallActorMethods() throws Exception {
+    ArrayList<Class<?>> interfaceTypes = new ArrayList<>();
+    interfaceTypes.add(TestActor.class);
+    ActorMethodInfoMap m = new ActorMethodInfoMap(interfaceTypes);
+    TestActorImpl actor = new TestActorImpl();
+
+    ActorMethodInvoker getData = m.getInvoker("getData");
+    Assertions.assertEquals(String.class, getData.getInputType().getType());
+    Assertions.assertFalse(getData.returnsMono());
+    Assertions.assertEquals("data:key", getData.invoke(actor, "key"));
+
+    ActorMethodInvoker increment = m.getInvoker("increment");
+    Assertions.assertNull(increment.invoke(actor, 2));
+    Assertions.assertNull(m.getInvoker("getCount").getInputType());
+    Assertions.assertEquals(2, m.getInvoker("getCount").invoke(actor, null));
+    Assertions.assertTrue(m.getInvoker("getMono").returnsMono());
+  }
+
+  @Test
+  public void invokerWrapsActorExceptions() throws Exception {
+    ArrayList<Class<?>> interfaceTypes = new ArrayList<>();
+    interfaceTypes.add(TestActor.class);
+    ActorMethodInfoMap m = new ActorMethodInfoMap(interfaceTypes);
+
+    InvocationTargetException e = assertThrows(InvocationTargetException.class, () ->
+        m.getInvoker("fail").invoke(new TestActorImpl(), null));
+    Assertions.assertTrue(e.getCause() instanceof IllegalStateException);
+  }
+
   /**
    * Only used for this test.
    */
   public interface TestActor {
     String getData(String key);
+
+    void increment(int delta);
+
+    int getCount();
+
+    Mono<String> getMono();
+
+    void fail();
+  }
+
+  /**
+   * Only used for this test.
+   */
+  public static class TestActorImpl implements TestActor {
+
+    private int count;
+
+    @Override
+    public String getData(String key) {
+      return "data:" + key;
+    }
+
+    @Override
+    public void increment(int delta) {
+      this.count += delta;
+    }
+
+    @Override
+    public int getCount() {
+      return this.count;
+    }
+
+    @Override
+    public Mono<String> getMono() {
+      return Mono.just("mono");
+    }
+
+    @Override
+    public void fail() {
+      throw new IllegalStateException();
+    }
   }
 }
@@ -189,6 +189,24 @@ public class ActorRuntimeTest {
     );
   }
 
+  @Test
+  public void registerActorWithTypeConfig() throws Exception {
+    ActorTypeConfig actorTypeConfig = new ActorTypeConfig()
+        .setActorTypeName("MyGreatActor")
+        .setActorIdleTimeout(Duration.ofSeconds(123))
+        .setStateEncoding(ActorStateEncoding.RAW);
+    this.runtime.getConfig().addActorTypeConfig(actorTypeConfig);
+    this.runtime.registerActor(MyActorImpl.class);
+    this.runtime.registerActor(MyActorImpl.class);
+
+    // State encoding is handled by the SDK, so it is not part of the config sent to Dapr.
+    Assertions.assertEquals(
+        "{\"entities\":[\"MyGreatActor\"],\"entitiesConfig\":[{\"entities\":[\"MyGreatActor\"],"
+            + "\"actorIdleTimeout\":\"0h2m3s0ms\"}]}",
+        new String(this.runtime.serializeConfig()));
+    Assertions.assertSame(actorTypeConfig, this.runtime.getConfig().getActorTypeConfig("MyGreatActor"));
+  }
+
   @Test
   public void addNullActorTypeConfig() throws Exception {
     try {
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorId;
+import io.dapr.serializer.DefaultObjectSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ActorStateManagerTest {
+
+  private static final String ACTOR_TYPE = "MyActor";
+
+  private static final ActorId ACTOR_ID = new ActorId("123");
+
+  private DaprClient daprClient;
+
+  private DaprStateAsyncProvider stateProvider;
+
+  @BeforeEach
+  public void setup() {
+    this.daprClient = mock(DaprClient.class);
+    this.stateProvider = new DaprStateAsyncProvider(this.daprClient, new DefaultObjectSerializer());
+    when(this.daprClient.getState(any(), any(), eq("name"))).thenReturn(Mono.just("\"Jon Doe\"".getBytes()));
+    when(this.daprClient.getState(any(), any(), eq("missing"))).thenReturn(Mono.just(new byte[0]));
+  }
+
+  @Test
+  public void prefetchServesStatesFromCache() {
+    ActorStateManager manager = newManager(new ActorTypeConfig().setPrefetchStateNames("name", "missing"));
+
+    manager.prefetch().block();
+
+    Assertions.assertEquals("Jon Doe", manager.get("name", String.class).block());
+    Assertions.assertEquals("Jon Doe", manager.get("name", String.class).block());
+    Assertions.assertTrue(manager.contains("name").block());
+    verify(this.daprClient, times(1)).getState(ACTOR_TYPE, ACTOR_ID.toString(), "name");
+  }
+
+  @Test
+  public void rollbackKeepsPrefetchedStates() {
+    ActorStateManager manager = newManager(new ActorTypeConfig()
+        .setPrefetchStateNames("name", "missing")
+        .setStateExistenceTracked(true));
+
+    manager.prefetch().block();
+    Assertions.assertEquals("Jon Doe", manager.get("name", String.class).block());
+    manager.add("missing", "value").block();
+    manager.rollback();
+
+    Assertions.assertEquals("Jon Doe", manager.get("name", String.class).block());
+    Assertions.assertFalse(manager.contains("missing").block());
+    verify(this.daprClient, times(1)).getState(ACTOR_TYPE, ACTOR_ID.toString(), "name");
+    verify(this.daprClient, times(1)).getState(ACTOR_TYPE, ACTOR_ID.toString(), "missing");
+  }
+
+  @Test
+  public void prefetchedStatesAreNotSaved() {
+    ActorStateManager manager = newManager(new ActorTypeConfig().setPrefetchStateNames("name"));
+
+    manager.prefetch().block();
+    manager.save().block();
+
+    verify(this.daprClient, times(0)).saveStateTransactionally(any(), any(), any());
+  }
+
+  @Test
+  public void withoutPrefetchNothingIsLoaded() {
+    ActorStateManager manager = newManager(null);
+
+    manager.prefetch().block();
+
+    verify(this.daprClient, times(0)).getState(any(), any(), any());
+  }
+
+  @Test
+  public void trackedExistenceSkipsStateStore() {
+    ActorStateManager manager = newManager(new ActorTypeConfig()
+        .setPrefetchStateNames("missing")
+        .setStateExistenceTracked(true));
+
+    manager.prefetch().block();
+
+    Assertions.assertFalse(manager.contains("missing").block());
+    assertThrows(NoSuchElementException.class, () -> manager.get("missing", String.class).block());
+    manager.remove("missing").block();
+    manager.add("missing", "value").block();
+    Assertions.assertEquals("value", manager.get("missing", String.class).block());
+    verify(this.daprClient, times(1)).getState(ACTOR_TYPE, ACTOR_ID.toString(), "missing");
+  }
+
+  @Test
+  public void untrackedExistenceChecksStateStore() {
+    ActorStateManager manager = newManager(new ActorTypeConfig().setPrefetchStateNames("missing"));
+
+    manager.prefetch().block();
+    manager.add("missing", "value").block();
+
+    verify(this.daprClient, times(2)).getState(ACTOR_TYPE, ACTOR_ID.toString(), "missing");
+  }
+
+  @Test
+  public void addCachedStateSkipsStateStore() {
+    ActorStateManager manager = newManager(null);
+
+    manager.get("name", String.class).block();
+    manager.remove("name").block();
+    manager.add("name", "value").block();
+
+    verify(this.daprClient, times(1)).getState(ACTOR_TYPE, ACTOR_ID.toString(), "name");
+  }
+
+  @Test
+  public void blindWritesSkipStateStore() {
+    when(this.daprClient.saveStateTransactionally(any(), any(), any())).thenReturn(Mono.empty());
+    ActorStateManager manager = newManager(new ActorTypeConfig().setBlindWritesEnabled(true));
+
+    manager.set("name", "Jane Doe").block();
+    manager.remove("missing").block();
+    manager.save().block();
+
+    verify(this.daprClient, times(0)).getState(any(), any(), any());
+    verify(this.daprClient).saveStateTransactionally(eq(ACTOR_TYPE), eq(ACTOR_ID.toString()), argThat(operations -> {
+      if (operations.size() != 2) {
+        return false;
+      }
+
+      boolean foundUpsert = false;
+      boolean foundDelete = false;
+      for (ActorStateOperation operation : operations) {
+        foundUpsert |= "upsert".equals(operation.getOperationType()) && "name".equals(operation.getKey());
+        foundDelete |= "delete".equals(operation.getOperationType()) && "missing".equals(operation.getKey());
+      }
+
+      return foundUpsert && foundDelete;
+    }));
+  }
+
+  private ActorStateManager newManager(ActorTypeConfig config) {
+    return new ActorStateManager(this.stateProvider, ACTOR_TYPE, ACTOR_ID, config);
+  }
+}
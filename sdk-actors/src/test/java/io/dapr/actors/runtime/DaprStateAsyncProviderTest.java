@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -209,6 +210,98 @@ public class DaprStateAsyncProviderTest {
         provider.load("MyActor", new ActorId("123"), "emptyBytes", TypeRef.get(byte[].class)).block());
   }
 
+  @Test
+  public void rawEncodingApply() {
+    DaprClient daprClient = mock(DaprClient.class);
+    when(daprClient
+        .saveStateTransactionally(
+            eq("MyActor"),
+            eq("123"),
+            argThat(operations -> {
+              if ((operations == null) || (operations.size() != 2)) {
+                return false;
+              }
+
+              boolean foundJson = false;
+              boolean foundBytes = false;
+              for (ActorStateOperation operation : operations) {
+                foundJson |= "name".equals(operation.getKey()) &&
+                    "\"Jon Doe\"".equals(operation.getValue()) &&
+                    !operation.isRawBytes();
+                foundBytes |= "bytes".equals(operation.getKey()) &&
+                    Arrays.equals(new byte[]{0x1}, (byte[]) operation.getValue()) &&
+                    operation.isRawBytes();
+              }
+
+              return foundJson && foundBytes;
+            })))
+        .thenReturn(Mono.empty());
+
+    DaprStateAsyncProvider provider = new DaprStateAsyncProvider(daprClient, SERIALIZER, ActorStateEncoding.RAW);
+    provider.apply("MyActor",
+        new ActorId("123"),
+        createInsertChange("name", "Jon Doe"),
+        createUpdateChange("bytes", new byte[]{0x1}))
+        .block();
+
+    verify(daprClient).saveStateTransactionally(eq("MyActor"), eq("123"), any());
+  }
+
+  @Test
+  public void loadAcceptsRawAndLegacyBytes() {
+    DaprClient daprClient = mock(DaprClient.class);
+    when(daprClient
+        .getState(any(), any(), eq("legacy")))
+        .thenReturn(Mono.just("\"QQ==\"".getBytes()));
+    when(daprClient
+        .getState(any(), any(), eq("raw")))
+        .thenReturn(Mono.just(new byte[]{0x1, 0x2}));
+
+    for (ActorStateEncoding encoding
+        : List.of(ActorStateEncoding.JSON_BASE64, ActorStateEncoding.RAW_READING_LEGACY)) {
+      DaprStateAsyncProvider provider = new DaprStateAsyncProvider(daprClient, SERIALIZER, encoding);
+
+      Assertions.assertArrayEquals("A".getBytes(),
+          provider.load("MyActor", new ActorId("123"), "legacy", TypeRef.get(byte[].class)).block());
+      Assertions.assertArrayEquals(new byte[]{0x1, 0x2},
+          provider.load("MyActor", new ActorId("123"), "raw", TypeRef.get(byte[].class)).block());
+    }
+  }
+
+  @Test
+  public void rawEncodingLoadKeepsQuotedBytes() {
+    DaprClient daprClient = mock(DaprClient.class);
+    when(daprClient
+        .getState(any(), any(), eq("quoted")))
+        .thenReturn(Mono.just("\"abcd\"".getBytes()));
+
+    DaprStateAsyncProvider provider = new DaprStateAsyncProvider(daprClient, SERIALIZER, ActorStateEncoding.RAW);
+
+    Assertions.assertArrayEquals("\"abcd\"".getBytes(),
+        provider.load("MyActor", new ActorId("123"), "quoted", TypeRef.get(byte[].class)).block());
+  }
+
+  @Test
+  public void rawReadingLegacyEncodingLoadAcceptsLegacyCustomState() throws Exception {
+    DaprObjectSerializer serializer = new JavaSerializer();
+    byte[] serialized = serializer.serialize("Jon Doe");
+    DaprClient daprClient = mock(DaprClient.class);
+    when(daprClient
+        .getState(any(), any(), eq("legacy")))
+        .thenReturn(Mono.just(OBJECT_MAPPER.writeValueAsBytes(serialized)));
+    when(daprClient
+        .getState(any(), any(), eq("raw")))
+        .thenReturn(Mono.just(serialized));
+
+    DaprStateAsyncProvider provider =
+        new DaprStateAsyncProvider(daprClient, serializer, ActorStateEncoding.RAW_READING_LEGACY);
+
+    Assertions.assertEquals("Jon Doe",
+        provider.load("MyActor", new ActorId("123"), "legacy", TypeRef.STRING).block());
+    Assertions.assertEquals("Jon Doe",
+        provider.load("MyActor", new ActorId("123"), "raw", TypeRef.STRING).block());
+  }
+
   @Test
   public void happyCaseContains() {
     DaprClient daprClient = mock(DaprClient.class);
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.actors.runtime;
+
+import io.dapr.utils.TypeRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares dispatching an actor call through {@link ActorMethodInvoker} with the previous reflective path,
+ * which looked up the {@link Method}, inspected its signature and called {@link Method#invoke} on every call.
+ *
+ * <p>Inputs are deserialized upfront, so only the dispatch itself is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActorMethodInvokerBenchmark {
+
+  @Param({"increment", "echo", "getCount"})
+  public String methodName;
+
+  private ActorMethodInfoMap actorMethods;
+
+  private CounterActorImpl actor;
+
+  private Object input;
+
+  /**
+   * Builds the method map and the input for the selected method.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    this.actorMethods = new ActorMethodInfoMap(List.of(CounterActor.class));
+    this.actor = new CounterActorImpl();
+    switch (methodName) {
+      case "increment":
+        this.input = 1;
+        break;
+      case "echo":
+        this.input = "hello";
+        break;
+      default:
+        this.input = null;
+        break;
+    }
+  }
+
+  /**
+   * Dispatches the call the way ActorManager did before invokers.
+   *
+   * @param blackhole Consumes the signature checks, so they are not optimized away.
+   * @return Value returned by the actor.
+   * @throws Exception If the call fails.
+   */
+  @Benchmark
+  public Object reflection(Blackhole blackhole) throws Exception {
+    Method method = this.actorMethods.get(methodName);
+    if (method.getParameterCount() == 0) {
+      blackhole.consume(method.getReturnType().equals(Mono.class));
+      return method.invoke(this.actor);
+    }
+
+    blackhole.consume(TypeRef.get(method.getParameterTypes()[0]));
+    blackhole.consume(method.getReturnType().equals(Mono.class));
+    return method.invoke(this.actor, this.input);
+  }
+
+  /**
+   * Dispatches the call through the precompiled invoker, whose input type and return kind are resolved once.
+   *
+   * @return Value returned by the actor.
+   * @throws Exception If the call fails.
+   */
+  @Benchmark
+  public Object invoker() throws Exception {
+    return this.actorMethods.getInvoker(methodName).invoke(this.actor, this.input);
+  }
+
+  /**
+   * Actor interface used by the benchmark.
+   */
+  public interface CounterActor {
+
+    void increment(int delta);
+
+    String echo(String message);
+
+    int getCount();
+  }
+
+  /**
+   * Actor implementation used by the benchmark.
+   */
+  public static class CounterActorImpl implements CounterActor {
+
+    private int count;
+
+    @Override
+    public void increment(int delta) {
+      this.count += delta;
+    }
+
+    @Override
+    public String echo(String message) {
+      return message;
+    }
+
+    @Override
+    public int getCount() {
+      return this.count;
+    }
+  }
+}
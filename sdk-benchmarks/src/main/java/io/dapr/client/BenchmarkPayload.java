@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import java.util.Arrays;
+
+/**
+ * Application object used as state, event and binding payload in benchmarks.
+ */
+public class BenchmarkPayload {
+
+  private String id;
+
+  private String value;
+
+  public BenchmarkPayload() {
+  }
+
+  /**
+   * Creates a payload whose serialized form is roughly the given number of bytes.
+   *
+   * @param id Identifier of the payload.
+   * @param size Approximate size of the payload in bytes.
+   */
+  public BenchmarkPayload(String id, int size) {
+    char[] chars = new char[size];
+    Arrays.fill(chars, 'x');
+    this.id = id;
+    this.value = new String(chars);
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  public void setValue(String value) {
+    this.value = value;
+  }
+}
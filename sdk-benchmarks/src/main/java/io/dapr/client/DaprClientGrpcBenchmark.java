@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hot paths of {@link DaprClientImpl} against an in-process gRPC sidecar.
+ *
+ * <p>Throughput and sampled latency (including p0.99) are reported by JMH directly; run with the GC profiler
+ * (see {@link io.dapr.benchmarks.DaprBenchmarks}) to also get bytes allocated per operation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DaprClientGrpcBenchmark {
+
+  private static final String STORE = "statestore";
+
+  private static final String PUBSUB = "pubsub";
+
+  private static final String BINDING = "binding";
+
+  private static final TypeRef<BenchmarkPayload> PAYLOAD_TYPE = TypeRef.get(BenchmarkPayload.class);
+
+  @Param({"256", "16384", "262144"})
+  public int payloadSize;
+
+  @Param({"10"})
+  public int bulkSize;
+
+  private InProcessDaprSidecar sidecar;
+
+  private DaprClientImpl client;
+
+  private BenchmarkPayload payload;
+
+  private List<String> bulkKeys;
+
+  private List<io.dapr.client.domain.State<?>> bulkStates;
+
+  /**
+   * Starts the in-process sidecar and the client under test.
+   *
+   * @throws Exception If the sidecar cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    this.payload = new BenchmarkPayload("payload", payloadSize);
+    byte[] serializedPayload = new DefaultObjectSerializer().serialize(this.payload);
+    this.sidecar = new InProcessDaprSidecar(UUID.randomUUID().toString(), serializedPayload, bulkSize);
+    this.client = this.sidecar.buildClient();
+
+    this.bulkKeys = new ArrayList<>();
+    this.bulkStates = new ArrayList<>();
+    for (int i = 0; i < bulkSize; i++) {
+      this.bulkKeys.add("key" + i);
+      this.bulkStates.add(new io.dapr.client.domain.State<>("key" + i, this.payload, null));
+    }
+  }
+
+  /**
+   * Stops the client and the in-process sidecar.
+   *
+   * @throws Exception If shutdown fails.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    this.client.close();
+    this.sidecar.close();
+  }
+
+  /**
+   * Publishes a single event.
+   */
+  @Benchmark
+  public void publishEvent() {
+    this.client.publishEvent(PUBSUB, "topic", this.payload).block();
+  }
+
+  /**
+   * Reads and deserializes a single state entry.
+   *
+   * @return State read.
+   */
+  @Benchmark
+  public io.dapr.client.domain.State<BenchmarkPayload> getState() {
+    return this.client.getState(STORE, "key", PAYLOAD_TYPE).block();
+  }
+
+  /**
+   * Reads and deserializes several state entries in one call.
+   *
+   * @return States read.
+   */
+  @Benchmark
+  public List<io.dapr.client.domain.State<BenchmarkPayload>> getBulkState() {
+    return this.client.getBulkState(STORE, this.bulkKeys, PAYLOAD_TYPE).block();
+  }
+
+  /**
+   * Serializes and saves several state entries in one call.
+   */
+  @Benchmark
+  public void saveBulkState() {
+    this.client.saveBulkState(STORE, this.bulkStates).block();
+  }
+
+  /**
+   * Invokes an output binding and deserializes its response.
+   *
+   * @return Binding response.
+   */
+  @Benchmark
+  public BenchmarkPayload invokeBinding() {
+    return this.client.invokeBinding(BINDING, "create", this.payload, PAYLOAD_TYPE).block();
+  }
+}
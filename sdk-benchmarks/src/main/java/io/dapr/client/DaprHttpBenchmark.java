@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.dapr.client.domain.HttpExtension;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DaprHttp#invokeApi} and HTTP service invocation against a local HTTP stub.
+ *
+ * <p>The stub answers every request with the same pre-serialized payload after draining the request body.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DaprHttpBenchmark {
+
+  private static final TypeRef<BenchmarkPayload> PAYLOAD_TYPE = TypeRef.get(BenchmarkPayload.class);
+
+  private static final String[] INVOKE_PATH = new String[] { DaprHttp.API_VERSION, "invoke", "app", "method", "echo" };
+
+  @Param({"256", "16384", "262144"})
+  public int payloadSize;
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private DaprHttp daprHttp;
+
+  private DaprClientImpl client;
+
+  private BenchmarkPayload payload;
+
+  private byte[] serializedPayload;
+
+  /**
+   * Starts the local HTTP stub and the clients under test.
+   *
+   * @throws Exception If the stub cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    this.payload = new BenchmarkPayload("payload", payloadSize);
+    this.serializedPayload = new DefaultObjectSerializer().serialize(this.payload);
+
+    final byte[] response = this.serializedPayload;
+    this.serverExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    this.server.setExecutor(this.serverExecutor);
+    this.server.createContext("/", exchange -> {
+      try (InputStream body = exchange.getRequestBody()) {
+        body.transferTo(OutputStream.nullOutputStream());
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, response.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(response);
+      }
+    });
+    this.server.start();
+
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+    this.daprHttp = new DaprHttp(
+        InetAddress.getLoopbackAddress().getHostAddress(),
+        this.server.getAddress().getPort(),
+        null,
+        Duration.ofSeconds(60),
+        httpClient);
+    this.client = new DaprClientImpl(
+        null,
+        null,
+        this.daprHttp,
+        new DefaultObjectSerializer(),
+        new DefaultObjectSerializer());
+  }
+
+  /**
+   * Stops the clients and the local HTTP stub.
+   *
+   * @throws Exception If shutdown fails.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    this.client.close();
+    this.server.stop(0);
+    this.serverExecutor.shutdownNow();
+  }
+
+  /**
+   * Invokes the raw HTTP API with a pre-serialized body.
+   *
+   * @return Response from the stub.
+   */
+  @Benchmark
+  public DaprHttp.Response invokeApi() {
+    return this.daprHttp.invokeApi(
+        DaprHttp.HttpMethods.POST.name(), INVOKE_PATH, null, this.serializedPayload, Map.of(), null).block();
+  }
+
+  /**
+   * Invokes a method through the client, including request serialization and response deserialization.
+   *
+   * @return Deserialized response.
+   */
+  @Benchmark
+  public BenchmarkPayload invokeMethod() {
+    return this.client.invokeMethod("app", "echo", this.payload, HttpExtension.POST, PAYLOAD_TYPE).block();
+  }
+}
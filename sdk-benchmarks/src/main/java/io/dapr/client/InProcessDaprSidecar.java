@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Empty;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprProtos;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process stand-in for the Dapr sidecar's gRPC API.
+ *
+ * <p>Responses are pre-built once so the benchmarks measure the SDK and the transport, not the stub.
+ */
+class InProcessDaprSidecar implements Closeable {
+
+  private final Server server;
+
+  private final ManagedChannel channel;
+
+  /**
+   * Starts a new in-process sidecar answering every state read with the given payload.
+   *
+   * @param name Unique name for the in-process transport.
+   * @param statePayload Serialized payload returned by state and binding reads.
+   * @param bulkSize Number of items returned by a bulk state read.
+   * @throws IOException If the server cannot be started.
+   */
+  InProcessDaprSidecar(String name, byte[] statePayload, int bulkSize) throws IOException {
+    ByteString data = ByteString.copyFrom(statePayload);
+    DaprProtos.GetStateResponse getStateResponse = DaprProtos.GetStateResponse.newBuilder()
+        .setData(data)
+        .setEtag("1")
+        .build();
+    DaprProtos.GetBulkStateResponse.Builder bulkBuilder = DaprProtos.GetBulkStateResponse.newBuilder();
+    for (int i = 0; i < bulkSize; i++) {
+      bulkBuilder.addItems(DaprProtos.BulkStateItem.newBuilder()
+          .setKey("key" + i)
+          .setData(data)
+          .setEtag("1")
+          .build());
+    }
+    DaprProtos.GetBulkStateResponse getBulkStateResponse = bulkBuilder.build();
+    DaprProtos.InvokeBindingResponse invokeBindingResponse = DaprProtos.InvokeBindingResponse.newBuilder()
+        .setData(data)
+        .build();
+
+    DaprGrpc.DaprImplBase service = new DaprGrpc.DaprImplBase() {
+      @Override
+      public void publishEvent(DaprProtos.PublishEventRequest request, StreamObserver<Empty> responseObserver) {
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void getState(
+          DaprProtos.GetStateRequest request,
+          StreamObserver<DaprProtos.GetStateResponse> responseObserver) {
+        responseObserver.onNext(getStateResponse);
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void getBulkState(
+          DaprProtos.GetBulkStateRequest request,
+          StreamObserver<DaprProtos.GetBulkStateResponse> responseObserver) {
+        responseObserver.onNext(getBulkStateResponse);
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void saveState(DaprProtos.SaveStateRequest request, StreamObserver<Empty> responseObserver) {
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void executeStateTransaction(
+          DaprProtos.ExecuteStateTransactionRequest request,
+          StreamObserver<Empty> responseObserver) {
+        responseObserver.onNext(Empty.getDefaultInstance());
+        responseObserver.onCompleted();
+      }
+
+      @Override
+      public void invokeBinding(
+          DaprProtos.InvokeBindingRequest request,
+          StreamObserver<DaprProtos.InvokeBindingResponse> responseObserver) {
+        responseObserver.onNext(invokeBindingResponse);
+        responseObserver.onCompleted();
+      }
+    };
+
+    this.server = InProcessServerBuilder.forName(name)
+        .directExecutor()
+        .addService(service)
+        .build()
+        .start();
+    this.channel = InProcessChannelBuilder.forName(name)
+        .directExecutor()
+        .build();
+  }
+
+  /**
+   * Returns the client channel connected to this sidecar.
+   *
+   * @return Client channel.
+   */
+  ManagedChannel getChannel() {
+    return this.channel;
+  }
+
+  /**
+   * Builds a client backed by this sidecar, using gRPC only.
+   *
+   * @return Dapr client.
+   */
+  DaprClientImpl buildClient() {
+    return new DaprClientImpl(
+        new GrpcChannelFacade(this.channel),
+        DaprGrpc.newStub(this.channel),
+        null,
+        new DefaultObjectSerializer(),
+        new DefaultObjectSerializer());
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.channel.shutdownNow();
+    this.server.shutdownNow();
+    try {
+      this.server.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.sun.net.httpserver.HttpServer;
+import io.dapr.client.domain.HttpExtension;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import io.dapr.v1.CommonProtos;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprProtos;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link DaprClient#invokeMethod} over Dapr's HTTP endpoint and over the gRPC InvokeService API.
+ *
+ * <p>Both stubs listen on loopback and answer with the same pre-serialized payload. The fan-out variant
+ * runs many callers at once, which is where connection count and tail latency differ the most.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvokeMethodTransportBenchmark {
+
+  private static final TypeRef<BenchmarkPayload> PAYLOAD_TYPE = TypeRef.get(BenchmarkPayload.class);
+
+  @Param({"http", "grpc"})
+  public String transport;
+
+  @Param({"256", "16384"})
+  public int payloadSize;
+
+  private HttpServer httpServer;
+
+  private ExecutorService httpServerExecutor;
+
+  private Server grpcServer;
+
+  private ManagedChannel channel;
+
+  private DaprClientImpl client;
+
+  private BenchmarkPayload payload;
+
+  /**
+   * Starts the HTTP and gRPC stubs and the client under test.
+   *
+   * @throws Exception If the stubs cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    this.payload = new BenchmarkPayload("payload", payloadSize);
+    final byte[] response = new DefaultObjectSerializer().serialize(this.payload);
+    InetAddress loopback = InetAddress.getLoopbackAddress();
+
+    this.httpServerExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    this.httpServer = HttpServer.create(new InetSocketAddress(loopback, 0), 0);
+    this.httpServer.setExecutor(this.httpServerExecutor);
+    this.httpServer.createContext("/", exchange -> {
+      try (InputStream body = exchange.getRequestBody()) {
+        body.transferTo(OutputStream.nullOutputStream());
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, response.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(response);
+      }
+    });
+    this.httpServer.start();
+
+    CommonProtos.InvokeResponse invokeResponse = CommonProtos.InvokeResponse.newBuilder()
+        .setData(Any.newBuilder().setValue(ByteString.copyFrom(response)).build())
+        .setContentType("application/json")
+        .build();
+    this.grpcServer = NettyServerBuilder.forAddress(new InetSocketAddress(loopback, 0))
+        .addService(new DaprGrpc.DaprImplBase() {
+          @Override
+          public void invokeService(
+              DaprProtos.InvokeServiceRequest request,
+              StreamObserver<CommonProtos.InvokeResponse> responseObserver) {
+            responseObserver.onNext(invokeResponse);
+            responseObserver.onCompleted();
+          }
+        })
+        .build()
+        .start();
+    this.channel = NettyChannelBuilder.forAddress(new InetSocketAddress(loopback, this.grpcServer.getPort()))
+        .usePlaintext()
+        .build();
+
+    HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .build();
+    DaprHttp daprHttp = new DaprHttp(
+        loopback.getHostAddress(),
+        this.httpServer.getAddress().getPort(),
+        null,
+        Duration.ofSeconds(60),
+        httpClient);
+    this.client = new DaprClientImpl(
+        new GrpcChannelFacade(this.channel),
+        DaprGrpc.newStub(this.channel),
+        daprHttp,
+        new DefaultObjectSerializer(),
+        new DefaultObjectSerializer(),
+        null,
+        null,
+        "grpc".equals(transport));
+  }
+
+  /**
+   * Stops the client and both stubs.
+   *
+   * @throws Exception If shutdown fails.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    this.client.close();
+    this.grpcServer.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    this.httpServer.stop(0);
+    this.httpServerExecutor.shutdownNow();
+  }
+
+  /**
+   * Invokes a method from a single caller.
+   *
+   * @return Deserialized response.
+   */
+  @Benchmark
+  public BenchmarkPayload invokeMethod() {
+    return this.client.invokeMethod("app", "echo", this.payload, HttpExtension.POST, PAYLOAD_TYPE).block();
+  }
+
+  /**
+   * Invokes a method from many concurrent callers.
+   *
+   * @return Deserialized response.
+   */
+  @Benchmark
+  @Threads(32)
+  public BenchmarkPayload invokeMethodFanOut() {
+    return this.client.invokeMethod("app", "echo", this.payload, HttpExtension.POST, PAYLOAD_TYPE).block();
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import com.google.protobuf.ByteString;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.utils.TypeRef;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprProtos;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares many concurrent {@code getState} calls sent one by one with the same calls coalesced by
+ * {@link BatchingStateClient}.
+ *
+ * <p>Callers pick keys at random from {@code keySpace}, so small key spaces overlap a lot. Besides the JMH
+ * scores, the number of getState calls and of RPCs that reached the sidecar is printed at the end of each trial.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StateBatchingBenchmark {
+
+  private static final String STORE = "statestore";
+
+  private static final TypeRef<BenchmarkPayload> PAYLOAD_TYPE = TypeRef.get(BenchmarkPayload.class);
+
+  @Param({"direct", "batched"})
+  public String mode;
+
+  @Param({"16", "1024"})
+  public int keySpace;
+
+  private final LongAdder calls = new LongAdder();
+
+  private final LongAdder rpcs = new LongAdder();
+
+  private Server server;
+
+  private ManagedChannel channel;
+
+  private DaprClientImpl client;
+
+  private BatchingStateClient batchingClient;
+
+  private String[] keys;
+
+  /**
+   * Starts an in-process sidecar that answers every key it is asked for, and the clients under test.
+   *
+   * @throws Exception If the sidecar cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    ByteString data = ByteString.copyFrom(
+        new DefaultObjectSerializer().serialize(new BenchmarkPayload("payload", 256)));
+    this.keys = new String[keySpace];
+    for (int i = 0; i < keySpace; i++) {
+      this.keys[i] = "key" + i;
+    }
+
+    String name = "state-batching-" + mode + "-" + keySpace;
+    this.server = InProcessServerBuilder.forName(name)
+        .directExecutor()
+        .addService(new DaprGrpc.DaprImplBase() {
+          @Override
+          public void getState(
+              DaprProtos.GetStateRequest request,
+              StreamObserver<DaprProtos.GetStateResponse> responseObserver) {
+            rpcs.increment();
+            responseObserver.onNext(DaprProtos.GetStateResponse.newBuilder().setData(data).setEtag("1").build());
+            responseObserver.onCompleted();
+          }
+
+          @Override
+          public void getBulkState(
+              DaprProtos.GetBulkStateRequest request,
+              StreamObserver<DaprProtos.GetBulkStateResponse> responseObserver) {
+            rpcs.increment();
+            DaprProtos.GetBulkStateResponse.Builder response = DaprProtos.GetBulkStateResponse.newBuilder();
+            for (String key : request.getKeysList()) {
+              response.addItems(DaprProtos.BulkStateItem.newBuilder().setKey(key).setData(data).setEtag("1"));
+            }
+            responseObserver.onNext(response.build());
+            responseObserver.onCompleted();
+          }
+        })
+        .build()
+        .start();
+    this.channel = InProcessChannelBuilder.forName(name)
+        .directExecutor()
+        .build();
+    this.client = new DaprClientImpl(
+        new GrpcChannelFacade(this.channel),
+        DaprGrpc.newStub(this.channel),
+        null,
+        new DefaultObjectSerializer(),
+        new DefaultObjectSerializer());
+    this.batchingClient = new BatchingStateClient(this.client, new BatchingStateOptions()
+        .setMaxBatchSize(64)
+        .setMaxDelay(Duration.ofMillis(1)));
+  }
+
+  /**
+   * Prints how many RPCs were needed for the getState calls, then stops the clients and the sidecar.
+   *
+   * @throws Exception If shutdown fails.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    System.out.printf("%n%s, %d keys: %d getState calls, %d RPCs%n", mode, keySpace, calls.sum(), rpcs.sum());
+    this.batchingClient.close();
+    this.client.close();
+    this.server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Reads a random key from many concurrent callers.
+   *
+   * @return State read.
+   */
+  @Benchmark
+  @Threads(32)
+  public io.dapr.client.domain.State<BenchmarkPayload> getState() {
+    this.calls.increment();
+    String key = this.keys[ThreadLocalRandom.current().nextInt(this.keys.length)];
+    if ("batched".equals(mode)) {
+      return this.batchingClient.getState(STORE, key, PAYLOAD_TYPE).block();
+    }
+    return this.client.getState(STORE, key, PAYLOAD_TYPE).block();
+  }
+}
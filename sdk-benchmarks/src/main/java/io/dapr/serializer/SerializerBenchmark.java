@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.serializer;
+
+import io.dapr.utils.TypeRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JSON, Smile and CBOR serializers on a state-like object with strings, numbers and nested values.
+ *
+ * <p>The serialized size of the object in each format is printed at the start of each trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+  private static final TypeRef<Order> ORDER_TYPE = TypeRef.get(Order.class);
+
+  @Param({"json", "smile", "cbor"})
+  public String format;
+
+  @Param({"10", "1000"})
+  public int items;
+
+  private DaprObjectSerializer serializer;
+
+  private Order order;
+
+  private byte[] serialized;
+
+  /**
+   * Builds the object and its serialized form in the selected format.
+   *
+   * @throws IOException If the object cannot be serialized.
+   */
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    switch (format) {
+      case "smile":
+        this.serializer = new SmileObjectSerializer();
+        break;
+      case "cbor":
+        this.serializer = new CborObjectSerializer();
+        break;
+      default:
+        this.serializer = new DefaultObjectSerializer();
+        break;
+    }
+
+    this.order = new Order();
+    this.order.setId("order-0001");
+    this.order.setCustomer("customer-42");
+    this.order.setTags(Map.of("channel", "web", "region", "eu-west"));
+    List<OrderLine> lines = new ArrayList<>(items);
+    for (int i = 0; i < items; i++) {
+      OrderLine line = new OrderLine();
+      line.setSku("sku-" + i);
+      line.setQuantity(i % 7 + 1);
+      line.setPrice(9.99 + i);
+      lines.add(line);
+    }
+    this.order.setLines(lines);
+    this.serialized = this.serializer.serialize(this.order);
+
+    System.out.printf("%n%s, %d items: %d bytes%n", format, items, this.serialized.length);
+  }
+
+  /**
+   * Serializes the object.
+   *
+   * @return Serialized bytes.
+   * @throws IOException If serialization fails.
+   */
+  @Benchmark
+  public byte[] serialize() throws IOException {
+    return this.serializer.serialize(this.order);
+  }
+
+  /**
+   * Deserializes the object.
+   *
+   * @return Deserialized object.
+   * @throws IOException If deserialization fails.
+   */
+  @Benchmark
+  public Order deserialize() throws IOException {
+    return this.serializer.deserialize(this.serialized, ORDER_TYPE);
+  }
+
+  /**
+   * Order used as benchmark payload.
+   */
+  public static class Order {
+
+    private String id;
+
+    private String customer;
+
+    private Map<String, String> tags = new HashMap<>();
+
+    private List<OrderLine> lines = new ArrayList<>();
+
+    public String getId() {
+      return id;
+    }
+
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    public String getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(String customer) {
+      this.customer = customer;
+    }
+
+    public Map<String, String> getTags() {
+      return tags;
+    }
+
+    public void setTags(Map<String, String> tags) {
+      this.tags = tags;
+    }
+
+    public List<OrderLine> getLines() {
+      return lines;
+    }
+
+    public void setLines(List<OrderLine> lines) {
+      this.lines = lines;
+    }
+  }
+
+  /**
+   * Line of an {@link Order}.
+   */
+  public static class OrderLine {
+
+    private String sku;
+
+    private int quantity;
+
+    private double price;
+
+    public String getSku() {
+      return sku;
+    }
+
+    public void setSku(String sku) {
+      this.sku = sku;
+    }
+
+    public int getQuantity() {
+      return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+      this.quantity = quantity;
+    }
+
+    public double getPrice() {
+      return price;
+    }
+
+    public void setPrice(double price) {
+      this.price = price;
+    }
+  }
+}
@@ -0,0 +1,602 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.ExecuteStateTransactionRequest;
+import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.TransactionalStateOperation;
+import io.dapr.exceptions.DaprException;
+import io.dapr.utils.TypeRef;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent state reads into bulk reads, and buffers state writes behind bulk writes.
+ *
+ * <p>Reads for the same store and type are collected until {@link BatchingStateOptions#getMaxBatchSize()}
+ * distinct keys are pending or {@link BatchingStateOptions#getMaxDelay()} has passed since the first one, and
+ * are then served by a single {@code getBulkState} call. Keys requested more than once in a batch are fetched
+ * once.
+ *
+ * <p>Writes are buffered per store with the same bounds. A later write to a key replaces the buffered one (last
+ * write wins), and both complete when the surviving write is stored. A batch of saves only is sent with
+ * {@code saveBulkState}; a batch containing deletes is sent with {@code executeStateTransaction}. Each store has
+ * at most one batch in flight, so batches are stored in the order they were filled. Once
+ * {@link BatchingStateOptions#getMaxPendingWrites()} writes are buffered or in flight, further writes wait until
+ * earlier ones complete, and up to {@link BatchingStateOptions#getMaxBlockedWrites()} may wait before writes are
+ * rejected. A read of a key with an unfinished write waits for that write, so it sees it.
+ *
+ * <p>Operations that need etags, consistency options or metadata should use {@link DaprClient} directly. The
+ * Reactor context of each caller is not propagated to the bulk calls. Closing this client sends everything
+ * pending but does not close the underlying {@link DaprClient}.
+ */
+public class BatchingStateClient implements AutoCloseable {
+
+  private final DaprClient client;
+
+  private final int maxBatchSize;
+
+  private final Duration maxDelay;
+
+  private final Scheduler scheduler;
+
+  private final int maxPendingWrites;
+
+  private final int maxBlockedWrites;
+
+  private final Object lock = new Object();
+
+  private final Map<BatchKey, Batch<?>> pending = new HashMap<>();
+
+  private final Map<String, WriteBatch> pendingWrites = new HashMap<>();
+
+  private final Deque<Write> blockedWrites = new ArrayDeque<>();
+
+  /**
+   * Stores with a write batch in flight, mapped to the batches ready to be sent after it.
+   */
+  private final Map<String, Deque<WriteBatch>> writingStores = new HashMap<>();
+
+  /**
+   * Latest unfinished write of each key, per store.
+   */
+  private final Map<String, Map<String, Write>> unfinishedWrites = new HashMap<>();
+
+  private int acceptedWrites;
+
+  private final LongAdder requests = new LongAdder();
+
+  private final LongAdder bulkRequests = new LongAdder();
+
+  private final LongAdder writes = new LongAdder();
+
+  private final LongAdder bulkWrites = new LongAdder();
+
+  /**
+   * Creates a batching client with default options.
+   *
+   * @param client Client used to send bulk reads and writes.
+   */
+  public BatchingStateClient(DaprClient client) {
+    this(client, new BatchingStateOptions());
+  }
+
+  /**
+   * Creates a batching client.
+   *
+   * @param client Client used to send bulk reads and writes.
+   * @param options Batch size, delay and buffer bounds.
+   */
+  public BatchingStateClient(DaprClient client, BatchingStateOptions options) {
+    this(client, options, Schedulers.parallel());
+  }
+
+  BatchingStateClient(DaprClient client, BatchingStateOptions options, Scheduler scheduler) {
+    if (client == null) {
+      throw new IllegalArgumentException("Client cannot be null.");
+    }
+    if (options.getMaxBatchSize() < 1) {
+      throw new IllegalArgumentException("Max batch size must be at least 1.");
+    }
+    if (options.getMaxDelay() == null || options.getMaxDelay().isNegative()) {
+      throw new IllegalArgumentException("Max delay cannot be null or negative.");
+    }
+    if (options.getMaxPendingWrites() < 1) {
+      throw new IllegalArgumentException("Max pending writes must be at least 1.");
+    }
+    if (options.getMaxBlockedWrites() < 0) {
+      throw new IllegalArgumentException("Max blocked writes cannot be negative.");
+    }
+
+    this.client = client;
+    this.maxBatchSize = options.getMaxBatchSize();
+    this.maxDelay = options.getMaxDelay();
+    this.maxPendingWrites = options.getMaxPendingWrites();
+    this.maxBlockedWrites = options.getMaxBlockedWrites();
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Retrieve a State based on their key, batched with other reads for the same store and type.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be retrieved.
+   * @param clazz     The type of State needed as return.
+   * @param <T>       The type of the return.
+   * @return A Mono Plan for the requested State.
+   */
+  public <T> Mono<State<T>> getState(String storeName, String key, Class<T> clazz) {
+    return this.getState(storeName, key, TypeRef.get(clazz));
+  }
+
+  /**
+   * Retrieve a State based on their key, batched with other reads for the same store and type.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be retrieved.
+   * @param type      The type of State needed as return.
+   * @param <T>       The type of the return.
+   * @return A Mono Plan for the requested State.
+   */
+  public <T> Mono<State<T>> getState(String storeName, String key, TypeRef<T> type) {
+    if ((storeName == null) || (storeName.trim().isEmpty())) {
+      return Mono.error(new IllegalArgumentException("State store name cannot be null or empty."));
+    }
+    if ((key == null) || (key.trim().isEmpty())) {
+      return Mono.error(new IllegalArgumentException("Key cannot be null or empty."));
+    }
+
+    return Mono.create(sink -> enqueue(storeName, key, type, sink));
+  }
+
+  /**
+   * Save a State, buffered with other writes to the same store.
+   *
+   * <p>The write is buffered when the returned Mono is subscribed to, and the Mono completes once the write (or
+   * a later write to the same key) is stored.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be saved.
+   * @param value     The value of the State to be saved.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> saveState(String storeName, String key, Object value) {
+    return this.write(storeName, key, TransactionalStateOperation.OperationType.UPSERT, value);
+  }
+
+  /**
+   * Delete a State, buffered with other writes to the same store.
+   *
+   * <p>The delete is buffered when the returned Mono is subscribed to, and the Mono completes once the delete
+   * (or a later write to the same key) is stored.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be removed.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> deleteState(String storeName, String key) {
+    return this.write(storeName, key, TransactionalStateOperation.OperationType.DELETE, null);
+  }
+
+  /**
+   * Returns how many reads were requested from this client.
+   *
+   * @return Number of getState calls.
+   */
+  public long getRequestCount() {
+    return this.requests.sum();
+  }
+
+  /**
+   * Returns how many bulk reads this client sent to Dapr.
+   *
+   * @return Number of getBulkState calls.
+   */
+  public long getBulkRequestCount() {
+    return this.bulkRequests.sum();
+  }
+
+  /**
+   * Returns how many writes were requested from this client.
+   *
+   * @return Number of saveState and deleteState calls.
+   */
+  public long getWriteCount() {
+    return this.writes.sum();
+  }
+
+  /**
+   * Returns how many bulk writes this client sent to Dapr.
+   *
+   * @return Number of saveBulkState and executeStateTransaction calls.
+   */
+  public long getBulkWriteCount() {
+    return this.bulkWrites.sum();
+  }
+
+  /**
+   * Sends all pending reads and writes without waiting for their batch to fill up or time out.
+   */
+  public void flush() {
+    List<Batch<?>> batches;
+    List<WriteBatch> writeBatches;
+    synchronized (this.lock) {
+      batches = new ArrayList<>(this.pending.values());
+      this.pending.clear();
+      writeBatches = new ArrayList<>(this.pendingWrites.values());
+      this.pendingWrites.clear();
+    }
+
+    for (Batch<?> batch : batches) {
+      batch.timer.dispose();
+      send(batch);
+    }
+    for (WriteBatch batch : writeBatches) {
+      batch.timer.dispose();
+      dispatch(batch);
+    }
+  }
+
+  @Override
+  public void close() {
+    flush();
+  }
+
+  private <T> void enqueue(String storeName, String key, TypeRef<T> type, MonoSink<State<T>> sink) {
+    this.requests.increment();
+    synchronized (this.lock) {
+      Write unfinished = this.unfinishedWrites.getOrDefault(storeName, Map.of()).get(key);
+      if (unfinished != null) {
+        // Read once the write is done, so the caller sees it.
+        unfinished.afterWritten.add(() -> read(storeName, key, type, sink));
+        return;
+      }
+    }
+
+    read(storeName, key, type, sink);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> void read(String storeName, String key, TypeRef<T> type, MonoSink<State<T>> sink) {
+    BatchKey batchKey = new BatchKey(storeName, type.getType());
+    Batch<T> ready = null;
+    synchronized (this.lock) {
+      Batch<T> batch = (Batch<T>) this.pending.get(batchKey);
+      if (batch == null) {
+        batch = new Batch<>(batchKey, storeName, type);
+        this.pending.put(batchKey, batch);
+        Batch<T> scheduled = batch;
+        batch.timer = this.scheduler.schedule(
+            () -> onTimeout(scheduled), this.maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+      }
+
+      batch.waiters.computeIfAbsent(key, k -> new ArrayList<>(1)).add(sink);
+      if (batch.waiters.size() >= this.maxBatchSize) {
+        this.pending.remove(batchKey);
+        ready = batch;
+      }
+    }
+
+    if (ready != null) {
+      ready.timer.dispose();
+      send(ready);
+    }
+  }
+
+  private void onTimeout(Batch<?> batch) {
+    synchronized (this.lock) {
+      // The batch may have been sent already because it filled up or was flushed.
+      if (!this.pending.remove(batch.key, batch)) {
+        return;
+      }
+    }
+
+    send(batch);
+  }
+
+  private Mono<Void> write(
+      String storeName, String key, TransactionalStateOperation.OperationType operationType, Object value) {
+    if ((storeName == null) || (storeName.trim().isEmpty())) {
+      return Mono.error(new IllegalArgumentException("State store name cannot be null or empty."));
+    }
+    if ((key == null) || (key.trim().isEmpty())) {
+      return Mono.error(new IllegalArgumentException("Key cannot be null or empty."));
+    }
+
+    return Mono.create(sink -> {
+      this.writes.increment();
+      State<Object> state = new State<>(key, value, null);
+      Write write = new Write(storeName, new TransactionalStateOperation<>(operationType, state), sink);
+      WriteBatch ready = null;
+      synchronized (this.lock) {
+        if (this.acceptedWrites >= this.maxPendingWrites) {
+          if (this.blockedWrites.size() >= this.maxBlockedWrites) {
+            sink.error(new IllegalStateException("Too many writes waiting for the write buffer."));
+            return;
+          }
+          this.blockedWrites.add(write);
+        } else {
+          ready = buffer(write);
+        }
+        this.unfinishedWrites.computeIfAbsent(storeName, k -> new HashMap<>()).put(key, write);
+      }
+
+      if (ready != null) {
+        ready.timer.dispose();
+        dispatch(ready);
+      }
+    });
+  }
+
+  /**
+   * Adds a write to the batch of its store. Must be called while holding the lock.
+   *
+   * @param write Write to buffer.
+   * @return Batch that filled up and must be sent, or null.
+   */
+  private WriteBatch buffer(Write write) {
+    this.acceptedWrites++;
+    WriteBatch batch = this.pendingWrites.get(write.storeName);
+    if (batch == null) {
+      batch = new WriteBatch(write.storeName);
+      this.pendingWrites.put(write.storeName, batch);
+      WriteBatch scheduled = batch;
+      batch.timer = this.scheduler.schedule(
+          () -> onWriteTimeout(scheduled), this.maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    String key = write.operation.getRequest().getKey();
+    batch.writes.computeIfAbsent(key, k -> new ArrayList<>(1)).add(write);
+    batch.operations.put(key, write.operation);
+    batch.writeCount++;
+    if (batch.operations.size() >= this.maxBatchSize) {
+      this.pendingWrites.remove(write.storeName);
+      return batch;
+    }
+    return null;
+  }
+
+  private void onWriteTimeout(WriteBatch batch) {
+    synchronized (this.lock) {
+      if (!this.pendingWrites.remove(batch.storeName, batch)) {
+        return;
+      }
+    }
+
+    dispatch(batch);
+  }
+
+  /**
+   * Sends a batch, or queues it behind the batch in flight for the same store so batches land in order.
+   *
+   * @param batch Batch ready to be sent.
+   */
+  private void dispatch(WriteBatch batch) {
+    synchronized (this.lock) {
+      Deque<WriteBatch> queued = this.writingStores.get(batch.storeName);
+      if (queued != null) {
+        queued.add(batch);
+        return;
+      }
+      this.writingStores.put(batch.storeName, new ArrayDeque<>());
+    }
+
+    sendWrites(batch);
+  }
+
+  private void sendWrites(WriteBatch batch) {
+    this.bulkWrites.increment();
+    boolean savesOnly = batch.operations.values().stream()
+        .allMatch(op -> op.getOperation() == TransactionalStateOperation.OperationType.UPSERT);
+    Mono<Void> request;
+    if (savesOnly) {
+      List<State<?>> states = new ArrayList<>(batch.operations.size());
+      batch.operations.values().forEach(op -> states.add(op.getRequest()));
+      request = this.client.saveBulkState(new SaveStateRequest(batch.storeName).setStates(states));
+    } else {
+      List<TransactionalStateOperation<?>> operations = new ArrayList<>(batch.operations.values());
+      request = this.client.executeStateTransaction(
+          new ExecuteStateTransactionRequest(batch.storeName).setOperations(operations));
+    }
+
+    request.subscribe(
+        it -> { },
+        error -> onWritten(batch, error),
+        () -> onWritten(batch, null));
+  }
+
+  private void onWritten(WriteBatch batch, Throwable error) {
+    List<Runnable> reads = new ArrayList<>();
+    WriteBatch next;
+    List<WriteBatch> ready = new ArrayList<>();
+    synchronized (this.lock) {
+      Map<String, Write> unfinished = this.unfinishedWrites.get(batch.storeName);
+      for (List<Write> writes : batch.writes.values()) {
+        for (Write write : writes) {
+          reads.addAll(write.afterWritten);
+          if (unfinished != null) {
+            unfinished.remove(write.operation.getRequest().getKey(), write);
+          }
+        }
+      }
+      if ((unfinished != null) && unfinished.isEmpty()) {
+        this.unfinishedWrites.remove(batch.storeName);
+      }
+
+      Deque<WriteBatch> queued = this.writingStores.get(batch.storeName);
+      next = queued.poll();
+      if (next == null) {
+        this.writingStores.remove(batch.storeName);
+      }
+
+      // Let writes that were waiting for room in the buffer in.
+      this.acceptedWrites -= batch.writeCount;
+      while (this.acceptedWrites < this.maxPendingWrites && !this.blockedWrites.isEmpty()) {
+        WriteBatch full = buffer(this.blockedWrites.poll());
+        if (full != null) {
+          ready.add(full);
+        }
+      }
+    }
+
+    for (List<Write> writes : batch.writes.values()) {
+      for (Write write : writes) {
+        if (error != null) {
+          write.sink.error(error);
+        } else {
+          write.sink.success();
+        }
+      }
+    }
+    reads.forEach(Runnable::run);
+
+    if (next != null) {
+      sendWrites(next);
+    }
+    for (WriteBatch full : ready) {
+      full.timer.dispose();
+      dispatch(full);
+    }
+  }
+
+  private <T> void send(Batch<T> batch) {
+    this.bulkRequests.increment();
+    List<String> keys = new ArrayList<>(batch.waiters.keySet());
+    this.client.getBulkState(batch.storeName, keys, batch.type).subscribe(
+        states -> complete(batch, states),
+        error -> batch.waiters.values().forEach(sinks -> sinks.forEach(sink -> sink.error(error))));
+  }
+
+  private static <T> void complete(Batch<T> batch, List<State<T>> states) {
+    for (State<T> state : states) {
+      List<MonoSink<State<T>>> sinks = batch.waiters.remove(state.getKey());
+      if (sinks == null) {
+        continue;
+      }
+
+      for (MonoSink<State<T>> sink : sinks) {
+        if (state.getError() != null) {
+          sink.error(new DaprException("ERR_STATE_GET", state.getError(), null, null));
+        } else {
+          sink.success(state);
+        }
+      }
+    }
+
+    // Keys missing from the response are reported the same way getState reports a key that does not exist.
+    batch.waiters.forEach((key, sinks) -> sinks.forEach(sink -> sink.success(new State<>(key))));
+  }
+
+  private static final class Batch<T> {
+
+    private final BatchKey key;
+
+    private final String storeName;
+
+    private final TypeRef<T> type;
+
+    private final Map<String, List<MonoSink<State<T>>>> waiters = new LinkedHashMap<>();
+
+    private Disposable timer;
+
+    private Batch(BatchKey key, String storeName, TypeRef<T> type) {
+      this.key = key;
+      this.storeName = storeName;
+      this.type = type;
+    }
+  }
+
+  private static final class Write {
+
+    private final String storeName;
+
+    private final TransactionalStateOperation<Object> operation;
+
+    private final MonoSink<Void> sink;
+
+    /**
+     * Reads waiting for this write, guarded by the client's lock.
+     */
+    private final List<Runnable> afterWritten = new ArrayList<>(0);
+
+    private Write(String storeName, TransactionalStateOperation<Object> operation, MonoSink<Void> sink) {
+      this.storeName = storeName;
+      this.operation = operation;
+      this.sink = sink;
+    }
+  }
+
+  private static final class WriteBatch {
+
+    private final String storeName;
+
+    private final Map<String, TransactionalStateOperation<Object>> operations = new LinkedHashMap<>();
+
+    private final Map<String, List<Write>> writes = new HashMap<>();
+
+    private int writeCount;
+
+    private Disposable timer;
+
+    private WriteBatch(String storeName) {
+      this.storeName = storeName;
+    }
+  }
+
+  private static final class BatchKey {
+
+    private final String storeName;
+
+    private final Type type;
+
+    private BatchKey(String storeName, Type type) {
+      this.storeName = storeName;
+      this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      BatchKey that = (BatchKey) o;
+      return storeName.equals(that.storeName) && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(storeName, type);
+    }
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import java.time.Duration;
+
+/**
+ * Bounds for how long and how many state operations {@link BatchingStateClient} collects before sending them.
+ */
+public final class BatchingStateOptions {
+
+  private int maxBatchSize = 100;
+
+  private Duration maxDelay = Duration.ofMillis(2);
+
+  private int maxPendingWrites = 10000;
+
+  private int maxBlockedWrites = 10000;
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public BatchingStateOptions setMaxBatchSize(int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public Duration getMaxDelay() {
+    return maxDelay;
+  }
+
+  public BatchingStateOptions setMaxDelay(Duration maxDelay) {
+    this.maxDelay = maxDelay;
+    return this;
+  }
+
+  public int getMaxPendingWrites() {
+    return maxPendingWrites;
+  }
+
+  public BatchingStateOptions setMaxPendingWrites(int maxPendingWrites) {
+    this.maxPendingWrites = maxPendingWrites;
+    return this;
+  }
+
+  public int getMaxBlockedWrites() {
+    return maxBlockedWrites;
+  }
+
+  public BatchingStateOptions setMaxBlockedWrites(int maxBlockedWrites) {
+    this.maxBlockedWrites = maxBlockedWrites;
+    return this;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.BulkSubscribeAppResponseEntry;
+import io.dapr.client.domain.CloudEvent;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Callback interface to receive batches of events from a streaming subscription of events.
+ * @param <T> Object type for deserialization.
+ */
+public interface BulkSubscriptionListener<T> {
+
+  /**
+   * Processes a batch of events from streaming subscription.
+   * @param events Events received, in the order they were received.
+   * @return Status of each event, matched by entry ID to the event's ID. Events without a status are retried.
+   */
+  Mono<List<BulkSubscribeAppResponseEntry>> onEvents(List<CloudEvent<T>> events);
+
+  /**
+   * Processes an exception during streaming subscription.
+   * @param exception Exception to be processed.
+   */
+  void onError(RuntimeException exception);
+
+  /**
+   * Processes a change in the connection state of the subscription.
+   * @param state New connection state.
+   */
+  default void onStateChange(SubscriptionState state) {
+  }
+}
@@ -0,0 +1,512 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.client.domain.TransactionalStateOperation;
+import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Read-through cache of state values in front of a {@link DaprClient}.
+ *
+ * <p>Entries are keyed on store name and key, and kept with their etag for {@link StateCacheOptions#getTtl()}.
+ * Reading an expired entry fetches the key again; if the etag did not change the cached value is kept and the
+ * entry is counted as revalidated. When {@link StateCacheOptions#getMaxEntries()} or
+ * {@link StateCacheOptions#getMaxWeightBytes()} is exceeded, the least recently used entries are evicted.
+ *
+ * <p>Writes made through this client invalidate the keys they touch. Writes made by other clients are only
+ * seen once the entry expires, so the TTL bounds how stale a read can be.
+ */
+public class CachingStateClient {
+
+  /**
+   * Number of version counters that invalidations are spread over.
+   */
+  private static final int VERSION_STRIPES = 64;
+
+  private final DaprClient client;
+
+  private final int maxEntries;
+
+  private final long maxWeightBytes;
+
+  private final long ttlNanos;
+
+  private final LongSupplier nanoTime;
+
+  private final ToLongFunction<State<?>> weigher;
+
+  private final LinkedHashMap<CacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long weight;
+
+  /**
+   * Incremented on every invalidation of a key in the stripe, so reads of keys in that stripe that started
+   * before it do not cache what they fetched. Writes to other keys mostly leave fills alone.
+   */
+  private final long[] versions = new long[VERSION_STRIPES];
+
+  private final LongAdder hits = new LongAdder();
+
+  private final LongAdder misses = new LongAdder();
+
+  private final LongAdder revalidations = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a caching client with default options.
+   *
+   * @param client Client used for reads on cache misses and for writes.
+   */
+  public CachingStateClient(DaprClient client) {
+    this(client, new StateCacheOptions());
+  }
+
+  /**
+   * Creates a caching client.
+   *
+   * @param client Client used for reads on cache misses and for writes.
+   * @param options Cache bounds.
+   */
+  public CachingStateClient(DaprClient client, StateCacheOptions options) {
+    this(client, options, System::nanoTime);
+  }
+
+  CachingStateClient(DaprClient client, StateCacheOptions options, LongSupplier nanoTime) {
+    if (client == null) {
+      throw new IllegalArgumentException("Client cannot be null.");
+    }
+    if (options.getMaxEntries() < 1) {
+      throw new IllegalArgumentException("Max entries must be at least 1.");
+    }
+    if (options.getMaxWeightBytes() < 0) {
+      throw new IllegalArgumentException("Max weight cannot be negative.");
+    }
+    if (options.getMaxWeightBytes() > 0 && options.getWeigher() == null) {
+      throw new IllegalArgumentException("A weigher is required to bound the cache by weight.");
+    }
+    if (options.getTtl() == null || options.getTtl().isNegative()) {
+      throw new IllegalArgumentException("TTL cannot be null or negative.");
+    }
+
+    this.client = client;
+    this.maxEntries = options.getMaxEntries();
+    this.maxWeightBytes = options.getMaxWeightBytes();
+    this.ttlNanos = options.getTtl().toNanos();
+    this.nanoTime = nanoTime;
+    this.weigher = options.getWeigher();
+  }
+
+  /**
+   * Retrieve a State based on their key, from the cache when possible.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be retrieved.
+   * @param clazz     The type of State needed as return.
+   * @param <T>       The type of the return.
+   * @return A Mono Plan for the requested State.
+   */
+  public <T> Mono<State<T>> getState(String storeName, String key, Class<T> clazz) {
+    return this.getState(storeName, key, TypeRef.get(clazz));
+  }
+
+  /**
+   * Retrieve a State based on their key, from the cache when possible.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be retrieved.
+   * @param type      The type of State needed as return.
+   * @param <T>       The type of the return.
+   * @return A Mono Plan for the requested State.
+   */
+  public <T> Mono<State<T>> getState(String storeName, String key, TypeRef<T> type) {
+    return Mono.defer(() -> {
+      CacheKey cacheKey = new CacheKey(storeName, key);
+      Lookup lookup = lookup(cacheKey, type.getType());
+      if (lookup.fresh != null) {
+        return Mono.just(lookup.<T>fresh());
+      }
+
+      return this.client.getState(storeName, key, type)
+          .map(state -> cache(cacheKey, type.getType(), state, lookup));
+    });
+  }
+
+  /**
+   * Retrieve bulk States based on their keys, fetching only the keys missing from the cache.
+   *
+   * @param storeName The name of the state store.
+   * @param keys      The keys of the State to be retrieved.
+   * @param type      The type of State needed as return.
+   * @param <T>       The type of the return.
+   * @return A Mono Plan for the requested States.
+   */
+  public <T> Mono<List<State<T>>> getBulkState(String storeName, List<String> keys, TypeRef<T> type) {
+    return Mono.defer(() -> {
+      Map<String, State<T>> found = new HashMap<>();
+      Map<String, Lookup> missing = new LinkedHashMap<>();
+      for (String key : keys) {
+        Lookup lookup = lookup(new CacheKey(storeName, key), type.getType());
+        if (lookup.fresh != null) {
+          found.put(key, lookup.fresh());
+        } else {
+          missing.put(key, lookup);
+        }
+      }
+
+      if (missing.isEmpty()) {
+        return Mono.just(collect(keys, found));
+      }
+
+      return this.client.getBulkState(storeName, new ArrayList<>(missing.keySet()), type).map(states -> {
+        for (State<T> state : states) {
+          Lookup lookup = missing.get(state.getKey());
+          if (lookup != null) {
+            found.put(state.getKey(), cache(new CacheKey(storeName, state.getKey()), type.getType(), state, lookup));
+          }
+        }
+        return collect(keys, found);
+      });
+    });
+  }
+
+  /**
+   * Save/Update a state and invalidate its cached value.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the state.
+   * @param value     The value of the state.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> saveState(String storeName, String key, Object value) {
+    return this.invalidating(storeName, List.of(key), this.client.saveState(storeName, key, value));
+  }
+
+  /**
+   * Save/Update a state and invalidate its cached value.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the state.
+   * @param etag      The etag to be used.
+   * @param value     The value of the state.
+   * @param options   The Options to use for each state.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> saveState(String storeName, String key, String etag, Object value, StateOptions options) {
+    return this.invalidating(
+        storeName, List.of(key), this.client.saveState(storeName, key, etag, value, options));
+  }
+
+  /**
+   * Save/Update a list of states and invalidate their cached values.
+   *
+   * @param storeName The name of the state store.
+   * @param states    The States to be saved.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> saveBulkState(String storeName, List<State<?>> states) {
+    List<String> keys = new ArrayList<>(states.size());
+    states.forEach(state -> keys.add(state.getKey()));
+    return this.invalidating(storeName, keys, this.client.saveBulkState(storeName, states));
+  }
+
+  /**
+   * Delete a state and invalidate its cached value.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be removed.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> deleteState(String storeName, String key) {
+    return this.invalidating(storeName, List.of(key), this.client.deleteState(storeName, key));
+  }
+
+  /**
+   * Delete a state and invalidate its cached value.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the State to be removed.
+   * @param etag      Optional etag for conditional delete.
+   * @param options   Optional settings for state operation.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> deleteState(String storeName, String key, String etag, StateOptions options) {
+    return this.invalidating(storeName, List.of(key), this.client.deleteState(storeName, key, etag, options));
+  }
+
+  /**
+   * Execute a transaction and invalidate the cached values of every key it touches.
+   *
+   * @param storeName  The name of the state store.
+   * @param operations The operations to be performed.
+   * @return A Mono Plan of type Void.
+   */
+  public Mono<Void> executeStateTransaction(String storeName, List<TransactionalStateOperation<?>> operations) {
+    List<String> keys = new ArrayList<>(operations.size());
+    operations.forEach(operation -> keys.add(operation.getRequest().getKey()));
+    return this.invalidating(storeName, keys, this.client.executeStateTransaction(storeName, operations));
+  }
+
+  /**
+   * Removes a key from the cache.
+   *
+   * @param storeName The name of the state store.
+   * @param key       The key of the state.
+   */
+  public void invalidate(String storeName, String key) {
+    CacheKey cacheKey = new CacheKey(storeName, key);
+    synchronized (this.entries) {
+      this.versions[stripe(cacheKey)]++;
+      Entry removed = this.entries.remove(cacheKey);
+      if (removed != null) {
+        this.weight -= removed.weight;
+      }
+    }
+  }
+
+  /**
+   * Removes every entry from the cache.
+   */
+  public void invalidateAll() {
+    synchronized (this.entries) {
+      for (int i = 0; i < VERSION_STRIPES; i++) {
+        this.versions[i]++;
+      }
+      this.entries.clear();
+      this.weight = 0;
+    }
+  }
+
+  /**
+   * Returns how many reads were served from the cache.
+   *
+   * @return Number of cache hits.
+   */
+  public long getHitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Returns how many reads had to fetch a new value from Dapr.
+   *
+   * @return Number of cache misses.
+   */
+  public long getMissCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * Returns how many expired entries were fetched again and found unchanged.
+   *
+   * @return Number of revalidated entries.
+   */
+  public long getRevalidationCount() {
+    return this.revalidations.sum();
+  }
+
+  /**
+   * Returns how many entries were evicted to stay within the size bounds.
+   *
+   * @return Number of evictions.
+   */
+  public long getEvictionCount() {
+    return this.evictions.sum();
+  }
+
+  /**
+   * Returns the number of cached entries.
+   *
+   * @return Cache size.
+   */
+  public int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  private Mono<Void> invalidating(String storeName, List<String> keys, Mono<Void> write) {
+    // Invalidate before the write so it is not served stale meanwhile, and after it so reads that raced it
+    // are not kept.
+    return Mono.defer(() -> {
+      keys.forEach(key -> invalidate(storeName, key));
+      return write;
+    }).doFinally(signal -> keys.forEach(key -> invalidate(storeName, key)));
+  }
+
+  private Lookup lookup(CacheKey cacheKey, Type type) {
+    synchronized (this.entries) {
+      long version = this.versions[stripe(cacheKey)];
+      Entry entry = this.entries.get(cacheKey);
+      if (entry == null || !entry.type.equals(type)) {
+        this.misses.increment();
+        return new Lookup(null, null, 0, version);
+      }
+      if (this.nanoTime.getAsLong() - entry.expiresAt < 0) {
+        this.hits.increment();
+        return new Lookup(entry.state, null, 0, version);
+      }
+      return new Lookup(null, entry.state, entry.weight, version);
+    }
+  }
+
+  private static int stripe(CacheKey cacheKey) {
+    return Math.floorMod(cacheKey.hashCode(), VERSION_STRIPES);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> State<T> cache(CacheKey cacheKey, Type type, State<T> fetched, Lookup lookup) {
+    if (fetched.getError() != null) {
+      return fetched;
+    }
+
+    State<T> state = fetched;
+    long entryWeight;
+    if ((lookup.stale != null) && (fetched.getEtag() != null) && fetched.getEtag().equals(lookup.stale.getEtag())) {
+      this.revalidations.increment();
+      state = (State<T>) lookup.stale;
+      entryWeight = lookup.staleWeight;
+    } else {
+      if (lookup.stale != null) {
+        this.misses.increment();
+      }
+      entryWeight = weigh(state);
+    }
+
+    synchronized (this.entries) {
+      if ((this.versions[stripe(cacheKey)] != lookup.version)
+          || (this.maxWeightBytes > 0 && entryWeight > this.maxWeightBytes)) {
+        return state;
+      }
+
+      Entry previous = this.entries.put(
+          cacheKey, new Entry(type, state, entryWeight, this.nanoTime.getAsLong() + this.ttlNanos));
+      if (previous != null) {
+        this.weight -= previous.weight;
+      }
+      this.weight += entryWeight;
+      evict();
+    }
+    return state;
+  }
+
+  private void evict() {
+    Iterator<Entry> eldest = this.entries.values().iterator();
+    while (eldest.hasNext()
+        && (this.entries.size() > this.maxEntries || (this.maxWeightBytes > 0 && this.weight > this.maxWeightBytes))) {
+      this.weight -= eldest.next().weight;
+      eldest.remove();
+      this.evictions.increment();
+    }
+  }
+
+  private long weigh(State<?> state) {
+    return this.maxWeightBytes == 0 ? 0 : this.weigher.applyAsLong(state);
+  }
+
+  private static <T> List<State<T>> collect(List<String> keys, Map<String, State<T>> found) {
+    List<State<T>> result = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      State<T> state = found.get(key);
+      if (state != null) {
+        result.add(state);
+      }
+    }
+    return result;
+  }
+
+  private static final class Lookup {
+
+    private final State<?> fresh;
+
+    private final State<?> stale;
+
+    private final long staleWeight;
+
+    private final long version;
+
+    private Lookup(State<?> fresh, State<?> stale, long staleWeight, long version) {
+      this.fresh = fresh;
+      this.stale = stale;
+      this.staleWeight = staleWeight;
+      this.version = version;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> State<T> fresh() {
+      return (State<T>) this.fresh;
+    }
+  }
+
+  private static final class Entry {
+
+    private final Type type;
+
+    private final State<?> state;
+
+    private final long weight;
+
+    private final long expiresAt;
+
+    private Entry(Type type, State<?> state, long weight, long expiresAt) {
+      this.type = type;
+      this.state = state;
+      this.weight = weight;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  private static final class CacheKey {
+
+    private final String storeName;
+
+    private final String key;
+
+    private CacheKey(String storeName, String key) {
+      this.storeName = storeName;
+      this.key = key;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      CacheKey that = (CacheKey) o;
+      return storeName.equals(that.storeName) && key.equals(that.key);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(storeName, key);
+    }
+  }
+}
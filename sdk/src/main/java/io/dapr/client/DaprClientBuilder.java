@@ -22,7 +22,10 @@ import io.dapr.utils.NetworkUtils;
 import io.dapr.v1.DaprGrpc;
 import io.grpc.ManagedChannel;
 
+import java.net.http.HttpClient;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -53,6 +56,11 @@ public class DaprClientBuilder {
    */
   private ResiliencyOptions resiliencyOptions;
 
+  /**
+   * HttpClient owned by the caller, if any.
+   */
+  private HttpClient httpClient;
+
   /**
    * Creates a constructor for DaprClient.
    *
@@ -112,6 +120,19 @@ public class DaprClientBuilder {
     return this;
   }
 
+  /**
+   * Sets the HttpClient used to call Dapr's HTTP API, so this client owns its connection pool and executor.
+   * The HttpClient is not closed with the DaprClient. If not set, an HttpClient is shared by all clients
+   * built with the same HTTP client properties.
+   *
+   * @param httpClient HttpClient to be used.
+   * @return This instance.
+   */
+  public DaprClientBuilder withHttpClient(HttpClient httpClient) {
+    this.httpClient = httpClient;
+    return this;
+  }
+
   /**
    * Allow to set up properties override for static properties.
    * @param property that we want to override
@@ -163,10 +184,17 @@ public class DaprClientBuilder {
    */
   private DaprClientImpl buildDaprClient() {
     Properties properties = new Properties(this.propertyOverrides);
-    ManagedChannel channel = NetworkUtils.buildGrpcManagedChannel(properties);
-    DaprHttp daprHttp = this.daprHttpBuilder.build(properties);
-    GrpcChannelFacade channelFacade = new GrpcChannelFacade(channel);
-    DaprGrpc.DaprStub asyncStub = DaprGrpc.newStub(channel);
+    int poolSize = properties.getValue(Properties.GRPC_CHANNEL_POOL_SIZE);
+    if (poolSize < 1) {
+      throw new IllegalArgumentException("gRPC channel pool size must be at least 1: " + poolSize);
+    }
+    List<ManagedChannel> channels = new ArrayList<>(poolSize);
+    for (int i = 0; i < poolSize; i++) {
+      channels.add(NetworkUtils.buildGrpcManagedChannel(properties));
+    }
+    DaprHttp daprHttp = this.daprHttpBuilder.build(properties, this.httpClient);
+    GrpcChannelFacade channelFacade = new GrpcChannelFacade(channels);
+    DaprGrpc.DaprStub asyncStub = DaprGrpc.newStub(channelFacade.getGrpcChannel());
 
     return new DaprClientImpl(
         channelFacade,
@@ -175,6 +203,7 @@ public class DaprClientBuilder {
         this.objectSerializer,
         this.stateSerializer,
         this.resiliencyOptions,
-        properties.getValue(Properties.API_TOKEN));
+        properties.getValue(Properties.API_TOKEN),
+        properties.getValue(Properties.INVOKE_METHOD_GRPC_ENABLED));
   }
 }
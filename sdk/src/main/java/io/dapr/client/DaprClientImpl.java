@@ -72,6 +72,7 @@ import io.dapr.internal.grpc.DaprClientGrpcInterceptors;
 import io.dapr.internal.resiliency.RetryPolicy;
 import io.dapr.internal.resiliency.TimeoutPolicy;
 import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DaprStreamingObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.utils.DefaultContentTypeConverter;
 import io.dapr.utils.TypeRef;
@@ -89,6 +90,7 @@ import io.dapr.v1.DaprProtos.RegisteredComponents;
 import io.grpc.Channel;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
+import io.grpc.stub.MetadataUtils;
 import io.grpc.stub.StreamObserver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -101,6 +103,9 @@ import reactor.util.retry.Retry;
 
 import javax.annotation.Nonnull;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -111,6 +116,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -128,6 +134,16 @@ import static io.dapr.internal.exceptions.DaprHttpException.parseHttpStatusCode;
  */
 public class DaprClientImpl extends AbstractDaprClient {
 
+  /**
+   * Whether each streaming serializer class can use its streaming methods, see {@link #isStreaming}.
+   */
+  private static final ClassValue<Boolean> STREAMING_SERIALIZERS = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return hasStreamingOverrides(type);
+    }
+  };
+
   private final Logger logger;
 
   /**
@@ -141,9 +157,9 @@ public class DaprClientImpl extends AbstractDaprClient {
   private final RetryPolicy retryPolicy;
 
   /**
-   * The async gRPC stub.
+   * The async gRPC stub with Dapr interceptors applied once, reused for every call.
    */
-  private final DaprGrpc.DaprStub asyncStub;
+  private final DaprGrpc.DaprStub interceptedAsyncStub;
 
   /**
    * The HTTP client to be used for healthz and HTTP service invocation only.
@@ -152,6 +168,11 @@ public class DaprClientImpl extends AbstractDaprClient {
    */
   private final DaprHttp httpClient;
 
+  /**
+   * Whether invokeMethod goes through the gRPC InvokeService API instead of the HTTP client.
+   */
+  private final boolean invokeMethodOverGrpc;
+
   private final DaprClientGrpcInterceptors grpcInterceptors;
 
   /**
@@ -212,6 +233,31 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer stateSerializer,
       ResiliencyOptions resiliencyOptions,
       String daprApiToken) {
+    this(channel, asyncStub, httpClient, objectSerializer, stateSerializer, resiliencyOptions, daprApiToken, false);
+  }
+
+  /**
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
+   *
+   * @param channel              Facade for the managed GRPC channel
+   * @param asyncStub            async gRPC stub
+   * @param httpClient           client for http service invocation
+   * @param objectSerializer     Serializer for transient request/response objects.
+   * @param stateSerializer      Serializer for state objects.
+   * @param resiliencyOptions    Client-level override for resiliency options.
+   * @param daprApiToken         Dapr API Token.
+   * @param invokeMethodOverGrpc Whether service invocation uses gRPC instead of HTTP.
+   * @see DaprClientBuilder
+   */
+  DaprClientImpl(
+      GrpcChannelFacade channel,
+      DaprGrpc.DaprStub asyncStub,
+      DaprHttp httpClient,
+      DaprObjectSerializer objectSerializer,
+      DaprObjectSerializer stateSerializer,
+      ResiliencyOptions resiliencyOptions,
+      String daprApiToken,
+      boolean invokeMethodOverGrpc) {
     this(
         channel,
         asyncStub,
@@ -220,7 +266,8 @@ public class DaprClientImpl extends AbstractDaprClient {
         stateSerializer,
         new TimeoutPolicy(resiliencyOptions == null ? null : resiliencyOptions.getTimeout()),
         new RetryPolicy(resiliencyOptions == null ? null : resiliencyOptions.getMaxRetries()),
-        daprApiToken);
+        daprApiToken,
+        invokeMethodOverGrpc);
   }
 
   /**
@@ -234,6 +281,7 @@ public class DaprClientImpl extends AbstractDaprClient {
    * @param timeoutPolicy     Client-level timeout policy.
    * @param retryPolicy       Client-level retry policy.
    * @param daprApiToken      Dapr API Token.
+   * @param invokeMethodOverGrpc Whether service invocation uses gRPC instead of HTTP.
    * @see DaprClientBuilder
    */
   private DaprClientImpl(
@@ -244,13 +292,15 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprObjectSerializer stateSerializer,
       TimeoutPolicy timeoutPolicy,
       RetryPolicy retryPolicy,
-      String daprApiToken) {
+      String daprApiToken,
+      boolean invokeMethodOverGrpc) {
     super(objectSerializer, stateSerializer);
     this.channel = channel;
-    this.asyncStub = asyncStub;
     this.httpClient = httpClient;
+    this.invokeMethodOverGrpc = invokeMethodOverGrpc;
     this.retryPolicy = retryPolicy;
     this.grpcInterceptors = new DaprClientGrpcInterceptors(daprApiToken, timeoutPolicy);
+    this.interceptedAsyncStub = asyncStub == null ? null : this.grpcInterceptors.intercept(asyncStub);
     this.logger = LoggerFactory.getLogger(DaprClientImpl.class);
   }
 
@@ -324,7 +374,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprProtos.PublishEventRequest.Builder envelopeBuilder = DaprProtos.PublishEventRequest.newBuilder()
           .setTopic(topic)
           .setPubsubName(pubsubName)
-          .setData(ByteString.copyFrom(objectSerializer.serialize(data)));
+          .setData(serializeToByteString(objectSerializer, data));
 
       // Content-type can be overwritten on a per-request basis.
       // It allows CloudEvents to be handled differently, for example.
@@ -342,7 +392,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       return Mono.deferContextual(
           context ->
               this.<Empty>createMono(
-                  it -> intercept(context, asyncStub).publishEvent(envelopeBuilder.build(), it)
+                  it -> intercept(context).publishEvent(envelopeBuilder.build(), it)
               )
       ).then();
     } catch (Exception ex) {
@@ -414,7 +464,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       return Mono.deferContextual(
           context ->
               this.<DaprProtos.BulkPublishResponse>createMono(
-                  it -> intercept(context, asyncStub).bulkPublishEventAlpha1(envelopeBuilder.build(), it)
+                  it -> intercept(context).bulkPublishEventAlpha1(envelopeBuilder.build(), it)
               )
       ).map(
           it -> {
@@ -454,44 +504,124 @@ public class DaprClientImpl extends AbstractDaprClient {
     return buildSubscription(listener, type, request);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Subscription subscribeToEvents(
+      String pubsubName, String topic, SubscriptionListener<T> listener, TypeRef<T> type,
+      SubscriptionOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("Subscription options cannot be null.");
+    }
+
+    Subscription<T> subscription = new Subscription<>(
+        onStateChange -> EventSubscriberStreamObserver.process(
+            this.interceptedAsyncStub,
+            buildSubscribeRequest(pubsubName, topic),
+            response -> toCloudEvent(response, type),
+            listener,
+            options,
+            onStateChange),
+        listener::onError,
+        listener::onStateChange);
+    subscription.start();
+    return subscription;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Subscription subscribeToEvents(
+      String pubsubName, String topic, BulkSubscriptionListener<T> listener, TypeRef<T> type,
+      SubscriptionOptions options) {
+    if (options == null) {
+      throw new IllegalArgumentException("Subscription options cannot be null.");
+    }
+
+    Subscription<T> subscription = new Subscription<>(
+        onStateChange -> EventSubscriberStreamObserver.processBulk(
+            this.interceptedAsyncStub,
+            buildSubscribeRequest(pubsubName, topic),
+            response -> toCloudEvent(response, type),
+            listener,
+            options,
+            onStateChange),
+        listener::onError,
+        listener::onStateChange);
+    subscription.start();
+    return subscription;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<SubscribedEvent<T>> subscribeToEvents(String pubsubName, String topic, TypeRef<T> type) {
+    return EventSubscriberStreamObserver.subscribe(
+        this.interceptedAsyncStub, buildSubscribeRequest(pubsubName, topic), response -> toCloudEvent(response, type));
+  }
+
+  private static DaprProtos.SubscribeTopicEventsRequestAlpha1 buildSubscribeRequest(String pubsubName, String topic) {
+    DaprProtos.SubscribeTopicEventsRequestInitialAlpha1 initialRequest =
+        DaprProtos.SubscribeTopicEventsRequestInitialAlpha1.newBuilder()
+            .setTopic(topic)
+            .setPubsubName(pubsubName)
+            .build();
+    return DaprProtos.SubscribeTopicEventsRequestAlpha1.newBuilder()
+        .setInitialRequest(initialRequest)
+        .build();
+  }
+
   @Nonnull
   private <T> Subscription<T> buildSubscription(
       SubscriptionListener<T> listener,
       TypeRef<T> type,
       DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
-    var interceptedStub = this.grpcInterceptors.intercept(this.asyncStub);
-    Subscription<T> subscription = new Subscription<>(interceptedStub, request, listener, response -> {
-      if (response.getEventMessage() == null) {
-        return null;
-      }
-
-      var message = response.getEventMessage();
-      if ((message.getPubsubName() == null) || message.getPubsubName().isEmpty()) {
-        return null;
-      }
-
-      try {
-        CloudEvent<T> cloudEvent = new CloudEvent<>();
-        T object = null;
-        if (type != null) {
-          object = DaprClientImpl.this.objectSerializer.deserialize(message.getData().toByteArray(), type);
-        }
-        cloudEvent.setData(object);
-        cloudEvent.setDatacontenttype(message.getDataContentType());
-        cloudEvent.setId(message.getId());
-        cloudEvent.setTopic(message.getTopic());
-        cloudEvent.setSpecversion(message.getSpecVersion());
-        cloudEvent.setType(message.getType());
-        cloudEvent.setPubsubName(message.getPubsubName());
-        return cloudEvent;
-      } catch (IOException e) {
-        throw new RuntimeException(e);
-      }
-    });
+    Subscription<T> subscription = new Subscription<>(
+        this.interceptedAsyncStub, request, listener, response -> toCloudEvent(response, type));
     subscription.start();
     return subscription;
   }
 
+  /**
+   * Converts an event received from a streaming subscription.
+   *
+   * @param response Message received from the sidecar.
+   * @param type     Type for object deserialization.
+   * @param <T>      Type of object deserialization.
+   * @return Event received, or null if the message is not an event.
+   */
+  private <T> CloudEvent<T> toCloudEvent(DaprProtos.SubscribeTopicEventsResponseAlpha1 response, TypeRef<T> type) {
+    if (response.getEventMessage() == null) {
+      return null;
+    }
+
+    var message = response.getEventMessage();
+    if ((message.getPubsubName() == null) || message.getPubsubName().isEmpty()) {
+      return null;
+    }
+
+    try {
+      CloudEvent<T> cloudEvent = new CloudEvent<>();
+      T object = null;
+      if (type != null) {
+        object = deserializeFromByteString(this.objectSerializer, message.getData(), type);
+      }
+      cloudEvent.setData(object);
+      cloudEvent.setDatacontenttype(message.getDataContentType());
+      cloudEvent.setId(message.getId());
+      cloudEvent.setTopic(message.getTopic());
+      cloudEvent.setSpecversion(message.getSpecVersion());
+      cloudEvent.setType(message.getType());
+      cloudEvent.setPubsubName(message.getPubsubName());
+      return cloudEvent;
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   @Override
   public <T> Mono<T> invokeMethod(InvokeMethodRequest invokeMethodRequest, TypeRef<T> type) {
     try {
@@ -514,17 +644,22 @@ public class DaprClientImpl extends AbstractDaprClient {
         throw new IllegalArgumentException("Method name cannot be null or empty.");
       }
 
+      final Map<String, String> headers = new HashMap<>();
+      headers.putAll(httpExtension.getHeaders());
+      if (metadata != null) {
+        headers.putAll(metadata);
+      }
+      if (this.invokeMethodOverGrpc) {
+        String grpcContentType = (contentType != null && !contentType.isEmpty())
+            ? contentType : objectSerializer.getContentType();
+        return invokeMethodOverGrpc(appId, method, request, httpExtension, grpcContentType, headers, type);
+      }
 
       String[] methodSegments = method.split("/");
 
       List<String> pathSegments = new ArrayList<>(Arrays.asList(DaprHttp.API_VERSION, "invoke", appId, "method"));
       pathSegments.addAll(Arrays.asList(methodSegments));
 
-      final Map<String, String> headers = new HashMap<>();
-      headers.putAll(httpExtension.getHeaders());
-      if (metadata != null) {
-        headers.putAll(metadata);
-      }
       byte[] serializedRequestBody = objectSerializer.serialize(request);
       if (contentType != null && !contentType.isEmpty()) {
         headers.put(io.dapr.client.domain.Metadata.CONTENT_TYPE, contentType);
@@ -541,13 +676,66 @@ public class DaprClientImpl extends AbstractDaprClient {
     }
   }
 
+  private <T> Mono<T> invokeMethodOverGrpc(
+      String appId,
+      String method,
+      Object request,
+      HttpExtension httpExtension,
+      String contentType,
+      Map<String, String> headers,
+      TypeRef<T> type) throws IOException {
+    CommonProtos.InvokeRequest.Builder invokeRequest = CommonProtos.InvokeRequest.newBuilder()
+        .setMethod(method)
+        .setContentType(contentType)
+        .setHttpExtension(CommonProtos.HTTPExtension.newBuilder()
+            .setVerb(CommonProtos.HTTPExtension.Verb.valueOf(httpExtension.getMethod().name()))
+            .setQuerystring(httpExtension.encodeQueryString())
+            .build());
+    ByteString data = serializeToByteString(objectSerializer, request);
+    if (data != null) {
+      invokeRequest.setData(Any.newBuilder().setValue(data).build());
+    }
+    DaprProtos.InvokeServiceRequest envelope = DaprProtos.InvokeServiceRequest.newBuilder()
+        .setId(appId)
+        .setMessage(invokeRequest)
+        .build();
+
+    Metadata requestHeaders = toGrpcHeaders(headers);
+
+    return Mono.deferContextual(
+        context -> this.<CommonProtos.InvokeResponse>createMono(
+            it -> {
+              DaprGrpc.DaprStub stub = intercept(context);
+              if (!requestHeaders.keys().isEmpty()) {
+                stub = stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(requestHeaders));
+              }
+              stub.invokeService(envelope, it);
+            }
+        )
+    ).flatMap(it -> {
+      if (type == null) {
+        return Mono.empty();
+      }
+      try {
+        return Mono.justOrEmpty(deserializeFromByteString(objectSerializer, it.getData().getValue(), type));
+      } catch (IOException e) {
+        throw DaprException.propagate(e);
+      }
+    });
+  }
+
   private <T> Mono<T> getMonoForHttpResponse(TypeRef<T> type, DaprHttp.Response r) {
     try {
       if (type == null) {
         return Mono.empty();
       }
 
-      T object = objectSerializer.deserialize(r.getBody(), type);
+      T object;
+      if (isStreaming(objectSerializer)) {
+        object = ((DaprStreamingObjectSerializer) objectSerializer).deserializeFrom(r.getBodyBuffer(), type);
+      } else {
+        object = objectSerializer.deserialize(r.getBody(), type);
+      }
       if (object == null) {
         return Mono.empty();
       }
@@ -576,11 +764,11 @@ public class DaprClientImpl extends AbstractDaprClient {
         throw new IllegalArgumentException("Binding operation cannot be null or empty.");
       }
 
-      byte[] byteData = objectSerializer.serialize(data);
+      ByteString byteData = serializeToByteString(objectSerializer, data);
       DaprProtos.InvokeBindingRequest.Builder builder = DaprProtos.InvokeBindingRequest.newBuilder()
           .setName(name).setOperation(operation);
       if (byteData != null) {
-        builder.setData(ByteString.copyFrom(byteData));
+        builder.setData(byteData);
       }
       if (metadata != null) {
         builder.putAllMetadata(metadata);
@@ -591,7 +779,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       return Mono.deferContextual(
           context -> this.<DaprProtos.InvokeBindingResponse>createMono(
               responseMetadata,
-              it -> intercept(context, asyncStub, m -> responseMetadata.merge(m)).invokeBinding(envelope, it)
+              it -> intercept(context, m -> responseMetadata.merge(m)).invokeBinding(envelope, it)
           )
       ).flatMap(
           it -> {
@@ -607,7 +795,7 @@ public class DaprClientImpl extends AbstractDaprClient {
               if (type == null) {
                 return Mono.empty();
               }
-              return Mono.justOrEmpty(objectSerializer.deserialize(it.getData().toByteArray(), type));
+              return Mono.justOrEmpty(deserializeFromByteString(objectSerializer, it.getData(), type));
             } catch (IOException e) {
               throw DaprException.propagate(e);
             }
@@ -650,7 +838,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       return Mono.deferContextual(
           context ->
               this.<DaprProtos.GetStateResponse>createMono(
-                  it -> intercept(context, asyncStub).getState(envelope, it)
+                  it -> intercept(context).getState(envelope, it)
               )
       ).map(
           it -> {
@@ -697,7 +885,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprProtos.GetBulkStateRequest envelope = builder.build();
 
       return Mono.deferContextual(
-          context -> this.<DaprProtos.GetBulkStateResponse>createMono(it -> intercept(context, asyncStub)
+          context -> this.<DaprProtos.GetBulkStateResponse>createMono(it -> intercept(context)
               .getBulkState(envelope, it)
           )
       ).map(
@@ -735,9 +923,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
     T value = null;
     if (type != null) {
-      ByteString payload = item.getData();
-      byte[] data = payload == null ? null : payload.toByteArray();
-      value = stateSerializer.deserialize(data, type);
+      value = deserializeFromByteString(stateSerializer, item.getData(), type);
     }
 
     return new State<>(key, value, etag, item.getMetadataMap(), null);
@@ -748,11 +934,9 @@ public class DaprClientImpl extends AbstractDaprClient {
       String requestedKey,
       StateOptions stateOptions,
       TypeRef<T> type) throws IOException {
-    ByteString payload = response.getData();
-    byte[] data = payload == null ? null : payload.toByteArray();
     T value = null;
     if (type != null) {
-      value = stateSerializer.deserialize(data, type);
+      value = deserializeFromByteString(stateSerializer, response.getData(), type);
     }
 
     String etag = response.getEtag();
@@ -790,7 +974,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprProtos.ExecuteStateTransactionRequest req = builder.build();
 
       return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub).executeStateTransaction(req, it))
+          context -> this.<Empty>createMono(it -> intercept(context).executeStateTransaction(req, it))
       ).then();
     } catch (Exception e) {
       return DaprException.wrapMono(e);
@@ -816,7 +1000,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprProtos.SaveStateRequest req = builder.build();
 
       return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub).saveState(req, it))
+          context -> this.<Empty>createMono(it -> intercept(context).saveState(req, it))
       ).then();
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
@@ -824,7 +1008,7 @@ public class DaprClientImpl extends AbstractDaprClient {
   }
 
   private <T> CommonProtos.StateItem.Builder buildStateRequest(State<T> state) throws IOException {
-    byte[] bytes = stateSerializer.serialize(state.getValue());
+    ByteString bytes = serializeToByteString(stateSerializer, state.getValue());
 
     CommonProtos.StateItem.Builder stateBuilder = CommonProtos.StateItem.newBuilder();
     if (state.getEtag() != null) {
@@ -834,7 +1018,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       stateBuilder.putAllMetadata(state.getMetadata());
     }
     if (bytes != null) {
-      stateBuilder.setValue(ByteString.copyFrom(bytes));
+      stateBuilder.setValue(bytes);
     }
     stateBuilder.setKey(state.getKey());
     CommonProtos.StateOptions.Builder optionBuilder = null;
@@ -854,6 +1038,117 @@ public class DaprClientImpl extends AbstractDaprClient {
     return stateBuilder;
   }
 
+  /**
+   * Converts HTTP headers into gRPC metadata, which Dapr forwards to the app. Content type has its own field.
+   * Keys ending in "-bin" carry their value as UTF-8 bytes, and keys gRPC does not accept are skipped.
+   *
+   * @param headers HTTP headers.
+   * @return gRPC metadata.
+   */
+  private Metadata toGrpcHeaders(Map<String, String> headers) {
+    Metadata grpcHeaders = new Metadata();
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      String key = header.getKey();
+      if ((key == null) || (header.getValue() == null)
+          || io.dapr.client.domain.Metadata.CONTENT_TYPE.equalsIgnoreCase(key)) {
+        continue;
+      }
+
+      String name = key.toLowerCase(Locale.ROOT);
+      try {
+        if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+          grpcHeaders.put(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER),
+              header.getValue().getBytes(StandardCharsets.UTF_8));
+        } else {
+          grpcHeaders.put(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER), header.getValue());
+        }
+      } catch (IllegalArgumentException e) {
+        logger.warn("Skipping header {}, it is not a valid gRPC metadata key.", key);
+      }
+    }
+    return grpcHeaders;
+  }
+
+  /**
+   * Checks whether the serializer's streaming methods can be used in place of its byte[] methods.
+   *
+   * @param serializer Serializer to be used.
+   * @return True if the streaming methods can be used.
+   */
+  private static boolean isStreaming(DaprObjectSerializer serializer) {
+    return (serializer instanceof DaprStreamingObjectSerializer) && STREAMING_SERIALIZERS.get(serializer.getClass());
+  }
+
+  /**
+   * Checks whether the byte[] methods of a streaming serializer class are declared no further down the
+   * hierarchy than their streaming counterparts. A subclass that only overrides serialize() or deserialize()
+   * would otherwise be bypassed by the inherited streaming methods.
+   *
+   * @param type Streaming serializer class.
+   * @return True if the streaming methods can be used.
+   */
+  private static boolean hasStreamingOverrides(Class<?> type) {
+    try {
+      Class<?> serialize = type.getMethod("serialize", Object.class).getDeclaringClass();
+      Class<?> serializeTo = type.getMethod("serializeTo", Object.class, OutputStream.class).getDeclaringClass();
+      Class<?> deserialize = type.getMethod("deserialize", byte[].class, TypeRef.class).getDeclaringClass();
+      Class<?> deserializeFrom = type.getMethod("deserializeFrom", ByteBuffer.class, TypeRef.class)
+          .getDeclaringClass();
+      return !isOverriddenBelow(serialize, serializeTo) && !isOverriddenBelow(deserialize, deserializeFrom);
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean isOverriddenBelow(Class<?> declaring, Class<?> other) {
+    return (declaring != other) && other.isAssignableFrom(declaring);
+  }
+
+  /**
+   * Serializes the value into a ByteString, writing straight into the protobuf buffer when the serializer
+   * supports streaming and falling back to a copy of its byte[] output otherwise.
+   *
+   * @param serializer Serializer to be used.
+   * @param value Value to be serialized.
+   * @return Serialized value, or null if the value serializes to null.
+   * @throws IOException If the value cannot be serialized.
+   */
+  private static ByteString serializeToByteString(DaprObjectSerializer serializer, Object value) throws IOException {
+    if (isStreaming(serializer)) {
+      ByteString.Output output = ByteString.newOutput();
+      if (!((DaprStreamingObjectSerializer) serializer).serializeTo(value, output)) {
+        return null;
+      }
+      return output.toByteString();
+    }
+
+    byte[] bytes = serializer.serialize(value);
+    return bytes == null ? null : ByteString.copyFrom(bytes);
+  }
+
+  /**
+   * Deserializes a ByteString, reading from a read-only view when the serializer supports streaming and
+   * falling back to a byte[] copy otherwise.
+   *
+   * @param serializer Serializer to be used.
+   * @param payload Payload to be deserialized, may be null.
+   * @param type Type of the value.
+   * @param <T> Type of the value.
+   * @return Deserialized value.
+   * @throws IOException If the payload cannot be deserialized.
+   */
+  private static <T> T deserializeFromByteString(
+      DaprObjectSerializer serializer,
+      ByteString payload,
+      TypeRef<T> type) throws IOException {
+    if (isStreaming(serializer)) {
+      ByteBuffer data = payload == null ? null : payload.asReadOnlyByteBuffer();
+      return ((DaprStreamingObjectSerializer) serializer).deserializeFrom(data, type);
+    }
+
+    return serializer.deserialize(payload == null ? null : payload.toByteArray(), type);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -900,7 +1195,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprProtos.DeleteStateRequest req = builder.build();
 
       return Mono.deferContextual(
-          context -> this.<Empty>createMono(it -> intercept(context, asyncStub).deleteState(req, it))
+          context -> this.<Empty>createMono(it -> intercept(context).deleteState(req, it))
       ).then();
     } catch (Exception ex) {
       return DaprException.wrapMono(ex);
@@ -936,7 +1231,7 @@ public class DaprClientImpl extends AbstractDaprClient {
     DaprProtos.GetSecretRequest req = requestBuilder.build();
 
     return Mono.deferContextual(
-        context -> this.<DaprProtos.GetSecretResponse>createMono(it -> intercept(context, asyncStub).getSecret(req, it))
+        context -> this.<DaprProtos.GetSecretResponse>createMono(it -> intercept(context).getSecret(req, it))
     ).map(DaprProtos.GetSecretResponse::getDataMap);
   }
 
@@ -963,7 +1258,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       return Mono.deferContextual(
           context ->
               this.<DaprProtos.GetBulkSecretResponse>createMono(
-                  it -> intercept(context, asyncStub).getBulkSecret(envelope, it)
+                  it -> intercept(context).getBulkSecret(envelope, it)
               )
       ).map(it -> {
         Map<String, DaprProtos.SecretResponse> secretsMap = it.getDataMap();
@@ -1014,7 +1309,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       return Mono.deferContextual(
               context -> this.<DaprProtos.TryLockResponse>createMono(
-                      it -> intercept(context, asyncStub).tryLockAlpha1(tryLockRequest, it)
+                      it -> intercept(context).tryLockAlpha1(tryLockRequest, it)
               )
       ).flatMap(response -> {
         try {
@@ -1057,7 +1352,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       return Mono.deferContextual(
               context -> this.<DaprProtos.UnlockResponse>createMono(
-                      it -> intercept(context, asyncStub).unlockAlpha1(unlockRequest, it)
+                      it -> intercept(context).unlockAlpha1(unlockRequest, it)
               )
       ).flatMap(response -> {
         try {
@@ -1106,7 +1401,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       return Mono.deferContextual(
           context -> this.<DaprProtos.QueryStateResponse>createMono(
-              it -> intercept(context, asyncStub).queryStateAlpha1(envelope, it)
+              it -> intercept(context).queryStateAlpha1(envelope, it)
           )
       ).map(
           it -> {
@@ -1137,11 +1432,9 @@ public class DaprClientImpl extends AbstractDaprClient {
     if (!Strings.isNullOrEmpty(error)) {
       return new QueryStateItem<>(key, null, error);
     }
-    ByteString payload = item.getData();
-    byte[] data = payload == null ? null : payload.toByteArray();
     T value = null;
     if (type != null) {
-      value = stateSerializer.deserialize(data, type);
+      value = deserializeFromByteString(stateSerializer, item.getData(), type);
     }
 
     String etag = item.getEtag();
@@ -1178,7 +1471,7 @@ public class DaprClientImpl extends AbstractDaprClient {
     DaprProtos.ShutdownRequest shutdownRequest = DaprProtos.ShutdownRequest.newBuilder().build();
     return Mono.deferContextual(
         context -> this.<Empty>createMono(
-            it -> intercept(context, asyncStub).shutdown(shutdownRequest, it))
+            it -> intercept(context).shutdown(shutdownRequest, it))
     ).then();
   }
 
@@ -1213,7 +1506,7 @@ public class DaprClientImpl extends AbstractDaprClient {
     return Mono.deferContextual(
         context ->
             this.<DaprProtos.GetConfigurationResponse>createMono(
-                it -> intercept(context, asyncStub).getConfiguration(envelope, it)
+                it -> intercept(context).getConfiguration(envelope, it)
             )
     ).map(
         it -> {
@@ -1253,7 +1546,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       DaprProtos.SubscribeConfigurationRequest envelope = builder.build();
       return this.<DaprProtos.SubscribeConfigurationResponse>createFlux(
-          it -> intercept(null, asyncStub).subscribeConfiguration(envelope, it)
+          it -> intercept(null).subscribeConfiguration(envelope, it)
       ).map(
           it -> {
             Map<String, ConfigurationItem> configMap = new HashMap<>();
@@ -1293,7 +1586,7 @@ public class DaprClientImpl extends AbstractDaprClient {
       DaprProtos.UnsubscribeConfigurationRequest envelope = builder.build();
 
       return this.<DaprProtos.UnsubscribeConfigurationResponse>createMono(
-          it -> intercept(null, asyncStub).unsubscribeConfiguration(envelope, it)
+          it -> intercept(null).unsubscribeConfiguration(envelope, it)
       ).map(
           it -> new UnsubscribeConfigurationResponse(it.getOk(), it.getMessage())
       );
@@ -1338,7 +1631,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       Mono<DaprProtos.ScheduleJobResponse> scheduleJobResponseMono =
           Mono.deferContextual(context -> this.createMono(
-                  it -> intercept(context, asyncStub)
+                  it -> intercept(context)
                       .scheduleJobAlpha1(DaprProtos.ScheduleJobRequest.newBuilder()
                           .setJob(scheduleJobRequestBuilder.build()).build(), it)
               )
@@ -1359,7 +1652,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       Mono<DaprProtos.GetJobResponse> getJobResponseMono =
           Mono.deferContextual(context -> this.createMono(
-                  it -> intercept(context, asyncStub)
+                  it -> intercept(context)
                       .getJobAlpha1(DaprProtos.GetJobRequest.newBuilder()
                           .setName(getJobRequest.getName()).build(), it)
               )
@@ -1397,7 +1690,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       Mono<DaprProtos.DeleteJobResponse> deleteJobResponseMono =
           Mono.deferContextual(context -> this.createMono(
-                  it -> intercept(context, asyncStub)
+                  it -> intercept(context)
                       .deleteJobAlpha1(DaprProtos.DeleteJobRequest.newBuilder()
                           .setName(deleteJobRequest.getName()).build(), it)
               )
@@ -1459,27 +1752,24 @@ public class DaprClientImpl extends AbstractDaprClient {
   }
 
   /**
-   * Populates GRPC client with interceptors for telemetry.
+   * Binds per-call values for telemetry to the GRPC client, which has interceptors applied at construction.
    *
    * @param context Reactor's context.
-   * @param client  GRPC client for Dapr.
-   * @return Client after adding interceptors.
+   * @return Client bound to the call's values.
    */
-  private DaprGrpc.DaprStub intercept(ContextView context, DaprGrpc.DaprStub client) {
-    return this.grpcInterceptors.intercept(client, context);
+  private DaprGrpc.DaprStub intercept(ContextView context) {
+    return this.intercept(context, null);
   }
 
   /**
-   * Populates GRPC client with interceptors for telemetry.
+   * Binds per-call values for telemetry to the GRPC client, which has interceptors applied at construction.
    *
    * @param context Reactor's context.
-   * @param client  GRPC client for Dapr.
    * @param metadataConsumer Consumer of gRPC metadata.
-   * @return Client after adding interceptors.
+   * @return Client bound to the call's values.
    */
-  private DaprGrpc.DaprStub intercept(
-      ContextView context, DaprGrpc.DaprStub client, Consumer<Metadata> metadataConsumer) {
-    return this.grpcInterceptors.intercept(client, context, metadataConsumer);
+  private DaprGrpc.DaprStub intercept(ContextView context, Consumer<Metadata> metadataConsumer) {
+    return this.grpcInterceptors.withContext(this.interceptedAsyncStub, context, metadataConsumer);
   }
 
   private <T> Mono<T> createMono(Consumer<StreamObserver<T>> consumer) {
@@ -1544,7 +1834,7 @@ public class DaprClientImpl extends AbstractDaprClient {
     DaprProtos.GetMetadataRequest metadataRequest = DaprProtos.GetMetadataRequest.newBuilder().build();
     return Mono.deferContextual(
         context -> this.<DaprProtos.GetMetadataResponse>createMono(
-            it -> intercept(context, asyncStub).getMetadata(metadataRequest, it)))
+            it -> intercept(context).getMetadata(metadataRequest, it)))
         .map(
             it -> {
               try {
@@ -1591,7 +1881,7 @@ public class DaprClientImpl extends AbstractDaprClient {
 
       Mono<DaprProtos.ConversationResponse> conversationResponseMono = Mono.deferContextual(
           context -> this.createMono(
-              it -> intercept(context, asyncStub)
+              it -> intercept(context)
                   .converseAlpha1(protosConversationRequestBuilder.build(), it)
           )
       );
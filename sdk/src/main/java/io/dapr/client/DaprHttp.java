@@ -28,6 +28,7 @@ import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
@@ -40,6 +41,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 public class DaprHttp implements AutoCloseable {
 
@@ -101,15 +105,44 @@ public class DaprHttp implements AutoCloseable {
      * @param statusCode The status code of the http response.
      */
     public Response(byte[] body, Map<String, String> headers, int statusCode) {
-      this.body = body == null ? EMPTY_BYTES : Arrays.copyOf(body, body.length);
+      this(body, headers, statusCode, true);
+    }
+
+    private Response(byte[] body, Map<String, String> headers, int statusCode, boolean copyBody) {
+      if (body == null) {
+        this.body = EMPTY_BYTES;
+      } else {
+        this.body = copyBody ? Arrays.copyOf(body, body.length) : body;
+      }
       this.headers = headers == null ? null : Collections.unmodifiableMap(headers);
       this.statusCode = statusCode;
     }
 
+    /**
+     * Represents a HTTP response, taking ownership of the body without copying it.
+     *
+     * @param body       The body of the http response, not shared with anyone else.
+     * @param headers    The headers of the http response.
+     * @param statusCode The status code of the http response.
+     * @return Response over the given body.
+     */
+    private static Response ofBuffer(byte[] body, Map<String, String> headers, int statusCode) {
+      return new Response(body, headers, statusCode, false);
+    }
+
     public byte[] getBody() {
       return Arrays.copyOf(this.body, this.body.length);
     }
 
+    /**
+     * Returns a read-only view of the body, without copying it.
+     *
+     * @return Read-only buffer over the body of the http response.
+     */
+    public ByteBuffer getBodyBuffer() {
+      return ByteBuffer.wrap(this.body).asReadOnlyBuffer();
+    }
+
     public Map<String, String> getHeaders() {
       return headers;
     }
@@ -119,6 +152,62 @@ public class DaprHttp implements AutoCloseable {
     }
   }
 
+  /**
+   * Snapshot of the connection usage of a {@link DaprHttp} instance.
+   *
+   * <p>The JDK HttpClient does not expose its connection pool, so reuse can only be estimated from what is
+   * observable: HTTP/2 responses usually share one multiplexed connection, and HTTP/1.1 never needs more
+   * connections than the peak number of requests in flight.
+   */
+  public static class Metrics {
+    private final long requests;
+    private final long http2Responses;
+    private final long http1Responses;
+    private final int inFlightRequests;
+    private final int peakInFlightRequests;
+
+    Metrics(long requests, long http2Responses, long http1Responses, int inFlightRequests, int peakInFlightRequests) {
+      this.requests = requests;
+      this.http2Responses = http2Responses;
+      this.http1Responses = http1Responses;
+      this.inFlightRequests = inFlightRequests;
+      this.peakInFlightRequests = peakInFlightRequests;
+    }
+
+    public long getRequests() {
+      return requests;
+    }
+
+    public long getHttp2Responses() {
+      return http2Responses;
+    }
+
+    public long getHttp1Responses() {
+      return http1Responses;
+    }
+
+    public int getInFlightRequests() {
+      return inFlightRequests;
+    }
+
+    public int getPeakInFlightRequests() {
+      return peakInFlightRequests;
+    }
+
+    /**
+     * Returns an estimate of the completed requests that were served over an already open connection.
+     * It assumes a single HTTP/2 connection, so it is too high when the HttpClient opened more, for example
+     * after a connection was closed by the sidecar.
+     *
+     * @return Estimated number of requests that reused a connection.
+     */
+    public long getReusedConnectionRequests() {
+      long http2Reused = Math.max(0, http2Responses - 1);
+      long http1Reused = Math.max(0, http1Responses - peakInFlightRequests);
+      return http2Reused + http1Reused;
+    }
+  }
+
   /**
    * Defines the standard application/json type for HTTP calls in Dapr.
    */
@@ -154,6 +243,26 @@ public class DaprHttp implements AutoCloseable {
    */
   private final HttpClient httpClient;
 
+  /**
+   * Connection usage counters, see {@link Metrics}.
+   */
+  private final LongAdder requests = new LongAdder();
+
+  private final LongAdder http2Responses = new LongAdder();
+
+  private final LongAdder http1Responses = new LongAdder();
+
+  private final AtomicInteger inFlightRequests = new AtomicInteger();
+
+  private final AtomicInteger peakInFlightRequests = new AtomicInteger();
+
+  /**
+   * Releases resources held for this instance, run once on {@link #close()}.
+   */
+  private final Runnable onClose;
+
+  private final AtomicBoolean closed = new AtomicBoolean();
+
   /**
    * Creates a new instance of {@link DaprHttp}.
    *
@@ -163,10 +272,21 @@ public class DaprHttp implements AutoCloseable {
    * @param httpClient RestClient used for all API calls in this new instance.
    */
   DaprHttp(String hostname, int port, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
-    this.uri = URI.create(DEFAULT_HTTP_SCHEME + "://" + hostname + ":" + port);
-    this.daprApiToken = daprApiToken;
-    this.readTimeout = readTimeout;
-    this.httpClient = httpClient;
+    this(hostname, port, daprApiToken, readTimeout, httpClient, () -> { });
+  }
+
+  /**
+   * Creates a new instance of {@link DaprHttp}.
+   *
+   * @param hostname   Hostname for calling Dapr. (e.g. "127.0.0.1")
+   * @param port       Port for calling Dapr. (e.g. 3500)
+   * @param readTimeout HTTP request read timeout
+   * @param httpClient RestClient used for all API calls in this new instance.
+   * @param onClose    Releases the resources held for this instance, run once on close.
+   */
+  DaprHttp(
+      String hostname, int port, String daprApiToken, Duration readTimeout, HttpClient httpClient, Runnable onClose) {
+    this(DEFAULT_HTTP_SCHEME + "://" + hostname + ":" + port, daprApiToken, readTimeout, httpClient, onClose);
   }
 
   /**
@@ -177,10 +297,23 @@ public class DaprHttp implements AutoCloseable {
    * @param httpClient RestClient used for all API calls in this new instance.
    */
   DaprHttp(String uri, String daprApiToken, Duration readTimeout, HttpClient httpClient) {
+    this(uri, daprApiToken, readTimeout, httpClient, () -> { });
+  }
+
+  /**
+   * Creates a new instance of {@link DaprHttp}.
+   *
+   * @param uri        Endpoint for calling Dapr.
+   * @param readTimeout HTTP request read timeout
+   * @param httpClient RestClient used for all API calls in this new instance.
+   * @param onClose    Releases the resources held for this instance, run once on close.
+   */
+  DaprHttp(String uri, String daprApiToken, Duration readTimeout, HttpClient httpClient, Runnable onClose) {
     this.uri = URI.create(uri);
     this.daprApiToken = daprApiToken;
     this.readTimeout = readTimeout;
     this.httpClient = httpClient;
+    this.onClose = onClose;
   }
 
   /**
@@ -251,12 +384,14 @@ public class DaprHttp implements AutoCloseable {
   }
 
   /**
-   * Shutdown call is not necessary for HttpClient.
-   * @see HttpClient
+   * Releases the HttpClient if it was created for this instance and is no longer shared. An HttpClient
+   * given by the application is left open.
    */
   @Override
   public void close() {
-    // No code needed
+    if (this.closed.compareAndSet(false, true)) {
+      this.onClose.run();
+    }
   }
 
   /**
@@ -310,10 +445,39 @@ public class DaprHttp implements AutoCloseable {
 
     HttpRequest request = requestBuilder.timeout(readTimeout).build();
 
+    requests.increment();
+    peakInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
     return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        .whenComplete((response, error) -> recordResponse(response))
         .thenApply(this::createResponse);
   }
 
+  private void recordResponse(HttpResponse<?> response) {
+    inFlightRequests.decrementAndGet();
+    if (response == null) {
+      return;
+    }
+    if (response.version() == HttpClient.Version.HTTP_2) {
+      http2Responses.increment();
+    } else if (response.version() == HttpClient.Version.HTTP_1_1) {
+      http1Responses.increment();
+    }
+  }
+
+  /**
+   * Returns a snapshot of the connection usage of this instance.
+   *
+   * @return Connection usage metrics.
+   */
+  public Metrics getMetrics() {
+    return new Metrics(
+        requests.sum(),
+        http2Responses.sum(),
+        http1Responses.sum(),
+        inFlightRequests.get(),
+        peakInFlightRequests.get());
+  }
+
   private static String getContentType(Map<String, String> headers) {
     String result = headers != null ? headers.get(Metadata.CONTENT_TYPE) : null;
 
@@ -434,7 +598,8 @@ public class DaprHttp implements AutoCloseable {
     Map<String, String> responseHeaders = new HashMap<>();
     httpResponse.headers().map().forEach((k, v) -> responseHeaders.put(k, v.isEmpty() ? null : v.get(0)));
 
-    return new Response(body, responseHeaders, httpStatusCode);
+    // The body was just allocated by the HTTP client, so it is handed over without a defensive copy.
+    return Response.ofBuffer(body, responseHeaders, httpStatusCode);
   }
 
   /**
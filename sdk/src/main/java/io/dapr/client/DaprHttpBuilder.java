@@ -17,12 +17,17 @@ import io.dapr.config.Properties;
 
 import java.net.http.HttpClient;
 import java.time.Duration;
-import java.util.concurrent.Executor;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import static io.dapr.config.Properties.API_TOKEN;
+import static io.dapr.config.Properties.HTTP_CLIENT_HTTP2_ENABLED;
 import static io.dapr.config.Properties.HTTP_CLIENT_MAX_REQUESTS;
 import static io.dapr.config.Properties.HTTP_CLIENT_READ_TIMEOUT_SECONDS;
+import static io.dapr.config.Properties.HTTP_CLIENT_VIRTUAL_THREADS_ENABLED;
 import static io.dapr.config.Properties.HTTP_ENDPOINT;
 import static io.dapr.config.Properties.HTTP_PORT;
 import static io.dapr.config.Properties.SIDECAR_IP;
@@ -32,7 +37,10 @@ import static io.dapr.config.Properties.SIDECAR_IP;
  */
 public class DaprHttpBuilder {
 
-  private static volatile HttpClient HTTP_CLIENT;
+  /**
+   * HTTP clients shared by every open DaprHttp built with the same client settings.
+   */
+  private static final Map<HttpClientSettings, SharedHttpClient> HTTP_CLIENTS = new HashMap<>();
 
   /**
    * Static lock object.
@@ -46,39 +54,166 @@ public class DaprHttpBuilder {
    * @throws IllegalStateException if any required field is missing
    */
   public DaprHttp build(Properties properties) {
-    return buildDaprHttp(properties);
+    return build(properties, null);
   }
 
   /**
-   * Creates an instance of the HTTP Client.
+   * Build an instance of the Http client based on the provided setup, using the given HttpClient.
    * @param properties to configure the DaprHttp client
-   * @return Instance of {@link DaprHttp}
+   * @param httpClient HttpClient owned by the caller, or null to use one shared with same settings
+   * @return an instance of {@link DaprHttp}
+   * @throws IllegalStateException if any required field is missing
    */
-  private DaprHttp buildDaprHttp(Properties properties) {
-    if (HTTP_CLIENT == null) {
-      synchronized (LOCK) {
-        if (HTTP_CLIENT == null) {
-          int maxRequests = properties.getValue(HTTP_CLIENT_MAX_REQUESTS);
-          Executor executor = Executors.newFixedThreadPool(maxRequests);
-          HTTP_CLIENT = HttpClient.newBuilder()
-              .executor(executor)
-              .version(HttpClient.Version.HTTP_1_1)
-              .build();
-        }
-      }
+  public DaprHttp build(Properties properties, HttpClient httpClient) {
+    if (httpClient != null) {
+      return buildDaprHttp(properties, httpClient, () -> { });
     }
 
+    HttpClientSettings settings = new HttpClientSettings(
+        properties.getValue(HTTP_CLIENT_MAX_REQUESTS),
+        properties.getValue(HTTP_CLIENT_HTTP2_ENABLED),
+        properties.getValue(HTTP_CLIENT_VIRTUAL_THREADS_ENABLED));
+    SharedHttpClient shared = acquire(settings);
+    return buildDaprHttp(properties, shared.httpClient, () -> release(settings, shared));
+  }
+
+  /**
+   * Creates an instance of the HTTP Client.
+   * @param properties to configure the DaprHttp client
+   * @param httpClient HttpClient to be used
+   * @param onClose Called once the DaprHttp is closed
+   * @return Instance of {@link DaprHttp}
+   */
+  private DaprHttp buildDaprHttp(Properties properties, HttpClient httpClient, Runnable onClose) {
     String endpoint = properties.getValue(HTTP_ENDPOINT);
     String apiToken = properties.getValue(API_TOKEN);
     Duration readTimeout = Duration.ofSeconds(properties.getValue(HTTP_CLIENT_READ_TIMEOUT_SECONDS));
 
     if ((endpoint != null) && !endpoint.isEmpty()) {
-      return new DaprHttp(endpoint, apiToken, readTimeout, HTTP_CLIENT);
+      return new DaprHttp(endpoint, apiToken, readTimeout, httpClient, onClose);
     }
 
     String sidecarIp = properties.getValue(SIDECAR_IP);
     int port = properties.getValue(HTTP_PORT);
 
-    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, HTTP_CLIENT);
+    return new DaprHttp(sidecarIp, port, apiToken, readTimeout, httpClient, onClose);
+  }
+
+  /**
+   * Returns the HttpClient shared by all open clients with the same settings, creating it if there is none.
+   * @param settings to configure the HttpClient
+   * @return Shared HttpClient, to be released once no longer used
+   */
+  private static SharedHttpClient acquire(HttpClientSettings settings) {
+    synchronized (LOCK) {
+      SharedHttpClient shared = HTTP_CLIENTS.computeIfAbsent(settings, DaprHttpBuilder::newHttpClient);
+      shared.users++;
+      return shared;
+    }
+  }
+
+  /**
+   * Releases a shared HttpClient, shutting it down once its last user is closed.
+   * @param settings the HttpClient was created with
+   * @param shared HttpClient to be released
+   */
+  private static void release(HttpClientSettings settings, SharedHttpClient shared) {
+    synchronized (LOCK) {
+      if (--shared.users > 0) {
+        return;
+      }
+
+      HTTP_CLIENTS.remove(settings, shared);
+    }
+
+    try {
+      if (shared.httpClient instanceof AutoCloseable) {
+        // HttpClient can only be closed from Java 21, before that it stops once unreachable. Closing waits
+        // for the exchanges in progress, which complete on the executor, so it is shut down afterwards.
+        ((AutoCloseable) shared.httpClient).close();
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not close the HTTP client.", e);
+    } finally {
+      shared.executor.shutdown();
+    }
+  }
+
+  private static SharedHttpClient newHttpClient(HttpClientSettings settings) {
+    ExecutorService executor = settings.virtualThreads
+        ? newVirtualThreadExecutor()
+        : Executors.newFixedThreadPool(settings.maxRequests);
+    HttpClient httpClient = HttpClient.newBuilder()
+        .executor(executor)
+        .version(settings.http2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .build();
+    return new SharedHttpClient(httpClient, executor);
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException("Virtual threads for the HTTP client require Java 21 or newer.", e);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Could not create virtual thread executor for the HTTP client.", e);
+    }
+  }
+
+  /**
+   * HttpClient shared by the open DaprHttp instances with the same settings.
+   */
+  private static final class SharedHttpClient {
+
+    private final HttpClient httpClient;
+
+    private final ExecutorService executor;
+
+    /**
+     * Number of open DaprHttp instances using this client, guarded by {@link #LOCK}.
+     */
+    private int users;
+
+    private SharedHttpClient(HttpClient httpClient, ExecutorService executor) {
+      this.httpClient = httpClient;
+      this.executor = executor;
+    }
+  }
+
+  /**
+   * Settings that require a distinct HttpClient.
+   */
+  private static final class HttpClientSettings {
+
+    private final int maxRequests;
+
+    private final boolean http2;
+
+    private final boolean virtualThreads;
+
+    private HttpClientSettings(int maxRequests, boolean http2, boolean virtualThreads) {
+      this.maxRequests = maxRequests;
+      this.http2 = http2;
+      this.virtualThreads = virtualThreads;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      HttpClientSettings that = (HttpClientSettings) o;
+      return maxRequests == that.maxRequests
+          && http2 == that.http2
+          && virtualThreads == that.virtualThreads;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(maxRequests, http2, virtualThreads);
+    }
   }
 }
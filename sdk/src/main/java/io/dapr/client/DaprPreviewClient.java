@@ -30,6 +30,7 @@ import io.dapr.client.domain.UnlockRequest;
 import io.dapr.client.domain.UnlockResponseStatus;
 import io.dapr.client.domain.query.Query;
 import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
@@ -275,6 +276,49 @@ public interface DaprPreviewClient extends AutoCloseable {
   <T> Subscription subscribeToEvents(
       String pubsubName, String topic, SubscriptionListener<T> listener, TypeRef<T> type);
 
+  /**
+   * Subscribe to pubsub via streaming, processing events in parallel. No thread is dedicated to the
+   * subscription, and the sidecar only sends events while fewer than the maximum are not acknowledged.
+   * @param pubsubName Name of the pubsub component.
+   * @param topic Name of the topic to subscribe to.
+   * @param listener Callback methods to process events.
+   * @param type Type for object deserialization.
+   * @param options Parallelism, ordering and maximum number of unacknowledged events.
+   * @return An active subscription.
+   * @param <T> Type of object deserialization.
+   */
+  <T> Subscription subscribeToEvents(
+      String pubsubName, String topic, SubscriptionListener<T> listener, TypeRef<T> type,
+      SubscriptionOptions options);
+
+  /**
+   * Subscribe to pubsub via streaming, processing events in batches. Batches hold up to the maximum batch size
+   * and are passed to the listener once full or once the maximum wait has passed since their first event.
+   * @param pubsubName Name of the pubsub component.
+   * @param topic Name of the topic to subscribe to.
+   * @param listener Callback methods to process batches of events.
+   * @param type Type for object deserialization.
+   * @param options Batching, parallelism, ordering and maximum number of unacknowledged events.
+   * @return An active subscription.
+   * @param <T> Type of object deserialization.
+   */
+  <T> Subscription subscribeToEvents(
+      String pubsubName, String topic, BulkSubscriptionListener<T> listener, TypeRef<T> type,
+      SubscriptionOptions options);
+
+  /**
+   * Subscribe to pubsub via streaming, as a Flux of events. Each subscriber opens its own stream, which is
+   * closed when the subscriber cancels. Events are only read from the sidecar as they are requested, and
+   * each one must be acknowledged once processed, with {@link SubscribedEvent#ack}. Events not acknowledged
+   * before the stream is closed are redelivered by the sidecar.
+   * @param pubsubName Name of the pubsub component.
+   * @param topic Name of the topic to subscribe to.
+   * @param type Type for object deserialization.
+   * @return Events received from the topic.
+   * @param <T> Type of object deserialization.
+   */
+  <T> Flux<SubscribedEvent<T>> subscribeToEvents(String pubsubName, String topic, TypeRef<T> type);
+
   /**
    * Schedules a job using the provided job request details.
    *
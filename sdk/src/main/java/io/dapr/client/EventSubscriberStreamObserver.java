@@ -0,0 +1,575 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.BulkSubscribeAppResponseEntry;
+import io.dapr.client.domain.BulkSubscribeAppResponseStatus;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.exceptions.DaprException;
+import io.dapr.v1.DaprGrpc;
+import io.dapr.v1.DaprProtos;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streaming subscription of events for Dapr's pubsub, exposed as a {@link Flux}.
+ *
+ * <p>No thread is dedicated to the subscription: events are emitted from gRPC's callbacks, and acks are
+ * written straight to the request stream. Either downstream demand is forwarded to the sidecar through gRPC
+ * flow control, and the subscriber acks each event once processed, or the sidecar is allowed a fixed window
+ * of events not acked yet, and each ack lets it send one more.
+ *
+ * <p>Acks completed close together are written to the stream in one go, so they share HTTP/2 flushes. Each
+ * ack is still its own message, since the protocol carries one processed event per request.
+ *
+ * @param <T> Application's object type.
+ */
+final class EventSubscriberStreamObserver<T> implements ClientResponseObserver<
+    DaprProtos.SubscribeTopicEventsRequestAlpha1, DaprProtos.SubscribeTopicEventsResponseAlpha1> {
+
+  private final Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter;
+
+  /**
+   * Maximum number of events not acked yet, or 0 to follow downstream demand.
+   */
+  private final int maxInFlight;
+
+  /**
+   * How long an ack may wait for others before being written, 0 to write it right away.
+   */
+  private final long ackFlushIntervalNanos;
+
+  /**
+   * Number of pending acks that triggers a write without waiting for the flush interval.
+   */
+  private final int maxAckBatchSize;
+
+  /**
+   * How long the stream may go without a message while the sidecar is allowed to send one, 0 for no limit.
+   */
+  private final long idleTimeoutNanos;
+
+  /**
+   * Acks not written yet, shared with the next stream if this one ends first.
+   */
+  private final PendingAcks pendingAcks;
+
+  /**
+   * Called on the first message from the sidecar, null if not needed.
+   */
+  private final Runnable onConnected;
+
+  private final AtomicBoolean ackFlushScheduled = new AtomicBoolean();
+
+  /**
+   * Messages requested from the sidecar and not received yet, negative if it sent more than requested.
+   */
+  private final AtomicLong credit = new AtomicLong();
+
+  /**
+   * Last time a message was received, or credit was granted while there was none, from {@link System#nanoTime()}.
+   */
+  private volatile long lastActivityNanos;
+
+  /**
+   * Whether the stream is over, after which acks are kept for the next stream.
+   */
+  private volatile boolean terminated;
+
+  private volatile boolean connected;
+
+  private volatile FluxSink<CloudEvent<T>> sink;
+
+  /**
+   * Request stream with flow control, null if the stub does not provide one.
+   */
+  private volatile ClientCallStreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> flowControl;
+
+  private volatile StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> requests;
+
+  private EventSubscriberStreamObserver(
+      Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter,
+      int maxInFlight,
+      long ackFlushIntervalNanos,
+      int maxAckBatchSize,
+      long idleTimeoutNanos,
+      PendingAcks pendingAcks,
+      Runnable onConnected) {
+    this.cloudEventConverter = cloudEventConverter;
+    this.maxInFlight = maxInFlight;
+    this.ackFlushIntervalNanos = ackFlushIntervalNanos;
+    this.maxAckBatchSize = maxAckBatchSize;
+    this.idleTimeoutNanos = idleTimeoutNanos;
+    this.pendingAcks = pendingAcks;
+    this.onConnected = onConnected;
+  }
+
+  /**
+   * Creates a Flux that opens a new streaming subscription for each subscriber.
+   *
+   * @param asyncStub           Stub to open the stream with.
+   * @param request             Initial request, with the pubsub and topic to subscribe to.
+   * @param cloudEventConverter Converts responses into events, returning null for responses to be skipped.
+   * @param <T>                 Application's object type.
+   * @return Events received, each to be acked by the subscriber once processed.
+   */
+  static <T> Flux<SubscribedEvent<T>> subscribe(
+      DaprGrpc.DaprStub asyncStub,
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 request,
+      Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter) {
+    return Flux.defer(() -> {
+      EventSubscriberStreamObserver<T> observer = new EventSubscriberStreamObserver<>(
+          cloudEventConverter, 0, 0, 1, 0, new PendingAcks(), null);
+      return Flux.<CloudEvent<T>>create(
+          sink -> observer.start(sink, asyncStub.subscribeTopicEventsAlpha1(observer), request))
+          .map(event -> new SubscribedEvent<>(event, status -> observer.ack(event.getId(), status)));
+    });
+  }
+
+  /**
+   * Creates a Mono that opens a new streaming subscription for each subscriber, and passes its events to the
+   * listener. Each event is acked with the status returned by the listener, or RETRY if none. The stream is
+   * opened again, after a backoff, whenever it ends, fails or stays idle for too long, once the events already
+   * passed to the listener are processed. Acks not written to it are written to the next one.
+   *
+   * @param asyncStub           Stub to open the stream with.
+   * @param request             Initial request, with the pubsub and topic to subscribe to.
+   * @param cloudEventConverter Converts responses into events, returning null for responses to be skipped.
+   * @param listener            Processes the events.
+   * @param options             Concurrency, flow control and reconnection for the subscription.
+   * @param onStateChange       Notified of connection state changes.
+   * @param <T>                 Application's object type.
+   * @return Never completes, cancel it to close the subscription.
+   */
+  static <T> Mono<Void> process(
+      DaprGrpc.DaprStub asyncStub,
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 request,
+      Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter,
+      SubscriptionListener<T> listener,
+      SubscriptionOptions options,
+      Consumer<SubscriptionState> onStateChange) {
+    return process(asyncStub, request, cloudEventConverter, options, listener::onError, onStateChange,
+        (events, acker) -> dispatch(
+            events,
+            options,
+            lane -> lane,
+            event -> Subscription.onEvent(listener, event)
+                .defaultIfEmpty(SubscriptionListener.Status.RETRY)
+                .doOnNext(status -> acker.accept(event.getId(), status))));
+  }
+
+  private static <T> Mono<Void> process(
+      DaprGrpc.DaprStub asyncStub,
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 request,
+      Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter,
+      SubscriptionOptions options,
+      Consumer<RuntimeException> onError,
+      Consumer<SubscriptionState> onStateChange,
+      BiFunction<Flux<CloudEvent<T>>, BiConsumer<String, SubscriptionListener.Status>, Mono<Void>> dispatcher) {
+    return Mono.defer(() -> {
+      PendingAcks pendingAcks = new PendingAcks();
+      AtomicReference<EventSubscriberStreamObserver<T>> current = new AtomicReference<>();
+      ReconnectBackoff backoff = new ReconnectBackoff(
+          options.getMinReconnectBackoff(), options.getMaxReconnectBackoff());
+      // Acks go to the stream open when they complete, which may not be the one the event came from.
+      BiConsumer<String, SubscriptionListener.Status> acker = (id, status) -> current.get().ack(id, status);
+
+      Mono<Void> connection = Mono.defer(() -> {
+        onStateChange.accept(SubscriptionState.CONNECTING);
+        EventSubscriberStreamObserver<T> observer = new EventSubscriberStreamObserver<>(
+            cloudEventConverter,
+            options.getMaxInFlight(),
+            options.getAckFlushInterval().toNanos(),
+            options.getMaxAckBatchSize(),
+            options.getIdleTimeout().toNanos(),
+            pendingAcks,
+            () -> {
+              backoff.reset();
+              onStateChange.accept(SubscriptionState.CONNECTED);
+            });
+        current.set(observer);
+        // A failed stream only ends the events, so the handlers in progress still finish and ack their events.
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Flux<CloudEvent<T>> events = Flux.<CloudEvent<T>>create(
+            sink -> observer.start(sink, asyncStub.subscribeTopicEventsAlpha1(observer), request))
+            .onErrorResume(e -> {
+              failure.set(e);
+              return Flux.empty();
+            });
+        return dispatcher.apply(events, acker)
+            .then(Mono.defer(() -> failure.get() == null ? Mono.<Void>empty() : Mono.<Void>error(failure.get())));
+      });
+
+      return connection
+          .onErrorResume(e -> {
+            onError.accept(DaprException.propagate(e));
+            return Mono.empty();
+          })
+          .then(Mono.defer(() -> {
+            onStateChange.accept(SubscriptionState.RECONNECTING);
+            return Mono.delay(backoff.next());
+          }))
+          .repeat()
+          .then();
+    }).doFinally(signal -> onStateChange.accept(SubscriptionState.CLOSED));
+  }
+
+  /**
+   * Creates a Mono that opens a new streaming subscription for each subscriber, and passes its events to the
+   * listener in batches. Each event is acked with the status the listener returned for its ID, or RETRY if
+   * none. Reconnects like {@link #process(DaprGrpc.DaprStub, DaprProtos.SubscribeTopicEventsRequestAlpha1,
+   * Function, SubscriptionListener, SubscriptionOptions, Consumer)}.
+   *
+   * @param asyncStub           Stub to open the stream with.
+   * @param request             Initial request, with the pubsub and topic to subscribe to.
+   * @param cloudEventConverter Converts responses into events, returning null for responses to be skipped.
+   * @param listener            Processes the batches of events.
+   * @param options             Batching, concurrency, flow control and reconnection for the subscription.
+   * @param onStateChange       Notified of connection state changes.
+   * @param <T>                 Application's object type.
+   * @return Never completes, cancel it to close the subscription.
+   */
+  static <T> Mono<Void> processBulk(
+      DaprGrpc.DaprStub asyncStub,
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 request,
+      Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter,
+      BulkSubscriptionListener<T> listener,
+      SubscriptionOptions options,
+      Consumer<SubscriptionState> onStateChange) {
+    return process(asyncStub, request, cloudEventConverter, options, listener::onError, onStateChange,
+        (events, acker) -> dispatch(
+            events,
+            options,
+            // Batches are only closed on demand, so slow listeners never overflow the buffer.
+            lane -> lane.bufferTimeout(options.getMaxBatchSize(), options.getMaxBatchWait(), true),
+            batch -> onEvents(listener, batch)
+                .doOnNext(statuses -> {
+                  for (CloudEvent<T> event : batch) {
+                    BulkSubscribeAppResponseStatus status = statuses.get(event.getId());
+                    acker.accept(event.getId(), status == null
+                        ? SubscriptionListener.Status.RETRY
+                        : SubscriptionListener.Status.valueOf(status.name()));
+                  }
+                })));
+  }
+
+  /**
+   * Passes a batch to the listener, retrying the whole batch if it fails.
+   *
+   * @param listener Processes the batch.
+   * @param batch    Events received.
+   * @param <T>      Application's object type.
+   * @return Status of each event, by ID.
+   */
+  private static <T> Mono<Map<String, BulkSubscribeAppResponseStatus>> onEvents(
+      BulkSubscriptionListener<T> listener, List<CloudEvent<T>> batch) {
+    return Mono.defer(() -> listener.onEvents(batch))
+        .map(entries -> {
+          Map<String, BulkSubscribeAppResponseStatus> statuses = new HashMap<>();
+          for (BulkSubscribeAppResponseEntry entry : entries) {
+            statuses.put(entry.getEntryId(), entry.getStatus());
+          }
+          return statuses;
+        })
+        .onErrorResume(t -> {
+          listener.onError(DaprException.propagate(t));
+          return Mono.empty();
+        })
+        .defaultIfEmpty(Collections.emptyMap());
+  }
+
+  /**
+   * Passes events to the handler, with bounded concurrency and, if configured, in order per key.
+   *
+   * @param events  Events received.
+   * @param options Parallelism and ordering key.
+   * @param units   Groups the events of a lane into the units passed to the handler.
+   * @param handler Processes a unit and acks its events.
+   * @param <T>     Application's object type.
+   * @param <U>     Unit passed to the handler.
+   * @return Completes once all events are processed.
+   */
+  private static <T, U> Mono<Void> dispatch(
+      Flux<CloudEvent<T>> events,
+      SubscriptionOptions options,
+      Function<Flux<CloudEvent<T>>, Flux<U>> units,
+      Function<U, Mono<?>> handler) {
+    int parallelism = options.getParallelism();
+    Function<CloudEvent<?>, String> orderingKey = options.getOrderingKey();
+    if (orderingKey == null) {
+      return units.apply(events).flatMap(handler, parallelism).then();
+    }
+
+    // Events are spread over one lane per handler, so events with the same key always share a lane.
+    AtomicLong unordered = new AtomicLong();
+    return events
+        .groupBy(event -> {
+          String key = orderingKey.apply(event);
+          long hash = key == null ? unordered.getAndIncrement() : key.hashCode();
+          return (int) Math.floorMod(hash, (long) parallelism);
+        })
+        .flatMap(lane -> units.apply(lane).concatMap(handler), parallelism)
+        .then();
+  }
+
+  @Override
+  public void beforeStart(ClientCallStreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> requestStream) {
+    // Nothing is read from the sidecar until there is demand.
+    requestStream.disableAutoRequestWithInitial(0);
+    this.flowControl = requestStream;
+  }
+
+  private void start(
+      FluxSink<CloudEvent<T>> sink,
+      StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> requests,
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+    this.sink = sink;
+    this.requests = requests;
+    sink.onCancel(this::cancel);
+    this.lastActivityNanos = System.nanoTime();
+    // Granted before the initial request is written, since the sidecar may send events as soon as it gets it.
+    if (this.maxInFlight > 0) {
+      this.request(this.maxInFlight);
+    }
+
+    synchronized (this) {
+      requests.onNext(request);
+      // Acks left by the previous stream.
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 ack;
+      while ((ack = this.pendingAcks.poll()) != null) {
+        requests.onNext(ack);
+      }
+    }
+
+    if (this.idleTimeoutNanos > 0) {
+      this.scheduleIdleCheck(this.idleTimeoutNanos);
+    }
+
+    if (this.maxInFlight == 0) {
+      sink.onRequest(this::request);
+    }
+  }
+
+  private void request(long n) {
+    if (this.credit.getAndAccumulate(n, (c, m) -> c + m < 0 ? Long.MAX_VALUE : c + m) <= 0) {
+      // The idle time only counts while the sidecar is allowed to send.
+      this.lastActivityNanos = System.nanoTime();
+    }
+
+    ClientCallStreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> flowControl = this.flowControl;
+    if (flowControl != null) {
+      flowControl.request((int) Math.min(n, Integer.MAX_VALUE));
+    }
+  }
+
+  private void cancel() {
+    // Taken with flushAcks, so no ack is written to the stream once it is cancelled.
+    synchronized (this) {
+      this.terminated = true;
+      ClientCallStreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> flowControl = this.flowControl;
+      if (flowControl != null) {
+        flowControl.cancel("Subscription cancelled.", null);
+      } else {
+        this.requests.onCompleted();
+      }
+    }
+  }
+
+  /**
+   * Checks the stream for messages once the idle timeout may have passed, and fails it if the sidecar sent
+   * none while it was allowed to.
+   *
+   * @param delayNanos Time to wait before checking.
+   */
+  private void scheduleIdleCheck(long delayNanos) {
+    Schedulers.parallel().schedule(() -> {
+      if (this.terminated) {
+        return;
+      }
+
+      long idleNanos = System.nanoTime() - this.lastActivityNanos;
+      if (this.credit.get() <= 0) {
+        // Nothing can arrive until handlers ack their events, which restarts the idle time.
+        this.scheduleIdleCheck(this.idleTimeoutNanos);
+      } else if (idleNanos < this.idleTimeoutNanos) {
+        this.scheduleIdleCheck(this.idleTimeoutNanos - idleNanos);
+      } else {
+        this.sink.error(new TimeoutException(
+            "No message received from the sidecar in " + TimeUnit.NANOSECONDS.toMillis(idleNanos) + "ms."));
+        this.cancel();
+      }
+    }, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1 response) {
+    this.lastActivityNanos = System.nanoTime();
+    this.credit.decrementAndGet();
+    if (!this.connected) {
+      this.connected = true;
+      if (this.onConnected != null) {
+        this.onConnected.run();
+      }
+    }
+    if (this.sink.isCancelled()) {
+      return;
+    }
+
+    CloudEvent<T> cloudEvent;
+    try {
+      cloudEvent = this.cloudEventConverter.apply(response);
+    } catch (Exception e) {
+      // The sidecar redelivers it, the stream goes on.
+      this.ack(response.getEventMessage().getId(), SubscriptionListener.Status.RETRY);
+      if (this.maxInFlight == 0) {
+        this.request(1);
+      }
+      return;
+    }
+
+    String id = cloudEvent == null ? null : cloudEvent.getId();
+    if ((id == null) || id.isEmpty()) {
+      // Nothing was emitted, so the message read for it is requested again.
+      this.request(1);
+      return;
+    }
+
+    this.sink.next(cloudEvent);
+  }
+
+  /**
+   * Queues the ack of an event, to be written with the acks completed around the same time. If the window of
+   * events in flight is bounded, the sidecar may send one more event once the ack is written.
+   *
+   * @param id     Identifier of the event.
+   * @param status Processing status sent to the sidecar.
+   */
+  private void ack(String id, SubscriptionListener.Status status) {
+    if ((id == null) || id.isEmpty()) {
+      if (this.maxInFlight > 0) {
+        this.request(1);
+      }
+      return;
+    }
+
+    int pending = this.pendingAcks.offer(Subscription.buildAckRequest(id, status));
+    if ((this.ackFlushIntervalNanos <= 0) || (pending >= this.maxAckBatchSize)) {
+      this.flushAcks();
+    } else if (this.ackFlushScheduled.compareAndSet(false, true)) {
+      Schedulers.parallel().schedule(this::flushAcks, this.ackFlushIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Writes all pending acks.
+   */
+  private void flushAcks() {
+    this.ackFlushScheduled.set(false);
+    int written = 0;
+    // Acks may come from several handlers at once, and the request stream is not thread-safe.
+    synchronized (this) {
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 ack;
+      // Once the stream is over, acks are left for the next one.
+      while (!this.terminated && ((ack = this.pendingAcks.poll()) != null)) {
+        written++;
+        this.requests.onNext(ack);
+      }
+    }
+
+    if (written == 0) {
+      return;
+    }
+
+    if (this.maxInFlight > 0) {
+      this.request(written);
+    }
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    if (this.terminated) {
+      // Cancelled on this side, after the subscriber went away or the stream timed out.
+      return;
+    }
+
+    this.terminated = true;
+    this.sink.error(DaprException.propagate(throwable));
+  }
+
+  @Override
+  public void onCompleted() {
+    this.terminated = true;
+    this.sink.complete();
+  }
+
+  /**
+   * Acks not written yet, shared by the streams of a subscription, with their count.
+   */
+  private static final class PendingAcks {
+
+    private final Queue<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Counted before an ack is queued and after it is taken, so it never falls below the acks queued.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Queues an ack.
+     *
+     * @param ack Ack to be written.
+     * @return Number of acks pending, including this one.
+     */
+    private int offer(DaprProtos.SubscribeTopicEventsRequestAlpha1 ack) {
+      int pending = this.count.incrementAndGet();
+      this.acks.offer(ack);
+      return pending;
+    }
+
+    /**
+     * Takes the oldest pending ack.
+     *
+     * @return Ack to be written, or null if none is pending.
+     */
+    private DaprProtos.SubscribeTopicEventsRequestAlpha1 poll() {
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 ack = this.acks.poll();
+      if (ack != null) {
+        this.count.decrementAndGet();
+      }
+      return ack;
+    }
+  }
+}
@@ -18,6 +18,7 @@ import io.grpc.ManagedChannel;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Facade for common operations on gRPC channel.
@@ -43,7 +44,17 @@ class GrpcChannelFacade implements Closeable {
   }
 
   /**
-   * Returns the gRPC channel to the sidecar.
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
+   *
+   * @param channels Managed GRPC channels to the same sidecar, pooled if there is more than one
+   * @see DaprClientBuilder
+   */
+  GrpcChannelFacade(List<ManagedChannel> channels) {
+    this(channels.size() == 1 ? channels.get(0) : new GrpcChannelPool(channels));
+  }
+
+  /**
+   * Returns the gRPC channel to the sidecar, which spreads calls over all pooled channels if any.
    * @return Sidecar's gRPC channel.
    */
   ManagedChannel getGrpcChannel() {
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Spreads calls over several channels to the sidecar, so load is not capped by a single HTTP/2 connection.
+ *
+ * <p>Each call goes to the channel with the fewest calls in flight. Ties are broken round-robin, so idle
+ * pools still rotate across connections. Streaming calls stay on the channel they started on.
+ */
+class GrpcChannelPool extends ManagedChannel {
+
+  private final ManagedChannel[] channels;
+
+  private final AtomicInteger[] activeCalls;
+
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * Creates a pool over the given channels, taking ownership of them.
+   *
+   * @param channels Channels to the same sidecar.
+   */
+  GrpcChannelPool(List<ManagedChannel> channels) {
+    if (channels == null || channels.isEmpty()) {
+      throw new IllegalArgumentException("At least one channel is required");
+    }
+
+    this.channels = channels.toArray(new ManagedChannel[0]);
+    this.activeCalls = new AtomicInteger[this.channels.length];
+    for (int i = 0; i < this.activeCalls.length; i++) {
+      this.activeCalls[i] = new AtomicInteger();
+    }
+  }
+
+  /**
+   * Returns the number of channels in this pool.
+   *
+   * @return Pool size.
+   */
+  int size() {
+    return this.channels.length;
+  }
+
+  /**
+   * Returns the number of calls in flight on the given channel.
+   *
+   * @param index Position of the channel in the pool.
+   * @return Calls in flight.
+   */
+  int getActiveCalls(int index) {
+    return this.activeCalls[index].get();
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor,
+      CallOptions callOptions) {
+    final int index = selectChannel();
+    final AtomicInteger active = this.activeCalls[index];
+    ClientCall<ReqT, RespT> call = this.channels[index].newCall(methodDescriptor, callOptions);
+    return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(call) {
+      @Override
+      public void start(Listener<RespT> responseListener, Metadata headers) {
+        active.incrementAndGet();
+        try {
+          super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+            @Override
+            public void onClose(Status status, Metadata trailers) {
+              active.decrementAndGet();
+              super.onClose(status, trailers);
+            }
+          }, headers);
+        } catch (RuntimeException e) {
+          active.decrementAndGet();
+          throw e;
+        }
+      }
+    };
+  }
+
+  private int selectChannel() {
+    int start = Math.floorMod(this.next.getAndIncrement(), this.channels.length);
+    int selected = start;
+    int least = this.activeCalls[start].get();
+    for (int i = 1; i < this.channels.length && least > 0; i++) {
+      int candidate = (start + i) % this.channels.length;
+      int load = this.activeCalls[candidate].get();
+      if (load < least) {
+        least = load;
+        selected = candidate;
+      }
+    }
+    return selected;
+  }
+
+  @Override
+  public String authority() {
+    return this.channels[0].authority();
+  }
+
+  @Override
+  public ManagedChannel shutdown() {
+    for (ManagedChannel channel : this.channels) {
+      channel.shutdown();
+    }
+    return this;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    for (ManagedChannel channel : this.channels) {
+      if (!channel.isShutdown()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    for (ManagedChannel channel : this.channels) {
+      if (!channel.isTerminated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ManagedChannel shutdownNow() {
+    for (ManagedChannel channel : this.channels) {
+      channel.shutdownNow();
+    }
+    return this;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (ManagedChannel channel : this.channels) {
+      long remaining = deadline - System.nanoTime();
+      if (!channel.awaitTermination(Math.max(0, remaining), TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the most usable state among the pooled channels, so the pool is READY while any channel is.
+   *
+   * @param requestConnection Whether idle channels should start connecting.
+   * @return Aggregated state.
+   */
+  @Override
+  public ConnectivityState getState(boolean requestConnection) {
+    ConnectivityState best = ConnectivityState.SHUTDOWN;
+    for (ManagedChannel channel : this.channels) {
+      ConnectivityState state = channel.getState(requestConnection);
+      if (rank(state) < rank(best)) {
+        best = state;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Runs the callback once the aggregated state, see {@link #getState(boolean)}, differs from the source.
+   *
+   * @param source   State the caller last observed.
+   * @param callback Run once, on the thread of the channel whose change was observed.
+   */
+  @Override
+  public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+    AtomicBoolean notified = new AtomicBoolean();
+    if (getState(false) != source) {
+      notified.set(true);
+      callback.run();
+      return;
+    }
+
+    for (ManagedChannel channel : this.channels) {
+      watch(channel, source, callback, notified);
+    }
+  }
+
+  private void watch(ManagedChannel channel, ConnectivityState source, Runnable callback, AtomicBoolean notified) {
+    channel.notifyWhenStateChanged(channel.getState(false), () -> {
+      if (notified.get()) {
+        return;
+      }
+      if ((getState(false) != source) && notified.compareAndSet(false, true)) {
+        callback.run();
+        return;
+      }
+      // This channel changed without changing the pool's state, keep watching it.
+      watch(channel, source, callback, notified);
+    });
+  }
+
+  @Override
+  public void resetConnectBackoff() {
+    for (ManagedChannel channel : this.channels) {
+      channel.resetConnectBackoff();
+    }
+  }
+
+  @Override
+  public void enterIdle() {
+    for (ManagedChannel channel : this.channels) {
+      channel.enterIdle();
+    }
+  }
+
+  private static int rank(ConnectivityState state) {
+    switch (state) {
+      case READY:
+        return 0;
+      case CONNECTING:
+        return 1;
+      case IDLE:
+        return 2;
+      case TRANSIENT_FAILURE:
+        return 3;
+      default:
+        return 4;
+    }
+  }
+}
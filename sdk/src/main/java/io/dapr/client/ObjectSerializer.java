@@ -14,16 +14,25 @@ limitations under the License.
 package io.dapr.client;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
 import io.dapr.client.domain.CloudEvent;
 import io.dapr.utils.TypeRef;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Serializes and deserializes an internal object.
@@ -37,6 +46,11 @@ public class ObjectSerializer {
       .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
       .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
+  /**
+   * Readers resolved per target type, so deserializing does not resolve types or look up parsers every time.
+   */
+  private final Map<Type, TypeReader> readers = new ConcurrentHashMap<>();
+
   /**
    * Default constructor to avoid class from being instantiated outside package but still inherited.
    */
@@ -77,6 +91,69 @@ public class ObjectSerializer {
     return getObjectMapper().writeValueAsBytes(state);
   }
 
+  /**
+   * Serializes a given state object into the given stream, without an intermediate byte array.
+   *
+   * @param state  State object to be serialized.
+   * @param output Stream to write the serialized content to. It is not closed.
+   * @return False if the state serializes to null and nothing was written, true otherwise.
+   * @throws IOException In case state cannot be serialized.
+   */
+  public boolean serializeTo(Object state, OutputStream output) throws IOException {
+    if (state == null) {
+      return false;
+    }
+
+    if (state.getClass() == Void.class) {
+      return false;
+    }
+
+    if (state instanceof byte[]) {
+      output.write((byte[]) state);
+      return true;
+    }
+
+    if (state instanceof MessageLite) {
+      ((MessageLite) state).writeTo(output);
+      return true;
+    }
+
+    getObjectMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(output, state);
+    return true;
+  }
+
+  /**
+   * Deserializes the remaining bytes of the buffer into the original object, reading JSON and protobuf
+   * content in place. The buffer's position is left untouched.
+   *
+   * @param content Content to be parsed.
+   * @param type    Type of the object being deserialized.
+   * @param <T>     Generic type of the object being deserialized.
+   * @return Object of type T.
+   * @throws IOException In case content cannot be deserialized.
+   */
+  public <T> T deserializeFrom(ByteBuffer content, TypeRef<T> type) throws IOException {
+    TypeReader reader = getReader(type.getType());
+    JavaType javaType = reader.javaType;
+    if ((content == null)
+        || javaType.isPrimitive()
+        || javaType.hasRawClass(byte[].class)
+        || javaType.hasRawClass(CloudEvent.class)) {
+      // Small or special cased payloads keep the byte[] semantics.
+      return deserialize(toByteArray(content), reader);
+    }
+
+    if (javaType.isTypeOrSubTypeOf(Void.class) || !content.hasRemaining()) {
+      return null;
+    }
+
+    if (reader.parser != null) {
+      return (T) reader.parser.parseFrom(content.duplicate());
+    }
+
+    return reader.reader.readValue(new ByteBufferBackedInputStream(content.duplicate()));
+  }
+
   /**
    * Deserializes the byte array into the original object.
    *
@@ -87,7 +164,7 @@ public class ObjectSerializer {
    * @throws IOException In case content cannot be deserialized.
    */
   public <T> T deserialize(byte[] content, TypeRef<T> type) throws IOException {
-    return deserialize(content, getObjectMapper().constructType(type.getType()));
+    return deserialize(content, getReader(type.getType()));
   }
 
   /**
@@ -100,11 +177,12 @@ public class ObjectSerializer {
    * @throws IOException In case content cannot be deserialized.
    */
   public <T> T deserialize(byte[] content, Class<T> clazz) throws IOException {
-    return deserialize(content, getObjectMapper().constructType(clazz));
+    return deserialize(content, getReader(clazz));
   }
 
-  private <T> T deserialize(byte[] content, JavaType javaType) throws IOException {
-    if ((javaType == null) || javaType.isTypeOrSubTypeOf(Void.class)) {
+  private <T> T deserialize(byte[] content, TypeReader reader) throws IOException {
+    JavaType javaType = reader.javaType;
+    if (javaType.isTypeOrSubTypeOf(Void.class)) {
       return null;
     }
 
@@ -129,20 +207,52 @@ public class ObjectSerializer {
       return (T) CloudEvent.deserialize(content);
     }
 
-    if (javaType.isTypeOrSubTypeOf(MessageLite.class)) {
-      try {
-        Method method = javaType.getRawClass().getDeclaredMethod("parseFrom", byte[].class);
-        if (method != null) {
-          return (T) method.invoke(null, content);
-        }
-      } catch (NoSuchMethodException e) {
-        // It was a best effort. Skip this try.
-      } catch (Exception e) {
-        throw new IOException(e);
-      }
+    if (reader.parser != null) {
+      return (T) reader.parser.parseFrom(content);
     }
 
-    return getObjectMapper().readValue(content, javaType);
+    return reader.reader.readValue(content);
+  }
+
+  private TypeReader getReader(Type type) {
+    TypeReader reader = this.readers.get(type);
+    if (reader != null) {
+      return reader;
+    }
+
+    return this.readers.computeIfAbsent(type, this::newReader);
+  }
+
+  private TypeReader newReader(Type type) {
+    JavaType javaType = getObjectMapper().constructType(type);
+    return new TypeReader(javaType, getObjectMapper().readerFor(javaType), findParser(javaType));
+  }
+
+  private static Parser<?> findParser(JavaType javaType) {
+    if (!javaType.isTypeOrSubTypeOf(MessageLite.class)) {
+      return null;
+    }
+
+    try {
+      Method method = javaType.getRawClass().getDeclaredMethod("parser");
+      return (Parser<?>) method.invoke(null);
+    } catch (NoSuchMethodException e) {
+      // It was a best effort, fall back to JSON.
+      return null;
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not get the protobuf parser of " + javaType.getRawClass(), e);
+    }
+  }
+
+  private static byte[] toByteArray(ByteBuffer content) {
+    if (content == null) {
+      return null;
+    }
+
+    ByteBuffer source = content.duplicate();
+    byte[] bytes = new byte[source.remaining()];
+    source.get(bytes);
+    return bytes;
   }
 
   /**
@@ -165,7 +275,7 @@ public class ObjectSerializer {
    * @return Result as corresponding type.
    * @throws IOException if cannot deserialize primitive time.
    */
-  private static <T> T deserializePrimitives(byte[] content, JavaType javaType) throws IOException {
+  private <T> T deserializePrimitives(byte[] content, JavaType javaType) throws IOException {
     if ((content == null) || (content.length == 0)) {
       if (javaType.hasRawClass(boolean.class)) {
         return (T) Boolean.FALSE;
@@ -202,6 +312,24 @@ public class ObjectSerializer {
       return null;
     }
 
-    return OBJECT_MAPPER.readValue(content, javaType);
+    return getObjectMapper().readValue(content, javaType);
+  }
+
+  /**
+   * Resolved type with the reader used for it: a protobuf parser for messages, otherwise a Jackson reader.
+   */
+  private static final class TypeReader {
+
+    private final JavaType javaType;
+
+    private final ObjectReader reader;
+
+    private final Parser<?> parser;
+
+    private TypeReader(JavaType javaType, ObjectReader reader, Parser<?> parser) {
+      this.javaType = javaType;
+      this.reader = reader;
+      this.parser = parser;
+    }
   }
 }
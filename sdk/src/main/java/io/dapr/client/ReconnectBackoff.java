@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter between reconnections of a streaming subscription.
+ *
+ * <p>Each delay is picked at random between half and all of the current backoff, so subscribers disconnected
+ * together, for example by a sidecar restart, do not reconnect together.
+ */
+final class ReconnectBackoff {
+
+  private final long minNanos;
+
+  private final long maxNanos;
+
+  private volatile int attempts;
+
+  /**
+   * Creates a backoff between the given bounds.
+   *
+   * @param min Backoff before the first reconnection.
+   * @param max Maximum backoff.
+   */
+  ReconnectBackoff(Duration min, Duration max) {
+    this.minNanos = min.toNanos();
+    this.maxNanos = Math.max(this.minNanos, max.toNanos());
+  }
+
+  /**
+   * Gets the delay before the next reconnection, and backs off further.
+   *
+   * @return Delay before reconnecting.
+   */
+  Duration next() {
+    int attempt = this.attempts;
+    this.attempts = attempt + 1;
+    long backoff = this.minNanos;
+    for (int i = 0; (i < attempt) && (backoff < this.maxNanos); i++) {
+      backoff = Math.min(backoff * 2, this.maxNanos);
+    }
+
+    long half = backoff / 2;
+    return Duration.ofNanos(half + ThreadLocalRandom.current().nextLong(half + 1));
+  }
+
+  /**
+   * Starts backing off from the minimum again, once connected.
+   */
+  void reset() {
+    this.attempts = 0;
+  }
+}
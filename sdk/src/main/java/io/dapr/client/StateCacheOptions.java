@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+/**
+ * Size and freshness bounds for the entries kept by {@link CachingStateClient}.
+ */
+public final class StateCacheOptions {
+
+  private int maxEntries = 10000;
+
+  private long maxWeightBytes;
+
+  private ToLongFunction<State<?>> weigher;
+
+  private Duration ttl = Duration.ofSeconds(30);
+
+  public int getMaxEntries() {
+    return maxEntries;
+  }
+
+  public StateCacheOptions setMaxEntries(int maxEntries) {
+    this.maxEntries = maxEntries;
+    return this;
+  }
+
+  /**
+   * Returns the maximum total weight of cached states, as measured by the weigher, or 0 for no limit.
+   *
+   * @return Maximum weight in bytes.
+   */
+  public long getMaxWeightBytes() {
+    return maxWeightBytes;
+  }
+
+  public StateCacheOptions setMaxWeightBytes(long maxWeightBytes) {
+    this.maxWeightBytes = maxWeightBytes;
+    return this;
+  }
+
+  public ToLongFunction<State<?>> getWeigher() {
+    return weigher;
+  }
+
+  /**
+   * Sets how states are weighed against the maximum weight. It runs on every value fetched, so it should be
+   * cheap, for example the length of a byte array or string value. Required when a maximum weight is set.
+   *
+   * @param weigher Returns the approximate size in bytes of a state.
+   * @return This instance.
+   */
+  public StateCacheOptions setWeigher(ToLongFunction<State<?>> weigher) {
+    this.weigher = weigher;
+    return this;
+  }
+
+  public Duration getTtl() {
+    return ttl;
+  }
+
+  public StateCacheOptions setTtl(Duration ttl) {
+    this.ttl = ttl;
+    return this;
+  }
+}
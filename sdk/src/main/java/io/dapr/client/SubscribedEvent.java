@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.CloudEvent;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Event received from a streaming subscription, to be acknowledged once processed.
+ * @param <T> Object type for deserialization.
+ */
+public final class SubscribedEvent<T> {
+
+  private final CloudEvent<T> event;
+
+  private final Consumer<SubscriptionListener.Status> acker;
+
+  private final AtomicBoolean acked = new AtomicBoolean();
+
+  /**
+   * Instantiates a new event received from a streaming subscription.
+   * @param event Event received.
+   * @param acker Sends the acknowledgement to the sidecar.
+   */
+  SubscribedEvent(CloudEvent<T> event, Consumer<SubscriptionListener.Status> acker) {
+    this.event = event;
+    this.acker = acker;
+  }
+
+  /**
+   * Gets the event received.
+   * @return Event received.
+   */
+  public CloudEvent<T> getEvent() {
+    return this.event;
+  }
+
+  /**
+   * Acknowledges the event to the sidecar. Only the first call has an effect, and it has none once the
+   * subscription is closed, in which case the sidecar redelivers the event.
+   * @param status Outcome of processing the event.
+   */
+  public void ack(SubscriptionListener.Status status) {
+    if (status == null) {
+      throw new IllegalArgumentException("Status is required.");
+    }
+
+    if (this.acked.compareAndSet(false, true)) {
+      this.acker.accept(status);
+    }
+  }
+}
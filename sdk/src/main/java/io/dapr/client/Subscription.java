@@ -18,134 +18,328 @@ import io.dapr.exceptions.DaprException;
 import io.dapr.v1.DaprAppCallbackProtos;
 import io.dapr.v1.DaprGrpc;
 import io.dapr.v1.DaprProtos;
+import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.Nonnull;
 
 import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
  * Streaming subscription of events for Dapr's pubsub.
+ *
+ * <p>When the stream ends, fails, or stays idle for longer than allowed, it is opened again after an
+ * exponential backoff with jitter. Acks not written to the previous stream are written to the next one.
  * @param <T> Application's object type.
  */
 public class Subscription<T> implements Closeable {
 
+  /**
+   * Maximum number of acks written in one pass of the acker.
+   */
+  private static final int MAX_ACK_BATCH_SIZE = 50;
+
   private final BlockingQueue<DaprProtos.SubscribeTopicEventsRequestAlpha1> ackQueue = new LinkedBlockingQueue<>(50);
 
   private final AtomicBoolean running = new AtomicBoolean(true);
 
-  private final Semaphore receiverStateChange = new Semaphore(0);
+  /**
+   * Released once the subscription is closed, to stop waiting for a reconnection.
+   */
+  private final CountDownLatch closed = new CountDownLatch(1);
+
+  /**
+   * Guards changes to {@link #stream}, which the acker waits for.
+   */
+  private final Object streamLock = new Object();
+
+  /**
+   * Stream acks are written to, null while connecting.
+   */
+  private StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> stream;
+
+  /**
+   * Released once the current stream ends.
+   */
+  private volatile CountDownLatch streamEnded = new CountDownLatch(0);
+
+  private volatile long lastMessageNanos;
+
+  private volatile SubscriptionState state = SubscriptionState.CONNECTING;
+
+  private final AtomicLong reconnectCount = new AtomicLong();
 
   private Thread acker;
 
   private Thread receiver;
 
+  /**
+   * Processing of events without dedicated threads, null if this subscription uses threads.
+   */
+  private final Mono<Void> processing;
+
+  private final CountDownLatch processingTerminated = new CountDownLatch(1);
+
+  private volatile Disposable processingSubscription;
+
+  /**
+   * Listener of the events, null if this subscription does not use threads.
+   */
+  private final SubscriptionListener<T> listener;
+
+  private final Consumer<RuntimeException> errorHandler;
+
+  private final Consumer<SubscriptionState> stateHandler;
+
+  /**
+   * Creates a subscription that processes events without dedicated threads.
+   *
+   * @param processing   Creates the processing of the events, given how to report connection state changes.
+   *                     Started by {@link #start()}.
+   * @param errorHandler Notified of errors.
+   * @param stateHandler Notified of connection state changes.
+   */
+  Subscription(
+      Function<Consumer<SubscriptionState>, Mono<Void>> processing,
+      Consumer<RuntimeException> errorHandler,
+      Consumer<SubscriptionState> stateHandler) {
+    this.listener = null;
+    this.errorHandler = errorHandler;
+    this.stateHandler = stateHandler;
+    this.processing = processing.apply(this::setState);
+  }
+
   Subscription(DaprGrpc.DaprStub asyncStub,
                DaprProtos.SubscribeTopicEventsRequestAlpha1 request,
                SubscriptionListener<T> listener,
                Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter) {
-    final AtomicReference<StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1>> streamRef =
-        new AtomicReference<>();
+    this(asyncStub, request, listener, cloudEventConverter, new SubscriptionOptions());
+  }
 
-    this.acker = new Thread(() -> {
-      while (running.get()) {
-        try {
-          var ackResponse = ackQueue.take();
-          if (ackResponse == null) {
-            continue;
-          }
+  Subscription(DaprGrpc.DaprStub asyncStub,
+               DaprProtos.SubscribeTopicEventsRequestAlpha1 request,
+               SubscriptionListener<T> listener,
+               Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter,
+               SubscriptionOptions options) {
+    this.processing = null;
+    this.listener = listener;
+    this.errorHandler = listener::onError;
+    this.stateHandler = listener::onStateChange;
+    this.acker = new Thread(this::runAcker);
+    this.receiver = new Thread(() -> this.runReceiver(asyncStub, request, cloudEventConverter, options));
+  }
+
+  /**
+   * Gets the connection state of this subscription.
+   *
+   * @return Connection state.
+   */
+  public SubscriptionState getState() {
+    return this.state;
+  }
+
+  /**
+   * Gets the number of times the stream was opened again since this subscription started.
+   *
+   * @return Number of reconnections.
+   */
+  public long getReconnectCount() {
+    return this.reconnectCount.get();
+  }
+
+  private void setState(SubscriptionState state) {
+    if (this.state == state) {
+      return;
+    }
+
+    this.state = state;
+    if (state == SubscriptionState.RECONNECTING) {
+      this.reconnectCount.incrementAndGet();
+    }
+    this.stateHandler.accept(state);
+  }
+
+  /**
+   * Writes acks to the current stream, keeping the ones that could not be written for the next stream.
+   */
+  private void runAcker() {
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = new ArrayList<>(MAX_ACK_BATCH_SIZE);
+    StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> failedStream = null;
+    while (running.get()) {
+      try {
+        if (acks.isEmpty()) {
+          acks.add(ackQueue.take());
+        }
 
-          var stream = streamRef.get();
-          if (stream == null) {
-            Thread.sleep(1000);
-            // stream not ready yet
-            continue;
+        // Acks queued meanwhile are written in the same pass, so they share flushes.
+        ackQueue.drainTo(acks, MAX_ACK_BATCH_SIZE - acks.size());
+
+        StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> stream;
+        synchronized (this.streamLock) {
+          while (((stream = this.stream) == null) || (stream == failedStream)) {
+            this.streamLock.wait();
           }
+        }
 
-          stream.onNext(ackResponse);
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          return;
-        } catch (Exception e) {
-          // No-op and continue after waiting for some time.
-          // This is useful when there is a reconnection, for example.
-          try {
-            Thread.sleep(1000);
-          } catch (InterruptedException ex) {
-            Thread.currentThread().interrupt();
-            return;
+        int written = 0;
+        try {
+          for (var ack : acks) {
+            stream.onNext(ack);
+            written++;
           }
+        } catch (Exception e) {
+          // Waits for the next stream, then writes the acks left.
+          failedStream = stream;
         }
+        acks.subList(0, written).clear();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
       }
-    });
+    }
+  }
 
-    this.receiver = new Thread(() -> {
+  /**
+   * Opens the stream and keeps opening it again, until this subscription is closed.
+   */
+  private void runReceiver(
+      DaprGrpc.DaprStub asyncStub,
+      DaprProtos.SubscribeTopicEventsRequestAlpha1 request,
+      Function<DaprProtos.SubscribeTopicEventsResponseAlpha1, CloudEvent<T>> cloudEventConverter,
+      SubscriptionOptions options) {
+    ReconnectBackoff backoff = new ReconnectBackoff(
+        options.getMinReconnectBackoff(), options.getMaxReconnectBackoff());
+    long idleTimeoutNanos = options.getIdleTimeout().toNanos();
+    try {
       while (running.get()) {
-        var stream = asyncStub.subscribeTopicEventsAlpha1(new StreamObserver<>() {
-          @Override
-          public void onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1 topicEventRequest) {
-            try {
-              var stream = streamRef.get();
-              if (stream == null) {
-                throw new RuntimeException("Cannot receive event: streaming subscription is not initialized.");
+        this.setState(SubscriptionState.CONNECTING);
+        CountDownLatch ended = new CountDownLatch(1);
+        AtomicBoolean cancelled = new AtomicBoolean();
+        this.streamEnded = ended;
+        var stream = asyncStub.subscribeTopicEventsAlpha1(
+            new StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>() {
+              @Override
+              public void onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1 topicEventRequest) {
+                lastMessageNanos = System.nanoTime();
+                if (state != SubscriptionState.CONNECTED) {
+                  backoff.reset();
+                  setState(SubscriptionState.CONNECTED);
+                }
+
+                try {
+                  CloudEvent<T> cloudEvent = cloudEventConverter.apply(topicEventRequest);
+                  if (cloudEvent == null) {
+                    return;
+                  }
+
+                  var id = cloudEvent.getId();
+                  if ((id == null) || id.isEmpty()) {
+                    return;
+                  }
+
+                  onEvent(listener, cloudEvent).subscribe(status -> {
+                    var ack = buildAckRequest(id, status);
+                    try {
+                      ackQueue.put(ack);
+                    } catch (InterruptedException e) {
+                      throw new RuntimeException(e);
+                    }
+                  });
+                } catch (Exception e) {
+                  listener.onError(DaprException.propagate(e));
+                }
               }
 
-              CloudEvent<T> cloudEvent = cloudEventConverter.apply(topicEventRequest);
-              if (cloudEvent == null) {
-                return;
+              @Override
+              public void onError(Throwable throwable) {
+                if (!cancelled.get()) {
+                  listener.onError(DaprException.propagate(throwable));
+                }
+                ended.countDown();
               }
 
-              var id = cloudEvent.getId();
-              if ((id == null) || id.isEmpty()) {
-                return;
+              @Override
+              public void onCompleted() {
+                ended.countDown();
               }
+            });
 
-              onEvent(listener, cloudEvent).subscribe(status -> {
-                var ack = buildAckRequest(id, status);
-                try {
-                  ackQueue.put(ack);
-                } catch (InterruptedException e) {
-                  throw new RuntimeException(e);
-                }
-              });
-            } catch (Exception e) {
-              this.onError(DaprException.propagate(e));
-            }
-          }
+        this.lastMessageNanos = System.nanoTime();
+        stream.onNext(request);
+        synchronized (this.streamLock) {
+          this.stream = stream;
+          this.streamLock.notifyAll();
+        }
 
-          @Override
-          public void onError(Throwable throwable) {
-            listener.onError(DaprException.propagate(throwable));
-          }
+        if (!this.awaitStreamEnd(ended, idleTimeoutNanos)) {
+          // Idle for too long, or closed: the call is cancelled and its end is not reported as an error.
+          cancelled.set(true);
+          stream.onError(Status.CANCELLED.withDescription("Streaming subscription restarted.").asRuntimeException());
+        }
+        synchronized (this.streamLock) {
+          this.stream = null;
+        }
 
-          @Override
-          public void onCompleted() {
-            receiverStateChange.release();
+        if (running.get()) {
+          this.setState(SubscriptionState.RECONNECTING);
+          Duration delay = backoff.next();
+          if (this.closed.await(delay.toNanos(), TimeUnit.NANOSECONDS)) {
+            // Closed while waiting, so there is nothing to reconnect.
+            break;
           }
-        });
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running.set(false);
+    } finally {
+      this.setState(SubscriptionState.CLOSED);
+    }
+  }
 
-        streamRef.set(stream);
-        stream.onNext(request);
+  /**
+   * Waits for the stream to end.
+   *
+   * @param ended            Released once the stream ends.
+   * @param idleTimeoutNanos Maximum time without messages, 0 or less to wait for as long as it takes.
+   * @return True if the stream ended, false if it went idle or the subscription was closed.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  private boolean awaitStreamEnd(CountDownLatch ended, long idleTimeoutNanos) throws InterruptedException {
+    // Closing the subscription also releases the latch, but then the stream is still open.
+    if (!running.get()) {
+      return false;
+    }
+    if (idleTimeoutNanos <= 0) {
+      ended.await();
+      return running.get();
+    }
 
-        // Keep the client running
-        try {
-          receiverStateChange.acquire();
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          running.set(false);
-        }
+    while (true) {
+      long remaining = idleTimeoutNanos - (System.nanoTime() - this.lastMessageNanos);
+      if (remaining <= 0) {
+        return false;
       }
-    });
+      if (ended.await(remaining, TimeUnit.NANOSECONDS)) {
+        return running.get();
+      }
+    }
   }
 
-  private static <T> Mono<SubscriptionListener.Status> onEvent(
+  static <T> Mono<SubscriptionListener.Status> onEvent(
       SubscriptionListener<T> listener, CloudEvent<T> cloudEvent) {
     return listener.onEvent(cloudEvent).onErrorMap(t -> {
       var exception = DaprException.propagate(t);
@@ -155,7 +349,7 @@ public class Subscription<T> implements Closeable {
   }
 
   @Nonnull
-  private static DaprProtos.SubscribeTopicEventsRequestAlpha1 buildAckRequest(
+  static DaprProtos.SubscribeTopicEventsRequestAlpha1 buildAckRequest(
       String id, SubscriptionListener.Status status) {
     DaprProtos.SubscribeTopicEventsRequestProcessedAlpha1 eventProcessed =
         DaprProtos.SubscribeTopicEventsRequestProcessedAlpha1.newBuilder()
@@ -174,6 +368,13 @@ public class Subscription<T> implements Closeable {
   }
 
   void start() {
+    if (this.processing != null) {
+      this.processingSubscription = this.processing
+          .doFinally(signal -> this.processingTerminated.countDown())
+          .subscribe(null, e -> this.errorHandler.accept(DaprException.propagate(e)));
+      return;
+    }
+
     this.receiver.start();
     this.acker.start();
   }
@@ -183,8 +384,17 @@ public class Subscription<T> implements Closeable {
    */
   @Override
   public void close() {
+    if (this.processing != null) {
+      Disposable processingSubscription = this.processingSubscription;
+      if (processingSubscription != null) {
+        processingSubscription.dispose();
+      }
+      return;
+    }
+
     running.set(false);
-    receiverStateChange.release();
+    this.closed.countDown();
+    this.streamEnded.countDown();
     this.acker.interrupt();
   }
 
@@ -193,6 +403,11 @@ public class Subscription<T> implements Closeable {
    * @throws InterruptedException Exception if interrupted while awaiting.
    */
   public void awaitTermination() throws InterruptedException {
+    if (this.processing != null) {
+      this.processingTerminated.await();
+      return;
+    }
+
     this.receiver.join();
     this.acker.join();
   }
@@ -43,4 +43,11 @@ public interface SubscriptionListener<T> {
    * @param exception Exception to be processed.
    */
   void onError(RuntimeException exception);
+
+  /**
+   * Processes a change in the connection state of the subscription.
+   * @param state New connection state.
+   */
+  default void onStateChange(SubscriptionState state) {
+  }
 }
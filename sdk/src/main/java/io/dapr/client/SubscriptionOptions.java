@@ -0,0 +1,240 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.CloudEvent;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Concurrency and flow control for a streaming subscription of events.
+ */
+public final class SubscriptionOptions {
+
+  private int parallelism = 1;
+
+  private int maxInFlight = 100;
+
+  private Function<CloudEvent<?>, String> orderingKey;
+
+  private Duration ackFlushInterval = Duration.ZERO;
+
+  private int maxAckBatchSize = 100;
+
+  private Duration minReconnectBackoff = Duration.ofMillis(100);
+
+  private Duration maxReconnectBackoff = Duration.ofSeconds(30);
+
+  private Duration idleTimeout = Duration.ZERO;
+
+  private int maxBatchSize = 100;
+
+  private Duration maxBatchWait = Duration.ofMillis(100);
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the maximum number of events processed at the same time.
+   *
+   * @param parallelism Maximum number of concurrent handlers, at least 1.
+   * @return This instance.
+   */
+  public SubscriptionOptions setParallelism(int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1.");
+    }
+
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  /**
+   * Sets the maximum number of events received but not acknowledged yet. The sidecar is not asked for more
+   * events until some are acknowledged.
+   *
+   * @param maxInFlight Maximum number of unacknowledged events, at least 1.
+   * @return This instance.
+   */
+  public SubscriptionOptions setMaxInFlight(int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("Maximum number of in-flight events must be at least 1.");
+    }
+
+    this.maxInFlight = maxInFlight;
+    return this;
+  }
+
+  public Function<CloudEvent<?>, String> getOrderingKey() {
+    return orderingKey;
+  }
+
+  /**
+   * Sets how to extract the ordering key of an event. Events with the same key are processed one at a time,
+   * in the order they were received, while events with different keys run in parallel. Events without a key
+   * are not ordered.
+   *
+   * @param orderingKey Extracts the key of an event, may return null. Null to not order events.
+   * @return This instance.
+   */
+  public SubscriptionOptions setOrderingKey(Function<CloudEvent<?>, String> orderingKey) {
+    this.orderingKey = orderingKey;
+    return this;
+  }
+
+  public Duration getAckFlushInterval() {
+    return ackFlushInterval;
+  }
+
+  /**
+   * Sets how long an acknowledgement may wait for others, so they are written to the sidecar together. The
+   * sidecar is only allowed more events once their acknowledgements are written.
+   *
+   * @param ackFlushInterval Maximum wait before writing acknowledgements, zero to write them right away.
+   * @return This instance.
+   */
+  public SubscriptionOptions setAckFlushInterval(Duration ackFlushInterval) {
+    if ((ackFlushInterval == null) || ackFlushInterval.isNegative()) {
+      throw new IllegalArgumentException("Acknowledgement flush interval cannot be null or negative.");
+    }
+
+    this.ackFlushInterval = ackFlushInterval;
+    return this;
+  }
+
+  public int getMaxAckBatchSize() {
+    return maxAckBatchSize;
+  }
+
+  /**
+   * Sets the number of pending acknowledgements that are written without waiting for the flush interval.
+   *
+   * @param maxAckBatchSize Maximum number of acknowledgements waiting to be written, at least 1.
+   * @return This instance.
+   */
+  public SubscriptionOptions setMaxAckBatchSize(int maxAckBatchSize) {
+    if (maxAckBatchSize < 1) {
+      throw new IllegalArgumentException("Maximum acknowledgement batch size must be at least 1.");
+    }
+
+    this.maxAckBatchSize = maxAckBatchSize;
+    return this;
+  }
+
+  public Duration getMinReconnectBackoff() {
+    return minReconnectBackoff;
+  }
+
+  /**
+   * Sets the backoff before reconnecting after the stream ends or fails. It doubles on each failed attempt,
+   * up to the maximum, and starts over once connected. Each delay is randomized between half and all of it.
+   *
+   * @param minReconnectBackoff Backoff before the first reconnection.
+   * @return This instance.
+   */
+  public SubscriptionOptions setMinReconnectBackoff(Duration minReconnectBackoff) {
+    if ((minReconnectBackoff == null) || minReconnectBackoff.isNegative()) {
+      throw new IllegalArgumentException("Minimum reconnect backoff cannot be null or negative.");
+    }
+
+    this.minReconnectBackoff = minReconnectBackoff;
+    return this;
+  }
+
+  public Duration getMaxReconnectBackoff() {
+    return maxReconnectBackoff;
+  }
+
+  /**
+   * Sets the maximum backoff between reconnections.
+   *
+   * @param maxReconnectBackoff Maximum backoff.
+   * @return This instance.
+   */
+  public SubscriptionOptions setMaxReconnectBackoff(Duration maxReconnectBackoff) {
+    if ((maxReconnectBackoff == null) || maxReconnectBackoff.isNegative()) {
+      throw new IllegalArgumentException("Maximum reconnect backoff cannot be null or negative.");
+    }
+
+    this.maxReconnectBackoff = maxReconnectBackoff;
+    return this;
+  }
+
+  public Duration getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Sets how long the stream may go without receiving a message before it is considered dead and opened
+   * again. Time spent with the maximum number of events in flight does not count, since the sidecar cannot
+   * send more until some are acknowledged. Topics that can be quiet for longer must keep it disabled, and
+   * rely on gRPC keepalive instead.
+   *
+   * @param idleTimeout Maximum time without messages, zero to disable.
+   * @return This instance.
+   */
+  public SubscriptionOptions setIdleTimeout(Duration idleTimeout) {
+    if ((idleTimeout == null) || idleTimeout.isNegative()) {
+      throw new IllegalArgumentException("Idle timeout cannot be null or negative.");
+    }
+
+    this.idleTimeout = idleTimeout;
+    return this;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of events passed at once to a {@link BulkSubscriptionListener}. Batches can only
+   * be as large as the maximum number of events in flight.
+   *
+   * @param maxBatchSize Maximum number of events per batch, at least 1.
+   * @return This instance.
+   */
+  public SubscriptionOptions setMaxBatchSize(int maxBatchSize) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException("Maximum batch size must be at least 1.");
+    }
+
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  public Duration getMaxBatchWait() {
+    return maxBatchWait;
+  }
+
+  /**
+   * Sets how long a {@link BulkSubscriptionListener} batch may wait for more events before being passed on.
+   *
+   * @param maxBatchWait Maximum wait for a batch to fill, must be positive.
+   * @return This instance.
+   */
+  public SubscriptionOptions setMaxBatchWait(Duration maxBatchWait) {
+    if ((maxBatchWait == null) || maxBatchWait.isNegative() || maxBatchWait.isZero()) {
+      throw new IllegalArgumentException("Maximum batch wait must be positive.");
+    }
+
+    this.maxBatchWait = maxBatchWait;
+    return this;
+  }
+}
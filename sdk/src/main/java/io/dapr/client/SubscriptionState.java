@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+/**
+ * Connection state of a streaming subscription of events.
+ */
+public enum SubscriptionState {
+
+  /**
+   * Opening the stream to the sidecar.
+   */
+  CONNECTING,
+
+  /**
+   * Stream open, the sidecar answered.
+   */
+  CONNECTED,
+
+  /**
+   * Stream ended or failed, waiting before connecting again.
+   */
+  RECONNECTING,
+
+  /**
+   * Subscription closed, it will not connect again.
+   */
+  CLOSED
+}
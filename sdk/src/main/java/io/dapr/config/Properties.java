@@ -248,12 +248,51 @@ public class Properties {
 
   /**
    * Dapr's default maximum number of idle connections for HTTP connection pool.
+   *
+   * <p>Not applied by the JDK HTTP client, whose idle pool size is a process-level setting read once per JVM:
+   * set the jdk.httpclient.connectionPoolSize system property at startup instead.
    */
   public static final Property<Integer> HTTP_CLIENT_MAX_IDLE_CONNECTIONS = new IntegerProperty(
           "dapr.http.client.maxIdleConnections",
           "DAPR_HTTP_CLIENT_MAX_IDLE_CONNECTIONS",
           DEFAULT_HTTP_CLIENT_MAX_IDLE_CONNECTIONS);
 
+  /**
+   * Use HTTP/2 to talk to Dapr's HTTP endpoint, so concurrent calls are multiplexed over one connection.
+   * Plain-text endpoints are upgraded via h2c, falling back to HTTP/1.1 if the sidecar declines.
+   * Environment variable: DAPR_HTTP_CLIENT_HTTP2_ENABLED
+   * System property: dapr.http.client.http2.enabled
+   * Default: false
+   */
+  public static final Property<Boolean> HTTP_CLIENT_HTTP2_ENABLED = new BooleanProperty(
+      "dapr.http.client.http2.enabled",
+      "DAPR_HTTP_CLIENT_HTTP2_ENABLED",
+      false);
+
+  /**
+   * Run the HTTP client's work on virtual threads instead of a fixed pool of maxRequests threads.
+   * Requires Java 21 or newer.
+   * Environment variable: DAPR_HTTP_CLIENT_VIRTUAL_THREADS_ENABLED
+   * System property: dapr.http.client.virtualThreads.enabled
+   * Default: false
+   */
+  public static final Property<Boolean> HTTP_CLIENT_VIRTUAL_THREADS_ENABLED = new BooleanProperty(
+      "dapr.http.client.virtualThreads.enabled",
+      "DAPR_HTTP_CLIENT_VIRTUAL_THREADS_ENABLED",
+      false);
+
+  /**
+   * Send service invocations from DaprClient#invokeMethod over the gRPC channel (InvokeService API)
+   * instead of Dapr's HTTP endpoint.
+   * Environment variable: DAPR_INVOKE_METHOD_GRPC_ENABLED
+   * System property: dapr.invoke.method.grpc.enabled
+   * Default: false
+   */
+  public static final Property<Boolean> INVOKE_METHOD_GRPC_ENABLED = new BooleanProperty(
+      "dapr.invoke.method.grpc.enabled",
+      "DAPR_INVOKE_METHOD_GRPC_ENABLED",
+      false);
+
   /**
    * Dapr's default maximum inbound message size for GRPC in bytes.
    */
@@ -269,6 +308,53 @@ public class Properties {
         "dapr.grpc.max.inbound.metadata.size.bytes",
         "DAPR_GRPC_MAX_INBOUND_METADATA_SIZE_BYTES",
         8192);
+
+  /**
+   * Number of gRPC channels (and so HTTP/2 connections) the client opens to Dapr's gRPC endpoint.
+   * Calls go to the channel with the fewest calls in flight.
+   * Environment variable: DAPR_GRPC_CHANNEL_POOL_SIZE
+   * System property: dapr.grpc.channel.pool.size
+   * Default: 1
+   */
+  public static final Property<Integer> GRPC_CHANNEL_POOL_SIZE = new IntegerProperty(
+      "dapr.grpc.channel.pool.size",
+      "DAPR_GRPC_CHANNEL_POOL_SIZE",
+      1);
+
+  /**
+   * Whether gRPC channels use Netty's native epoll transport (Linux only), which also enables
+   * unix domain socket endpoints over epoll.
+   * Environment variable: DAPR_GRPC_NATIVE_TRANSPORT_ENABLED
+   * System property: dapr.grpc.native.transport.enabled
+   * Default: false
+   */
+  public static final Property<Boolean> GRPC_NATIVE_TRANSPORT_ENABLED = new BooleanProperty(
+      "dapr.grpc.native.transport.enabled",
+      "DAPR_GRPC_NATIVE_TRANSPORT_ENABLED",
+      false);
+
+  /**
+   * Number of threads in the shared epoll event loop used by the native gRPC transport, 0 for Netty's default.
+   * Environment variable: DAPR_GRPC_EVENT_LOOP_THREADS
+   * System property: dapr.grpc.event.loop.threads
+   * Default: 0
+   */
+  public static final Property<Integer> GRPC_EVENT_LOOP_THREADS = new IntegerProperty(
+      "dapr.grpc.event.loop.threads",
+      "DAPR_GRPC_EVENT_LOOP_THREADS",
+      0);
+
+  /**
+   * Whether gRPC callbacks run directly on the transport threads instead of a separate executor.
+   * Only safe when callbacks never block.
+   * Environment variable: DAPR_GRPC_DIRECT_EXECUTOR_ENABLED
+   * System property: dapr.grpc.direct.executor.enabled
+   * Default: false
+   */
+  public static final Property<Boolean> GRPC_DIRECT_EXECUTOR_ENABLED = new BooleanProperty(
+      "dapr.grpc.direct.executor.enabled",
+      "DAPR_GRPC_DIRECT_EXECUTOR_ENABLED",
+      false);
     
   /**
    * Mechanism to override properties set in a static context.
@@ -15,10 +15,12 @@ package io.dapr.internal.grpc;
 
 import io.dapr.internal.grpc.interceptors.DaprApiTokenInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprAppIdInterceptor;
+import io.dapr.internal.grpc.interceptors.DaprCallContext;
 import io.dapr.internal.grpc.interceptors.DaprMetadataReceiverInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprTimeoutInterceptor;
 import io.dapr.internal.grpc.interceptors.DaprTracingInterceptor;
 import io.dapr.internal.resiliency.TimeoutPolicy;
+import io.grpc.ClientInterceptor;
 import io.grpc.Metadata;
 import io.grpc.stub.AbstractStub;
 import reactor.util.context.ContextView;
@@ -35,6 +37,11 @@ public class DaprClientGrpcInterceptors {
 
   private final TimeoutPolicy timeoutPolicy;
 
+  /**
+   * Interceptors shared by every call, built once. Per-call values travel in the call options.
+   */
+  private final ClientInterceptor[] interceptors;
+
   /**
    * Instantiates a holder of all gRPC interceptors.
    */
@@ -50,6 +57,12 @@ public class DaprClientGrpcInterceptors {
   public DaprClientGrpcInterceptors(String daprApiToken, TimeoutPolicy timeoutPolicy) {
     this.daprApiToken = daprApiToken;
     this.timeoutPolicy = timeoutPolicy;
+    this.interceptors = new ClientInterceptor[] {
+        new DaprApiTokenInterceptor(this.daprApiToken),
+        new DaprTimeoutInterceptor(this.timeoutPolicy),
+        new DaprTracingInterceptor(),
+        new DaprMetadataReceiverInterceptor()
+    };
   }
 
   /**
@@ -121,12 +134,45 @@ public class DaprClientGrpcInterceptors {
       throw new IllegalArgumentException("client cannot be null");
     }
 
-    return client.withInterceptors(
-        new DaprAppIdInterceptor(appId),
-        new DaprApiTokenInterceptor(this.daprApiToken),
-        new DaprTimeoutInterceptor(this.timeoutPolicy),
-        new DaprTracingInterceptor(context),
-        new DaprMetadataReceiverInterceptor(metadataConsumer));
+    T intercepted;
+    if (appId == null) {
+      intercepted = client.withInterceptors(this.interceptors);
+    } else {
+      ClientInterceptor[] withAppId = new ClientInterceptor[this.interceptors.length + 1];
+      withAppId[0] = new DaprAppIdInterceptor(appId);
+      System.arraycopy(this.interceptors, 0, withAppId, 1, this.interceptors.length);
+      intercepted = client.withInterceptors(withAppId);
+    }
+
+    return withContext(intercepted, context, metadataConsumer);
+  }
+
+  /**
+   * Binds per-call values to a stub previously returned by one of the {@code intercept} methods.
+   * Unlike {@code intercept}, this does not rebuild the interceptor chain, so callers can intercept
+   * a stub once and reuse it for every call.
+   * @param interceptedClient gRPC client already carrying Dapr interceptors
+   * @param context Reactor context for tracing
+   * @param metadataConsumer Consumer of the gRPC metadata
+   * @param <T> async client type
+   * @return async client instance bound to the given per-call values
+   */
+  public <T extends AbstractStub<T>> T withContext(
+      final T interceptedClient,
+      final ContextView context,
+      final Consumer<Metadata> metadataConsumer) {
+    if (interceptedClient == null) {
+      throw new IllegalArgumentException("client cannot be null");
+    }
+
+    boolean hasContext = (context != null) && !context.isEmpty();
+    if (!hasContext && (metadataConsumer == null)) {
+      return interceptedClient;
+    }
+
+    // A single option, so the stub is copied once per call.
+    return interceptedClient.withOption(
+        DaprCallContext.OPTION, new DaprCallContext(hasContext ? context : null, metadataConsumer));
   }
 
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.internal.grpc.interceptors;
+
+import io.grpc.CallOptions;
+import io.grpc.Metadata;
+import reactor.util.context.ContextView;
+
+import java.util.function.Consumer;
+
+/**
+ * Per-call values read by the Dapr interceptors, bound to a stub as a single call option.
+ */
+public final class DaprCallContext {
+
+  /**
+   * Call option carrying the per-call values, used by interceptors that have none bound at construction.
+   */
+  public static final CallOptions.Key<DaprCallContext> OPTION = CallOptions.Key.create("dapr-call-context");
+
+  private final ContextView context;
+
+  private final Consumer<Metadata> metadataConsumer;
+
+  /**
+   * Creates the per-call values.
+   * @param context Reactor's context for tracing, or null.
+   * @param metadataConsumer Consumer of the response headers, or null.
+   */
+  public DaprCallContext(ContextView context, Consumer<Metadata> metadataConsumer) {
+    this.context = context;
+    this.metadataConsumer = metadataConsumer;
+  }
+
+  public ContextView getContext() {
+    return context;
+  }
+
+  public Consumer<Metadata> getMetadataConsumer() {
+    return metadataConsumer;
+  }
+}
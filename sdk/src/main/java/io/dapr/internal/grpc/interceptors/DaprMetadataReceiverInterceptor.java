@@ -31,6 +31,15 @@ public class DaprMetadataReceiverInterceptor implements ClientInterceptor {
 
   private final Consumer<Metadata> metadataConsumer;
 
+  /**
+   * Creates an instance that reads the metadata consumer from each call's options.
+   *
+   * @see DaprCallContext#OPTION
+   */
+  public DaprMetadataReceiverInterceptor() {
+    this(null);
+  }
+
   /**
    * Creates an instance of the consumer for gRPC metadata.
    * @param metadataConsumer gRPC metadata consumer
@@ -45,6 +54,9 @@ public class DaprMetadataReceiverInterceptor implements ClientInterceptor {
       CallOptions callOptions,
       Channel channel) {
     ClientCall<ReqT, RespT> clientCall = channel.newCall(methodDescriptor, callOptions);
+    final Consumer<Metadata> metadataConsumer = this.metadataConsumer != null
+        ? this.metadataConsumer
+        : getMetadataConsumer(callOptions);
     return new ForwardingClientCall.SimpleForwardingClientCall<>(clientCall) {
       @Override
       public void start(final Listener<RespT> responseListener, final Metadata metadata) {
@@ -62,4 +74,9 @@ public class DaprMetadataReceiverInterceptor implements ClientInterceptor {
       }
     };
   }
+
+  private static Consumer<Metadata> getMetadataConsumer(CallOptions callOptions) {
+    DaprCallContext callContext = callOptions.getOption(DaprCallContext.OPTION);
+    return callContext == null ? null : callContext.getMetadataConsumer();
+  }
 }
@@ -30,6 +30,15 @@ public class DaprTracingInterceptor implements ClientInterceptor {
 
   private final ContextView context;
 
+  /**
+   * Creates an instance of the injector that reads Reactor's context from each call's options.
+   *
+   * @see DaprCallContext#OPTION
+   */
+  public DaprTracingInterceptor() {
+    this(null);
+  }
+
   /**
    * Creates an instance of the injector for gRPC context from Reactor's context.
    * @param context Reactor's context
@@ -44,6 +53,7 @@ public class DaprTracingInterceptor implements ClientInterceptor {
       CallOptions callOptions,
       Channel channel) {
     ClientCall<ReqT, RespT> clientCall = channel.newCall(methodDescriptor, callOptions);
+    final ContextView context = this.context != null ? this.context : getContext(callOptions);
     return new ForwardingClientCall.SimpleForwardingClientCall<>(clientCall) {
       @Override
       public void start(final Listener<RespT> responseListener, final Metadata metadata) {
@@ -55,4 +65,9 @@ public class DaprTracingInterceptor implements ClientInterceptor {
     };
   }
 
+  private static ContextView getContext(CallOptions callOptions) {
+    DaprCallContext callContext = callOptions.getOption(DaprCallContext.OPTION);
+    return callContext == null ? null : callContext.getContext();
+  }
+
 }
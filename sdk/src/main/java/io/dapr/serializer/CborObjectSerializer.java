@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import io.dapr.client.ObjectSerializer;
+
+/**
+ * Serializer for request/response and state objects using the binary CBOR encoding of the JSON data model.
+ *
+ * <p>Objects are mapped with the same Jackson settings as {@link DefaultObjectSerializer}; byte[] and protobuf
+ * messages are passed through unchanged.
+ */
+public class CborObjectSerializer extends ObjectSerializer implements DaprStreamingObjectSerializer {
+
+  /**
+   * Content type of CBOR payloads.
+   */
+  public static final String CONTENT_TYPE = "application/cbor";
+
+  private static final ObjectMapper CBOR_MAPPER = new ObjectMapper(new CBORFactory())
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+      .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+  @Override
+  protected ObjectMapper getObjectMapper() {
+    return CBOR_MAPPER;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+}
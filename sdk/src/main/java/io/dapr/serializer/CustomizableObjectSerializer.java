@@ -16,7 +16,7 @@ package io.dapr.serializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.client.ObjectSerializer;
 
-public class CustomizableObjectSerializer extends ObjectSerializer implements DaprObjectSerializer {
+public class CustomizableObjectSerializer extends ObjectSerializer implements DaprStreamingObjectSerializer {
 
   private final ObjectMapper objectMapper;
 
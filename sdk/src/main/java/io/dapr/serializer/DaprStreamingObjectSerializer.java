@@ -0,0 +1,51 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.serializer;
+
+import io.dapr.utils.TypeRef;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Optional extension of {@link DaprObjectSerializer} that avoids intermediate byte[] copies.
+ *
+ * <p>When the configured serializer implements this interface, the client writes payloads straight into the
+ * protobuf buffers and reads them back from read-only views, instead of copying to and from byte[]. Both
+ * methods must produce the same results as their byte[] counterparts.
+ */
+public interface DaprStreamingObjectSerializer extends DaprObjectSerializer {
+
+  /**
+   * Serializes the given object into the given stream, without closing it.
+   *
+   * @param o Object to be serialized.
+   * @param output Stream to write the serialized object to.
+   * @return False if the object serializes to null (nothing written), true otherwise.
+   * @throws IOException If cannot serialize.
+   */
+  boolean serializeTo(Object o, OutputStream output) throws IOException;
+
+  /**
+   * Deserializes the remaining bytes of the given buffer into a object, without moving its position.
+   *
+   * @param data Data to be deserialized, may be null.
+   * @param type Type of object to be deserialized.
+   * @param <T> Type of object to be deserialized.
+   * @return Deserialized object.
+   * @throws IOException If cannot deserialize object.
+   */
+  <T> T deserializeFrom(ByteBuffer data, TypeRef<T> type) throws IOException;
+}
@@ -17,11 +17,13 @@ import io.dapr.client.ObjectSerializer;
 import io.dapr.utils.TypeRef;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Default serializer/deserializer for request/response objects and for state objects too.
  */
-public class DefaultObjectSerializer extends ObjectSerializer implements DaprObjectSerializer {
+public class DefaultObjectSerializer extends ObjectSerializer implements DaprStreamingObjectSerializer {
 
   /**
    * {@inheritDoc}
@@ -39,6 +41,22 @@ public class DefaultObjectSerializer extends ObjectSerializer implements DaprObj
     return super.deserialize(data, type);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean serializeTo(Object o, OutputStream output) throws IOException {
+    return super.serializeTo(o, output);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(ByteBuffer data, TypeRef<T> type) throws IOException {
+    return super.deserializeFrom(data, type);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.serializer;
+
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import io.dapr.utils.TypeRef;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializer for protobuf messages, using their binary wire format.
+ *
+ * <p>Only protobuf messages and byte[] (passed through unchanged) are supported. Empty content deserializes to
+ * null, so a missing state is not mistaken for a default message.
+ */
+public class ProtobufObjectSerializer implements DaprStreamingObjectSerializer {
+
+  /**
+   * Content type of protobuf payloads.
+   */
+  public static final String CONTENT_TYPE = "application/x-protobuf";
+
+  private final Map<Type, Parser<?>> parsers = new ConcurrentHashMap<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] serialize(Object o) throws IOException {
+    if (o == null) {
+      return null;
+    }
+
+    if (o instanceof byte[]) {
+      return (byte[]) o;
+    }
+
+    return toMessage(o).toByteArray();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean serializeTo(Object o, OutputStream output) throws IOException {
+    if (o == null) {
+      return false;
+    }
+
+    if (o instanceof byte[]) {
+      output.write((byte[]) o);
+      return true;
+    }
+
+    toMessage(o).writeTo(output);
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T deserialize(byte[] data, TypeRef<T> type) throws IOException {
+    if (type.getType() == byte[].class) {
+      return (T) data;
+    }
+
+    if ((data == null) || (data.length == 0) || (type.getType() == Void.class)) {
+      return null;
+    }
+
+    return (T) getParser(type.getType()).parseFrom(data);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T deserializeFrom(ByteBuffer data, TypeRef<T> type) throws IOException {
+    if (type.getType() == byte[].class) {
+      if (data == null) {
+        return null;
+      }
+
+      ByteBuffer source = data.duplicate();
+      byte[] bytes = new byte[source.remaining()];
+      source.get(bytes);
+      return (T) bytes;
+    }
+
+    if ((data == null) || !data.hasRemaining() || (type.getType() == Void.class)) {
+      return null;
+    }
+
+    return (T) getParser(type.getType()).parseFrom(data.duplicate());
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  private static MessageLite toMessage(Object o) {
+    if (!(o instanceof MessageLite)) {
+      throw new IllegalArgumentException(
+          "Protobuf serializer only supports protobuf messages and byte[], got " + o.getClass().getName());
+    }
+
+    return (MessageLite) o;
+  }
+
+  private Parser<?> getParser(Type type) {
+    Parser<?> parser = this.parsers.get(type);
+    if (parser != null) {
+      return parser;
+    }
+
+    return this.parsers.computeIfAbsent(type, ProtobufObjectSerializer::findParser);
+  }
+
+  private static Parser<?> findParser(Type type) {
+    if (!(type instanceof Class) || !MessageLite.class.isAssignableFrom((Class<?>) type)) {
+      throw new IllegalArgumentException("Protobuf serializer only supports protobuf message types, got " + type);
+    }
+
+    try {
+      return (Parser<?>) ((Class<?>) type).getDeclaredMethod("parser").invoke(null);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Could not get the protobuf parser of " + type, e);
+    }
+  }
+}
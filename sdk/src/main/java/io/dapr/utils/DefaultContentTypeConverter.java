@@ -13,21 +13,33 @@ limitations under the License.
 
 package io.dapr.utils;
 
+import io.dapr.serializer.CborObjectSerializer;
+import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.serializer.ProtobufObjectSerializer;
+import io.dapr.serializer.SmileObjectSerializer;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * A utility class for converting event to bytes based on content type or given serializer.
  * When an application/json or application/cloudevents+json is given as content type, the object serializer is used
- * to serialize the data into bytes
+ * to serialize the data into bytes. Binary serializer content types (Smile, CBOR and protobuf) use the matching
+ * serializer, and are carried as raw bytes over gRPC and base64 encoded over HTTP, like application/octet-stream.
  */
 public class DefaultContentTypeConverter {
 
   private static final DefaultObjectSerializer OBJECT_SERIALIZER = new DefaultObjectSerializer();
 
+  private static final Map<String, DaprObjectSerializer> BINARY_SERIALIZERS = Map.of(
+      SmileObjectSerializer.CONTENT_TYPE, new SmileObjectSerializer(),
+      CborObjectSerializer.CONTENT_TYPE, new CborObjectSerializer(),
+      ProtobufObjectSerializer.CONTENT_TYPE, new ProtobufObjectSerializer());
+
   /**
    * Function to convert a given event to bytes for HTTP calls.
    *
@@ -40,6 +52,11 @@ public class DefaultContentTypeConverter {
    */
   public static <T> byte[] convertEventToBytesForHttp(T event, String contentType)
       throws IllegalArgumentException, IOException {
+    DaprObjectSerializer binarySerializer = getBinarySerializer(contentType);
+    if (binarySerializer != null) {
+      byte[] serialized = binarySerializer.serialize(event);
+      return serialized == null ? null : Base64.getEncoder().encode(serialized);
+    }
     if (isBinaryContentType(contentType)) {
       if (event instanceof byte[]) {
         return Base64.getEncoder().encode((byte[]) event);
@@ -74,6 +91,10 @@ public class DefaultContentTypeConverter {
    */
   public static <T> byte[] convertEventToBytesForGrpc(T event, String contentType)
       throws IllegalArgumentException, IOException {
+    DaprObjectSerializer binarySerializer = getBinarySerializer(contentType);
+    if (binarySerializer != null) {
+      return binarySerializer.serialize(event);
+    }
     if (isBinaryContentType(contentType)) {
       if (event instanceof byte[]) {
         // Return the bytes of the event directly for gRPC
@@ -100,6 +121,11 @@ public class DefaultContentTypeConverter {
    */
   public static <T> T convertBytesToEventFromHttp(byte[] event, String contentType, TypeRef<T> typeRef)
       throws IllegalArgumentException, IOException {
+    DaprObjectSerializer binarySerializer = getBinarySerializer(contentType);
+    if (binarySerializer != null) {
+      byte[] decoded = event == null ? null : Base64.getDecoder().decode(new String(event, StandardCharsets.UTF_8));
+      return binarySerializer.deserialize(decoded, typeRef);
+    }
     if (isBinaryContentType(contentType)) {
       byte[] decoded = Base64.getDecoder().decode(new String(event, StandardCharsets.UTF_8));
       return OBJECT_SERIALIZER.deserialize(decoded, typeRef);
@@ -132,6 +158,10 @@ public class DefaultContentTypeConverter {
    */
   public static <T> T convertBytesToEventFromGrpc(byte[] event, String contentType, TypeRef<T> typeRef)
       throws IllegalArgumentException, IOException {
+    DaprObjectSerializer binarySerializer = getBinarySerializer(contentType);
+    if (binarySerializer != null) {
+      return binarySerializer.deserialize(event, typeRef);
+    }
     if (isBinaryContentType(contentType)) {
       // The byte array is directly deserialized
       return OBJECT_SERIALIZER.deserialize(event, typeRef);
@@ -157,6 +187,15 @@ public class DefaultContentTypeConverter {
     return isContentType(contentType, "application/octet-stream");
   }
 
+  private static DaprObjectSerializer getBinarySerializer(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    int semiColonPos = contentType.indexOf(";");
+    String mediaType = semiColonPos > 0 ? contentType.substring(0, semiColonPos) : contentType;
+    return BINARY_SERIALIZERS.get(mediaType.trim().toLowerCase(Locale.ROOT));
+  }
+
   private static boolean isContentType(String contentType, String expected) {
     if (contentType == null) {
       return false;
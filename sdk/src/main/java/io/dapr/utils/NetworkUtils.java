@@ -24,7 +24,15 @@ import io.grpc.ManagedChannelBuilder;
 import io.grpc.TlsChannelCredentials;
 import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.channel.Channel;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.unix.DomainSocketAddress;
 import io.grpc.netty.shaded.io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -32,17 +40,23 @@ import java.io.InputStream;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketAddress;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
+import static io.dapr.config.Properties.GRPC_DIRECT_EXECUTOR_ENABLED;
 import static io.dapr.config.Properties.GRPC_ENABLE_KEEP_ALIVE;
 import static io.dapr.config.Properties.GRPC_ENDPOINT;
+import static io.dapr.config.Properties.GRPC_EVENT_LOOP_THREADS;
 import static io.dapr.config.Properties.GRPC_KEEP_ALIVE_TIMEOUT_SECONDS;
 import static io.dapr.config.Properties.GRPC_KEEP_ALIVE_TIME_SECONDS;
 import static io.dapr.config.Properties.GRPC_KEEP_ALIVE_WITHOUT_CALLS;
 import static io.dapr.config.Properties.GRPC_MAX_INBOUND_MESSAGE_SIZE_BYTES;
 import static io.dapr.config.Properties.GRPC_MAX_INBOUND_METADATA_SIZE_BYTES;
+import static io.dapr.config.Properties.GRPC_NATIVE_TRANSPORT_ENABLED;
 import static io.dapr.config.Properties.GRPC_PORT;
 import static io.dapr.config.Properties.GRPC_TLS_CA_PATH;
 import static io.dapr.config.Properties.GRPC_TLS_CERT_PATH;
@@ -100,6 +114,18 @@ public final class NetworkUtils {
 
   private static final Pattern GRPC_ENDPOINT_PATTERN = Pattern.compile(GRPC_ENDPOINT_REGEX, Pattern.CASE_INSENSITIVE);
 
+  private static final String UNIX_ABSTRACT_PREFIX = "unix-abstract:";
+
+  private static final String UNIX_URI_PREFIX = "unix://";
+
+  private static final String UNIX_PREFIX = "unix:";
+
+  /**
+   * Epoll event loops shared by all native transport channels, per thread count. Threads are daemons and
+   * live as long as the JVM, like Netty's default shared event loops.
+   */
+  private static final Map<Integer, EventLoopGroup> EPOLL_EVENT_LOOP_GROUPS = new ConcurrentHashMap<>();
+
   private NetworkUtils() {
   }
 
@@ -140,7 +166,7 @@ public final class NetworkUtils {
     boolean insecureTls = properties.getValue(GRPC_TLS_INSECURE);
     if (insecureTls) {
       try {
-        ManagedChannelBuilder<?> builder = NettyChannelBuilder.forTarget(settings.endpoint)
+        ManagedChannelBuilder<?> builder = newNettyChannelBuilder(settings, null)
             .sslContext(GrpcSslContexts.forClient()
                 .trustManager(InsecureTrustManagerFactory.INSTANCE)
                 .build());
@@ -171,7 +197,7 @@ public final class NetworkUtils {
     String clientCertPath = settings.tlsCertPath;
     String caCertPath = settings.tlsCaPath;
 
-    ManagedChannelBuilder<?> builder = ManagedChannelBuilder.forTarget(settings.endpoint);
+    ManagedChannelBuilder<?> builder = newChannelBuilder(settings, null);
 
     if (clientCertPath != null && clientKeyPath != null) {
       // mTLS case - using client cert and key, with optional CA cert for server
@@ -186,7 +212,7 @@ public final class NetworkUtils {
           builderCreds.trustManager(caCertInputStream); // For server authentication
         }
         ChannelCredentials credentials = builderCreds.build();
-        builder = Grpc.newChannelBuilder(settings.endpoint, credentials);
+        builder = newChannelBuilder(settings, credentials);
       } catch (IOException e) {
         throw new DaprException(
             new DaprError().setErrorCode("TLS_CREDENTIALS_ERROR")
@@ -199,7 +225,7 @@ public final class NetworkUtils {
         ChannelCredentials credentials = TlsChannelCredentials.newBuilder()
             .trustManager(caCertInputStream)
             .build();
-        builder = Grpc.newChannelBuilder(settings.endpoint, credentials);
+        builder = newChannelBuilder(settings, credentials);
       } catch (IOException e) {
         throw new DaprException(
             new DaprError().setErrorCode("TLS_CREDENTIALS_ERROR")
@@ -226,6 +252,88 @@ public final class NetworkUtils {
         .maxInboundMetadataSize(settings.maxInboundMetadataSize).build();
   }
 
+  private static ManagedChannelBuilder<?> newChannelBuilder(
+      GrpcEndpointSettings settings,
+      ChannelCredentials credentials) {
+    if (settings.nativeTransport) {
+      return newNettyChannelBuilder(settings, credentials);
+    }
+
+    ManagedChannelBuilder<?> builder = credentials == null
+        ? ManagedChannelBuilder.forTarget(settings.endpoint)
+        : Grpc.newChannelBuilder(settings.endpoint, credentials);
+    if (settings.directExecutor) {
+      builder.directExecutor();
+    }
+    return builder;
+  }
+
+  private static NettyChannelBuilder newNettyChannelBuilder(
+      GrpcEndpointSettings settings,
+      ChannelCredentials credentials) {
+    if (!settings.nativeTransport) {
+      NettyChannelBuilder builder = credentials == null
+          ? NettyChannelBuilder.forTarget(settings.endpoint)
+          : NettyChannelBuilder.forTarget(settings.endpoint, credentials);
+      if (settings.directExecutor) {
+        builder.directExecutor();
+      }
+      return builder;
+    }
+
+    if (!Epoll.isAvailable()) {
+      throw new IllegalStateException(
+          "Native gRPC transport requires Linux with epoll support.", Epoll.unavailabilityCause());
+    }
+
+    NettyChannelBuilder builder;
+    Class<? extends Channel> channelType;
+    SocketAddress domainSocket = toDomainSocketAddress(settings.endpoint);
+    if (domainSocket != null) {
+      builder = credentials == null
+          ? NettyChannelBuilder.forAddress(domainSocket)
+          : NettyChannelBuilder.forAddress(domainSocket, credentials);
+      channelType = EpollDomainSocketChannel.class;
+    } else {
+      builder = credentials == null
+          ? NettyChannelBuilder.forTarget(settings.endpoint)
+          : NettyChannelBuilder.forTarget(settings.endpoint, credentials);
+      channelType = EpollSocketChannel.class;
+    }
+
+    EventLoopGroup eventLoopGroup =
+        EPOLL_EVENT_LOOP_GROUPS.computeIfAbsent(settings.eventLoopThreads, NetworkUtils::newEpollGroup);
+    builder.eventLoopGroup(eventLoopGroup).channelType(channelType);
+    if (settings.directExecutor) {
+      builder.directExecutor();
+    }
+    return builder;
+  }
+
+  private static EventLoopGroup newEpollGroup(int threads) {
+    return new EpollEventLoopGroup(threads, new DefaultThreadFactory("dapr-grpc-epoll", true));
+  }
+
+  /**
+   * Maps unix socket endpoints to a Netty domain socket address.
+   *
+   * @param endpoint Parsed gRPC endpoint.
+   * @return Domain socket address, or null if the endpoint is not a unix socket.
+   */
+  static DomainSocketAddress toDomainSocketAddress(String endpoint) {
+    if (endpoint.startsWith(UNIX_ABSTRACT_PREFIX)) {
+      // Abstract namespace sockets are identified by a leading NUL byte.
+      return new DomainSocketAddress("\0" + endpoint.substring(UNIX_ABSTRACT_PREFIX.length()));
+    }
+    if (endpoint.startsWith(UNIX_URI_PREFIX)) {
+      return new DomainSocketAddress(endpoint.substring(UNIX_URI_PREFIX.length()));
+    }
+    if (endpoint.startsWith(UNIX_PREFIX)) {
+      return new DomainSocketAddress(endpoint.substring(UNIX_PREFIX.length()));
+    }
+    return null;
+  }
+
   // Not private to allow unit testing
   static final class GrpcEndpointSettings {
     final String endpoint;
@@ -242,10 +350,15 @@ public final class NetworkUtils {
     final int maxInboundMessageSize;
     final int maxInboundMetadataSize;
 
+    final boolean nativeTransport;
+    final int eventLoopThreads;
+    final boolean directExecutor;
+
     private GrpcEndpointSettings(
         String endpoint, boolean secure, String tlsPrivateKeyPath, String tlsCertPath, String tlsCaPath,
         boolean enableKeepAlive, Duration keepAliveTimeSeconds, Duration keepAliveTimeoutSeconds,
-        boolean keepAliveWithoutCalls, int maxInboundMessageSize, int maxInboundMetadataSize) {
+        boolean keepAliveWithoutCalls, int maxInboundMessageSize, int maxInboundMetadataSize,
+        TransportSettings transport) {
       this.endpoint = endpoint;
       this.secure = secure;
       this.tlsPrivateKeyPath = tlsPrivateKeyPath;
@@ -257,6 +370,9 @@ public final class NetworkUtils {
       this.keepAliveWithoutCalls = keepAliveWithoutCalls;
       this.maxInboundMessageSize = maxInboundMessageSize;
       this.maxInboundMetadataSize = maxInboundMetadataSize;
+      this.nativeTransport = transport.nativeTransport;
+      this.eventLoopThreads = transport.eventLoopThreads;
+      this.directExecutor = transport.directExecutor;
     }
 
     static GrpcEndpointSettings parse(Properties properties) {
@@ -271,6 +387,10 @@ public final class NetworkUtils {
       boolean keepAliveWithoutCalls = properties.getValue(GRPC_KEEP_ALIVE_WITHOUT_CALLS);
       int maxInboundMessageSizeBytes = properties.getValue(GRPC_MAX_INBOUND_MESSAGE_SIZE_BYTES);
       int maxInboundMetadataSizeBytes = properties.getValue(GRPC_MAX_INBOUND_METADATA_SIZE_BYTES);
+      TransportSettings transport = new TransportSettings(
+          properties.getValue(GRPC_NATIVE_TRANSPORT_ENABLED),
+          properties.getValue(GRPC_EVENT_LOOP_THREADS),
+          properties.getValue(GRPC_DIRECT_EXECUTOR_ENABLED));
 
       boolean secure = false;
       String grpcEndpoint = properties.getValue(GRPC_ENDPOINT);
@@ -314,21 +434,22 @@ public final class NetworkUtils {
                   address,
                   port),
               secure, clientKeyPath, clientCertPath, caCertPath, enablekeepAlive, keepAliveTimeSeconds,
-              keepAliveTimeoutSeconds, keepAliveWithoutCalls, maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes);
+              keepAliveTimeoutSeconds, keepAliveWithoutCalls, maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes,
+              transport);
         }
 
         var socket = matcher.group("socket");
         if (socket != null) {
           return new GrpcEndpointSettings(socket, secure, clientKeyPath, clientCertPath, caCertPath, enablekeepAlive,
               keepAliveTimeSeconds, keepAliveTimeoutSeconds, keepAliveWithoutCalls,
-              maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes);
+              maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes, transport);
         }
 
         var vsocket = matcher.group("vsocket");
         if (vsocket != null) {
           return new GrpcEndpointSettings(vsocket, secure, clientKeyPath, clientCertPath, caCertPath, enablekeepAlive,
               keepAliveTimeSeconds, keepAliveTimeoutSeconds, keepAliveWithoutCalls, 
-              maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes);
+              maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes, transport);
         }
       }
 
@@ -337,11 +458,23 @@ public final class NetworkUtils {
           address,
           port), secure, clientKeyPath, clientCertPath, caCertPath, enablekeepAlive, keepAliveTimeSeconds,
           keepAliveTimeoutSeconds, keepAliveWithoutCalls,
-          maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes);
+          maxInboundMessageSizeBytes, maxInboundMetadataSizeBytes, transport);
     }
 
   }
 
+  private static final class TransportSettings {
+    final boolean nativeTransport;
+    final int eventLoopThreads;
+    final boolean directExecutor;
+
+    private TransportSettings(boolean nativeTransport, int eventLoopThreads, boolean directExecutor) {
+      this.nativeTransport = nativeTransport;
+      this.eventLoopThreads = eventLoopThreads;
+      this.directExecutor = directExecutor;
+    }
+  }
+
   private static void callWithRetry(Runnable function, long retryTimeoutMilliseconds) throws InterruptedException {
     long started = System.currentTimeMillis();
     while (true) {
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.ExecuteStateTransactionRequest;
+import io.dapr.client.domain.SaveStateRequest;
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.TransactionalStateOperation;
+import io.dapr.exceptions.DaprException;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingStateClientTest {
+
+  private static final String STORE = "MyStateStore";
+
+  private DaprClient daprClient;
+
+  private BatchingStateClient client;
+
+  @BeforeEach
+  public void setup() {
+    daprClient = mock(DaprClient.class);
+    client = new BatchingStateClient(daprClient, new BatchingStateOptions()
+        .setMaxBatchSize(3)
+        .setMaxDelay(Duration.ofHours(1)));
+  }
+
+  @Test
+  public void invalidOptionsAreRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new BatchingStateClient(daprClient, new BatchingStateOptions().setMaxBatchSize(0)));
+    assertThrows(IllegalArgumentException.class,
+        () -> new BatchingStateClient(daprClient, new BatchingStateOptions().setMaxDelay(Duration.ofMillis(-1))));
+  }
+
+  @Test
+  public void duplicateKeysAreFetchedOnce() throws Exception {
+    State<String> value = new State<>("key1", "value1", "1");
+    when(daprClient.getBulkState(eq(STORE), eq(List.of("key1")), any(TypeRef.class)))
+        .thenReturn(Mono.just(List.of(value)));
+
+    CompletableFuture<State<String>> first = client.getState(STORE, "key1", String.class).toFuture();
+    CompletableFuture<State<String>> second = client.getState(STORE, "key1", String.class).toFuture();
+    verify(daprClient, never()).getBulkState(any(), anyList(), any(TypeRef.class));
+    client.flush();
+
+    assertSame(value, first.get());
+    assertSame(value, second.get());
+    assertEquals(2, client.getRequestCount());
+    assertEquals(1, client.getBulkRequestCount());
+  }
+
+  @Test
+  public void fullBatchIsSentWithoutWaiting() throws Exception {
+    when(daprClient.getBulkState(eq(STORE), eq(List.of("key1", "key2", "key3")), any(TypeRef.class)))
+        .thenReturn(Mono.just(List.of(
+            new State<>("key3", "value3", "1"),
+            new State<>("key1", "value1", "1"))));
+
+    CompletableFuture<State<String>> key1 = client.getState(STORE, "key1", String.class).toFuture();
+    CompletableFuture<State<String>> key2 = client.getState(STORE, "key2", String.class).toFuture();
+    CompletableFuture<State<String>> key3 = client.getState(STORE, "key3", String.class).toFuture();
+
+    assertEquals("value1", key1.get().getValue());
+    assertEquals("key2", key2.get().getKey());
+    assertNull(key2.get().getValue());
+    assertEquals("value3", key3.get().getValue());
+  }
+
+  @Test
+  public void storesAndTypesAreBatchedSeparately() {
+    when(daprClient.getBulkState(any(), anyList(), any(TypeRef.class))).thenReturn(Mono.just(List.of()));
+
+    client.getState(STORE, "key1", String.class).toFuture();
+    client.getState("OtherStore", "key1", String.class).toFuture();
+    client.getState(STORE, "key1", Integer.class).toFuture();
+    client.flush();
+
+    verify(daprClient, times(2)).getBulkState(eq(STORE), anyList(), any(TypeRef.class));
+    verify(daprClient).getBulkState(eq("OtherStore"), anyList(), any(TypeRef.class));
+  }
+
+  @Test
+  public void errorsReachEveryCaller() {
+    when(daprClient.getBulkState(eq(STORE), anyList(), any(TypeRef.class)))
+        .thenReturn(Mono.just(List.of(new State<>("key1", "failed"))));
+    CompletableFuture<State<String>> key1 = client.getState(STORE, "key1", String.class).toFuture();
+    client.flush();
+    ExecutionException itemError = assertThrows(ExecutionException.class, key1::get);
+    assertInstanceOf(DaprException.class, itemError.getCause());
+
+    RuntimeException failure = new RuntimeException("unavailable");
+    when(daprClient.getBulkState(eq(STORE), anyList(), any(TypeRef.class))).thenReturn(Mono.error(failure));
+    CompletableFuture<State<String>> key2 = client.getState(STORE, "key2", String.class).toFuture();
+    CompletableFuture<State<String>> key3 = client.getState(STORE, "key3", String.class).toFuture();
+    client.flush();
+    assertSame(failure, assertThrows(ExecutionException.class, key2::get).getCause());
+    assertSame(failure, assertThrows(ExecutionException.class, key3::get).getCause());
+  }
+
+  @Test
+  public void invalidArgumentsFailWithoutBatching() {
+    assertThrows(IllegalArgumentException.class, () -> client.getState("", "key1", String.class).block());
+    assertThrows(IllegalArgumentException.class, () -> client.getState(STORE, " ", String.class).block());
+    verify(daprClient, never()).getBulkState(any(), anyList(), any(TypeRef.class));
+  }
+
+  @Test
+  public void lastWriteWins() throws Exception {
+    when(daprClient.saveBulkState(any(SaveStateRequest.class))).thenReturn(Mono.empty());
+
+    CompletableFuture<Void> first = client.saveState(STORE, "key1", "value1").toFuture();
+    CompletableFuture<Void> second = client.saveState(STORE, "key1", "value2").toFuture();
+    client.flush();
+
+    ArgumentCaptor<SaveStateRequest> request = ArgumentCaptor.forClass(SaveStateRequest.class);
+    verify(daprClient).saveBulkState(request.capture());
+    assertEquals(STORE, request.getValue().getStoreName());
+    assertEquals(1, request.getValue().getStates().size());
+    assertEquals("value2", request.getValue().getStates().get(0).getValue());
+    first.get();
+    second.get();
+    assertEquals(2, client.getWriteCount());
+    assertEquals(1, client.getBulkWriteCount());
+  }
+
+  @Test
+  public void deletesAreSentAsTransaction() throws Exception {
+    when(daprClient.executeStateTransaction(any(ExecuteStateTransactionRequest.class))).thenReturn(Mono.empty());
+
+    client.saveState(STORE, "key1", "value1").toFuture();
+    client.deleteState(STORE, "key2").toFuture();
+    CompletableFuture<Void> last = client.deleteState(STORE, "key3").toFuture();
+
+    ArgumentCaptor<ExecuteStateTransactionRequest> request =
+        ArgumentCaptor.forClass(ExecuteStateTransactionRequest.class);
+    verify(daprClient).executeStateTransaction(request.capture());
+    List<TransactionalStateOperation<?>> operations = request.getValue().getOperations();
+    assertEquals(3, operations.size());
+    assertEquals(TransactionalStateOperation.OperationType.UPSERT, operations.get(0).getOperation());
+    assertEquals(TransactionalStateOperation.OperationType.DELETE, operations.get(1).getOperation());
+    assertEquals("key3", operations.get(2).getRequest().getKey());
+    verify(daprClient, never()).saveBulkState(any(SaveStateRequest.class));
+    last.get();
+  }
+
+  @Test
+  public void writeErrorsReachEveryCaller() {
+    RuntimeException failure = new RuntimeException("unavailable");
+    when(daprClient.saveBulkState(any(SaveStateRequest.class))).thenReturn(Mono.error(failure));
+
+    CompletableFuture<Void> key1 = client.saveState(STORE, "key1", "value1").toFuture();
+    CompletableFuture<Void> key2 = client.saveState(STORE, "key2", "value2").toFuture();
+    client.flush();
+
+    assertSame(failure, assertThrows(ExecutionException.class, key1::get).getCause());
+    assertSame(failure, assertThrows(ExecutionException.class, key2::get).getCause());
+  }
+
+  @Test
+  public void fullBufferHoldsWritesBack() throws Exception {
+    client = new BatchingStateClient(daprClient, new BatchingStateOptions()
+        .setMaxDelay(Duration.ofHours(1))
+        .setMaxPendingWrites(1));
+    Sinks.Empty<Void> firstResponse = Sinks.empty();
+    when(daprClient.saveBulkState(any(SaveStateRequest.class)))
+        .thenReturn(firstResponse.asMono())
+        .thenReturn(Mono.empty());
+
+    CompletableFuture<Void> first = client.saveState(STORE, "key1", "value1").toFuture();
+    CompletableFuture<Void> second = client.saveState(STORE, "key2", "value2").toFuture();
+    client.flush();
+    client.flush();
+    verify(daprClient, times(1)).saveBulkState(any(SaveStateRequest.class));
+    assertFalse(second.isDone());
+
+    firstResponse.tryEmitEmpty();
+    assertTrue(first.isDone());
+    client.flush();
+    verify(daprClient, times(2)).saveBulkState(any(SaveStateRequest.class));
+    second.get();
+  }
+
+  @Test
+  public void batchesForSameStoreAreSentInOrder() throws Exception {
+    Sinks.Empty<Void> firstResponse = Sinks.empty();
+    when(daprClient.saveBulkState(any(SaveStateRequest.class)))
+        .thenReturn(firstResponse.asMono())
+        .thenReturn(Mono.empty());
+
+    CompletableFuture<Void> first = client.saveState(STORE, "key1", "value1").toFuture();
+    client.flush();
+    CompletableFuture<Void> second = client.saveState(STORE, "key1", "value2").toFuture();
+    client.flush();
+    verify(daprClient, times(1)).saveBulkState(any(SaveStateRequest.class));
+
+    firstResponse.tryEmitEmpty();
+    first.get();
+    second.get();
+    ArgumentCaptor<SaveStateRequest> request = ArgumentCaptor.forClass(SaveStateRequest.class);
+    verify(daprClient, times(2)).saveBulkState(request.capture());
+    assertEquals("value2", request.getAllValues().get(1).getStates().get(0).getValue());
+  }
+
+  @Test
+  public void readWaitsForUnfinishedWrite() throws Exception {
+    Sinks.Empty<Void> writeResponse = Sinks.empty();
+    when(daprClient.saveBulkState(any(SaveStateRequest.class))).thenReturn(writeResponse.asMono());
+    when(daprClient.getBulkState(eq(STORE), eq(List.of("key1")), any(TypeRef.class)))
+        .thenReturn(Mono.just(List.of(new State<>("key1", "value1", "1"))));
+
+    client.saveState(STORE, "key1", "value1").toFuture();
+    CompletableFuture<State<String>> read = client.getState(STORE, "key1", String.class).toFuture();
+    client.flush();
+    verify(daprClient, never()).getBulkState(any(), anyList(), any(TypeRef.class));
+
+    writeResponse.tryEmitEmpty();
+    client.flush();
+    assertEquals("value1", read.get().getValue());
+  }
+
+  @Test
+  public void blockedWritesAreBounded() {
+    client = new BatchingStateClient(daprClient, new BatchingStateOptions()
+        .setMaxDelay(Duration.ofHours(1))
+        .setMaxPendingWrites(1)
+        .setMaxBlockedWrites(1));
+
+    client.saveState(STORE, "key1", "value1").toFuture();
+    CompletableFuture<Void> blocked = client.saveState(STORE, "key2", "value2").toFuture();
+    CompletableFuture<Void> rejected = client.saveState(STORE, "key3", "value3").toFuture();
+
+    assertFalse(blocked.isDone());
+    assertInstanceOf(IllegalStateException.class, assertThrows(ExecutionException.class, rejected::get).getCause());
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.TransactionalStateOperation;
+import io.dapr.utils.TypeRef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingStateClientTest {
+
+  private static final String STORE = "MyStateStore";
+
+  private final AtomicLong now = new AtomicLong();
+
+  private DaprClient daprClient;
+
+  private CachingStateClient client;
+
+  @BeforeEach
+  public void setup() {
+    daprClient = mock(DaprClient.class);
+    client = new CachingStateClient(daprClient, new StateCacheOptions()
+        .setMaxEntries(2)
+        .setTtl(Duration.ofSeconds(10)), now::get);
+  }
+
+  @Test
+  public void invalidOptionsAreRejected() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new CachingStateClient(daprClient, new StateCacheOptions().setMaxEntries(0)));
+    assertThrows(IllegalArgumentException.class,
+        () -> new CachingStateClient(daprClient, new StateCacheOptions().setTtl(Duration.ofSeconds(-1))));
+  }
+
+  @Test
+  public void secondReadIsServedFromCache() {
+    State<String> value = new State<>("key1", "value1", "1");
+    when(daprClient.getState(eq(STORE), eq("key1"), any(TypeRef.class))).thenReturn(Mono.just(value));
+
+    assertSame(value, client.getState(STORE, "key1", String.class).block());
+    assertSame(value, client.getState(STORE, "key1", String.class).block());
+
+    verify(daprClient, times(1)).getState(eq(STORE), eq("key1"), any(TypeRef.class));
+    assertEquals(1, client.getHitCount());
+    assertEquals(1, client.getMissCount());
+  }
+
+  @Test
+  public void expiredEntryWithSameEtagIsRevalidated() {
+    State<String> cached = new State<>("key1", "value1", "1");
+    when(daprClient.getState(eq(STORE), eq("key1"), any(TypeRef.class)))
+        .thenReturn(Mono.just(cached))
+        .thenReturn(Mono.just(new State<>("key1", "value1", "1")))
+        .thenReturn(Mono.just(new State<>("key1", "value2", "2")));
+
+    client.getState(STORE, "key1", String.class).block();
+    now.addAndGet(Duration.ofSeconds(11).toNanos());
+    assertSame(cached, client.getState(STORE, "key1", String.class).block());
+    assertEquals(1, client.getRevalidationCount());
+
+    now.addAndGet(Duration.ofSeconds(11).toNanos());
+    assertEquals("value2", client.getState(STORE, "key1", String.class).block().getValue());
+    assertEquals("value2", client.getState(STORE, "key1", String.class).block().getValue());
+    assertEquals(2, client.getMissCount());
+    assertEquals(1, client.getHitCount());
+  }
+
+  @Test
+  public void writesInvalidate() {
+    when(daprClient.getState(eq(STORE), eq("key1"), any(TypeRef.class)))
+        .thenReturn(Mono.just(new State<>("key1", "value1", "1")))
+        .thenReturn(Mono.just(new State<>("key1", "value2", "2")));
+    when(daprClient.saveState(STORE, "key1", "value2")).thenReturn(Mono.empty());
+
+    client.getState(STORE, "key1", String.class).block();
+    client.saveState(STORE, "key1", "value2").block();
+
+    assertEquals(0, client.size());
+    assertEquals("value2", client.getState(STORE, "key1", String.class).block().getValue());
+  }
+
+  @Test
+  public void writesToOtherKeysKeepConcurrentFills() {
+    Sinks.One<State<String>> key1Response = Sinks.one();
+    when(daprClient.getState(eq(STORE), eq("key1"), any(TypeRef.class))).thenReturn(key1Response.asMono());
+    when(daprClient.saveState(STORE, "key2", "value2")).thenReturn(Mono.empty());
+
+    CompletableFuture<State<String>> key1 = client.getState(STORE, "key1", String.class).toFuture();
+    client.saveState(STORE, "key2", "value2").block();
+    key1Response.tryEmitValue(new State<>("key1", "value1", "1"));
+
+    assertEquals("value1", key1.join().getValue());
+    assertEquals(1, client.size());
+  }
+
+  @Test
+  public void writesDropConcurrentFillsOfTheSameKey() {
+    Sinks.One<State<String>> key1Response = Sinks.one();
+    when(daprClient.getState(eq(STORE), eq("key1"), any(TypeRef.class))).thenReturn(key1Response.asMono());
+    when(daprClient.saveState(STORE, "key1", "value2")).thenReturn(Mono.empty());
+
+    CompletableFuture<State<String>> key1 = client.getState(STORE, "key1", String.class).toFuture();
+    client.saveState(STORE, "key1", "value2").block();
+    key1Response.tryEmitValue(new State<>("key1", "value1", "1"));
+
+    assertEquals("value1", key1.join().getValue());
+    assertEquals(0, client.size());
+  }
+
+  @Test
+  public void transactionsInvalidateEveryKey() {
+    when(daprClient.getState(eq(STORE), anyString(), any(TypeRef.class)))
+        .thenAnswer(invocation -> Mono.just(new State<>(invocation.getArgument(1), "value", "1")));
+    List<TransactionalStateOperation<?>> operations = List.of(
+        new TransactionalStateOperation<>(TransactionalStateOperation.OperationType.UPSERT,
+            new State<>("key1", "value", "")),
+        new TransactionalStateOperation<>(TransactionalStateOperation.OperationType.DELETE,
+            new State<>("key2", "", "")));
+    when(daprClient.executeStateTransaction(STORE, operations)).thenReturn(Mono.empty());
+
+    client.getState(STORE, "key1", String.class).block();
+    client.getState(STORE, "key2", String.class).block();
+    assertEquals(2, client.size());
+    client.executeStateTransaction(STORE, operations).block();
+
+    assertEquals(0, client.size());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryIsEvicted() {
+    when(daprClient.getState(eq(STORE), anyString(), any(TypeRef.class)))
+        .thenAnswer(invocation -> Mono.just(new State<>(invocation.getArgument(1), "value", "1")));
+
+    client.getState(STORE, "key1", String.class).block();
+    client.getState(STORE, "key2", String.class).block();
+    client.getState(STORE, "key1", String.class).block();
+    client.getState(STORE, "key3", String.class).block();
+    client.getState(STORE, "key1", String.class).block();
+
+    assertEquals(2, client.size());
+    assertEquals(1, client.getEvictionCount());
+    verify(daprClient, times(1)).getState(eq(STORE), eq("key1"), any(TypeRef.class));
+  }
+
+  @Test
+  public void entriesAreBoundedByWeight() {
+    StateCacheOptions options = new StateCacheOptions()
+        .setMaxWeightBytes(20)
+        .setWeigher(state -> state.getKey().length() + ((String) state.getValue()).length());
+    client = new CachingStateClient(daprClient, options, now::get);
+    when(daprClient.getState(eq(STORE), anyString(), any(TypeRef.class)))
+        .thenAnswer(invocation -> Mono.just(new State<>(invocation.getArgument(1), "0123456789", "1")));
+
+    client.getState(STORE, "key1", String.class).block();
+    client.getState(STORE, "key2", String.class).block();
+
+    assertEquals(1, client.size());
+    assertEquals(1, client.getEvictionCount());
+  }
+
+  @Test
+  public void weightBoundRequiresWeigher() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new CachingStateClient(daprClient, new StateCacheOptions().setMaxWeightBytes(20)));
+  }
+
+  @Test
+  public void bulkReadFetchesOnlyMissingKeys() {
+    when(daprClient.getState(eq(STORE), eq("key1"), any(TypeRef.class)))
+        .thenReturn(Mono.just(new State<>("key1", "value1", "1")));
+    when(daprClient.getBulkState(eq(STORE), eq(List.of("key2")), any(TypeRef.class)))
+        .thenReturn(Mono.just(List.of(new State<>("key2", "value2", "1"))));
+
+    client.getState(STORE, "key1", String.class).block();
+    List<State<String>> states = client.getBulkState(STORE, List.of("key1", "key2"), TypeRef.STRING).block();
+
+    assertEquals("value1", states.get(0).getValue());
+    assertEquals("value2", states.get(1).getValue());
+    verify(daprClient).getBulkState(eq(STORE), anyList(), any(TypeRef.class));
+    assertEquals(2, client.size());
+  }
+}
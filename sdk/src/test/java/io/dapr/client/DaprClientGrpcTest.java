@@ -25,6 +25,7 @@ import io.dapr.client.domain.DeleteStateRequest;
 import io.dapr.client.domain.ExecuteStateTransactionRequest;
 import io.dapr.client.domain.GetBulkStateRequest;
 import io.dapr.client.domain.GetStateRequest;
+import io.dapr.client.domain.HttpExtension;
 import io.dapr.client.domain.InvokeBindingRequest;
 import io.dapr.client.domain.PublishEventRequest;
 import io.dapr.client.domain.RuleMetadata;
@@ -88,6 +89,7 @@ import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -111,6 +113,7 @@ public class DaprClientGrpcTest {
     daprStub = mock(DaprGrpc.DaprStub.class);
     daprHttp = mock(DaprHttp.class);
     when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+    when(daprStub.withOption(any(), any())).thenReturn(daprStub);
     client = new DaprClientImpl(
         channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer());
     serializer = new ObjectSerializer();
@@ -325,6 +328,63 @@ public class DaprClientGrpcTest {
         () -> result.block());
   }
 
+  @Test
+  public void invokeMethodOverGrpcTest() throws IOException {
+    DaprClient grpcInvokeClient = new DaprClientImpl(
+        channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer(), null, null, true);
+    CommonProtos.InvokeResponse response = CommonProtos.InvokeResponse.newBuilder()
+        .setData(Any.newBuilder().setValue(serialize("OK")).build())
+        .build();
+    ArgumentCaptor<DaprProtos.InvokeServiceRequest> captor =
+        ArgumentCaptor.forClass(DaprProtos.InvokeServiceRequest.class);
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<CommonProtos.InvokeResponse> observer =
+          (StreamObserver<CommonProtos.InvokeResponse>) invocation.getArguments()[1];
+      observer.onNext(response);
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).invokeService(captor.capture(), any());
+
+    HttpExtension httpExtension = new HttpExtension(
+        DaprHttp.HttpMethods.PUT, Map.of("param", List.of("a b")), Map.of("x-custom", "value"));
+    String result = grpcInvokeClient.invokeMethod("appId", "orders/1", "request", httpExtension, String.class)
+        .block();
+
+    assertEquals("OK", result);
+    DaprProtos.InvokeServiceRequest request = captor.getValue();
+    assertEquals("appId", request.getId());
+    assertEquals("orders/1", request.getMessage().getMethod());
+    assertEquals("application/json", request.getMessage().getContentType());
+    assertEquals(CommonProtos.HTTPExtension.Verb.PUT, request.getMessage().getHttpExtension().getVerb());
+    assertEquals("param=a+b", request.getMessage().getHttpExtension().getQuerystring());
+    assertEquals(serialize("request"), request.getMessage().getData().getValue());
+    verify(daprHttp, never()).invokeApi(any(), any(), any(), any(byte[].class), any(), any());
+  }
+
+  @Test
+  public void invokeMethodOverGrpcUnusualHeadersTest() throws IOException {
+    DaprClient grpcInvokeClient = new DaprClientImpl(
+        channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer(), null, null, true);
+    CommonProtos.InvokeResponse response = CommonProtos.InvokeResponse.newBuilder()
+        .setData(Any.newBuilder().setValue(serialize("OK")).build())
+        .build();
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<CommonProtos.InvokeResponse> observer =
+          (StreamObserver<CommonProtos.InvokeResponse>) invocation.getArguments()[1];
+      observer.onNext(response);
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).invokeService(any(DaprProtos.InvokeServiceRequest.class), any());
+
+    // Binary and invalid keys are either routed through the binary marshaller or skipped, never rejected.
+    HttpExtension httpExtension = new HttpExtension(
+        DaprHttp.HttpMethods.POST, Map.of(), Map.of("X-Trace-Bin", "value", "bad header", "value"));
+    String result = grpcInvokeClient.invokeMethod("appId", "orders", "request", httpExtension, String.class)
+        .block();
+
+    assertEquals("OK", result);
+  }
+
   @Test
   public void invokeBindingTest() throws IOException {
     DaprProtos.InvokeBindingResponse.Builder responseBuilder =
@@ -1185,6 +1245,28 @@ public class DaprClientGrpcTest {
     assertEquals("", argument.getValue().getStates(1).getEtag().getValue());
   }
 
+  @Test
+  public void saveStateWithOverriddenSerializerTest() throws Exception {
+    DefaultObjectSerializer stateSerializer = new DefaultObjectSerializer() {
+      @Override
+      public byte[] serialize(Object o) {
+        return "custom".getBytes(StandardCharsets.UTF_8);
+      }
+    };
+    client = new DaprClientImpl(channel, daprStub, daprHttp, new DefaultObjectSerializer(), stateSerializer);
+
+    ArgumentCaptor<DaprProtos.SaveStateRequest> argument = ArgumentCaptor.forClass(DaprProtos.SaveStateRequest.class);
+    doAnswer((Answer<Void>) invocation -> {
+      StreamObserver<Empty> observer = (StreamObserver<Empty>) invocation.getArguments()[1];
+      observer.onNext(Empty.getDefaultInstance());
+      observer.onCompleted();
+      return null;
+    }).when(daprStub).saveState(argument.capture(), any());
+
+    client.saveState(STATE_STORE_NAME, "key1", "State value").block();
+    assertEquals("custom", argument.getValue().getStates(0).getValue().toStringUtf8());
+  }
+
   @Test
   public void saveStateExceptionThrownTest() {
     String key = "key1";
@@ -88,6 +88,7 @@ public class DaprClientHttpTest {
     GrpcChannelFacade channel = mock(GrpcChannelFacade.class);
     DaprGrpc.DaprStub daprStub = mock(DaprGrpc.DaprStub.class);
     when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+    when(daprStub.withOption(any(), any())).thenReturn(daprStub);
     try {
       doNothing().when(channel).close();
     } catch (IOException e) {
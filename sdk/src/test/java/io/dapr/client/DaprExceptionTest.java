@@ -49,6 +49,7 @@ public class DaprExceptionTest {
         daprStub = mock(DaprGrpc.DaprStub.class);
         daprHttp = mock(DaprHttp.class);
         when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+        when(daprStub.withOption(any(), any())).thenReturn(daprStub);
         client = new DaprClientImpl(
                 channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer());
         doNothing().when(channel).close();
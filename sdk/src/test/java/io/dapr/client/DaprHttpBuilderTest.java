@@ -18,8 +18,11 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.net.http.HttpClient;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DaprHttpBuilderTest {
@@ -33,6 +36,46 @@ public class DaprHttpBuilderTest {
     assertSame(getHttpClient(daprHttp), getHttpClient(anotherDaprHttp));
   }
 
+  @Test
+  public void httpClientPerSettings() throws Exception {
+    Properties http1 = new Properties();
+    Properties http2 = new Properties(Map.of(Properties.HTTP_CLIENT_HTTP2_ENABLED.getName(), "true"));
+    HttpClient http1Client = getHttpClient(new DaprHttpBuilder().build(http1));
+    HttpClient http2Client = getHttpClient(new DaprHttpBuilder().build(http2));
+
+    assertNotSame(http1Client, http2Client);
+    assertEquals(HttpClient.Version.HTTP_1_1, http1Client.version());
+    assertEquals(HttpClient.Version.HTTP_2, http2Client.version());
+    assertSame(http2Client, getHttpClient(new DaprHttpBuilder().build(http2)));
+  }
+
+  @Test
+  public void sharedHttpClientReleasedOnLastClose() throws Exception {
+    Properties properties = new Properties(Map.of(Properties.HTTP_CLIENT_MAX_REQUESTS.getName(), "7"));
+    DaprHttp daprHttp = new DaprHttpBuilder().build(properties);
+    DaprHttp anotherDaprHttp = new DaprHttpBuilder().build(properties);
+    HttpClient httpClient = getHttpClient(daprHttp);
+
+    daprHttp.close();
+    daprHttp.close();
+    DaprHttp stillShared = new DaprHttpBuilder().build(properties);
+    assertSame(httpClient, getHttpClient(stillShared));
+
+    anotherDaprHttp.close();
+    stillShared.close();
+    DaprHttp recreated = new DaprHttpBuilder().build(properties);
+    assertNotSame(httpClient, getHttpClient(recreated));
+    recreated.close();
+  }
+
+  @Test
+  public void providedHttpClient() throws Exception {
+    HttpClient httpClient = HttpClient.newHttpClient();
+    DaprHttp daprHttp = new DaprHttpBuilder().build(new Properties(), httpClient);
+
+    assertSame(httpClient, getHttpClient(daprHttp));
+  }
+
   private static HttpClient getHttpClient(DaprHttp daprHttp) throws Exception {
     Field httpClientField = DaprHttp.class.getDeclaredField("httpClient");
     httpClientField.setAccessible(true);
@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,7 @@ import static io.dapr.utils.TestUtils.formatIpAddress;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -108,6 +110,49 @@ public class DaprHttpTest {
     assertEquals("xyz", request.headers().firstValue(Headers.DAPR_API_TOKEN).get());
   }
 
+  @Test
+  public void invokeApi_bodyBufferIsReadOnlyView() throws IOException {
+    byte[] content = serializer.serialize(EXPECTED_RESULT);
+    MockHttpResponse mockHttpResponse = new MockHttpResponse(content, HTTP_OK);
+    CompletableFuture<HttpResponse<Object>> mockResponse = CompletableFuture.completedFuture(mockHttpResponse);
+
+    when(httpClient.sendAsync(any(), any())).thenReturn(mockResponse);
+
+    DaprHttp daprHttp = new DaprHttp(sidecarIp, 3500, daprTokenApi, READ_TIMEOUT, httpClient);
+    DaprHttp.Response response = daprHttp.invokeApi(
+        "POST",
+        "v1.0/state".split("/"),
+        null,
+        (byte[]) null,
+        null,
+        Context.empty()
+    ).block();
+    ByteBuffer buffer = response.getBodyBuffer();
+
+    assertTrue(buffer.isReadOnly());
+    assertEquals(content.length, buffer.remaining());
+    assertEquals(EXPECTED_RESULT, serializer.deserializeFrom(buffer, TypeRef.STRING));
+    assertEquals(EXPECTED_RESULT, serializer.deserialize(response.getBody(), String.class));
+  }
+
+  @Test
+  public void invokeApi_recordsMetrics() {
+    MockHttpResponse mockHttpResponse = new MockHttpResponse(new byte[0], HTTP_OK);
+    CompletableFuture<HttpResponse<Object>> mockResponse = CompletableFuture.completedFuture(mockHttpResponse);
+
+    when(httpClient.sendAsync(any(), any())).thenReturn(mockResponse);
+
+    DaprHttp daprHttp = new DaprHttp(sidecarIp, 3500, daprTokenApi, READ_TIMEOUT, httpClient);
+    for (int i = 0; i < 3; i++) {
+      daprHttp.invokeApi("GET", "v1.0/state".split("/"), null, (byte[]) null, null, Context.empty()).block();
+    }
+    DaprHttp.Metrics metrics = daprHttp.getMetrics();
+
+    assertEquals(3, metrics.getRequests());
+    assertEquals(0, metrics.getInFlightRequests());
+    assertEquals(1, metrics.getPeakInFlightRequests());
+  }
+
   @Test
   public void invokeApi_daprApiToken_absent() throws IOException {
     byte[] content = serializer.serialize(EXPECTED_RESULT);
@@ -21,6 +21,8 @@ import com.google.protobuf.ByteString;
 import io.dapr.client.domain.BulkPublishEntry;
 import io.dapr.client.domain.BulkPublishRequest;
 import io.dapr.client.domain.BulkPublishResponse;
+import io.dapr.client.domain.BulkSubscribeAppResponseEntry;
+import io.dapr.client.domain.BulkSubscribeAppResponseStatus;
 import io.dapr.client.domain.CloudEvent;
 import io.dapr.client.domain.DeleteJobRequest;
 import io.dapr.client.domain.GetJobRequest;
@@ -41,8 +43,13 @@ import io.dapr.utils.TypeRef;
 import io.dapr.v1.DaprAppCallbackProtos;
 import io.dapr.v1.DaprGrpc;
 import io.dapr.v1.DaprProtos;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -52,10 +59,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -69,8 +79,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.dapr.utils.TestUtils.assertThrowsDaprException;
@@ -113,6 +126,7 @@ public class DaprPreviewClientGrpcTest {
     daprStub = mock(DaprGrpc.DaprStub.class);
     daprHttp = mock(DaprHttp.class);
     when(daprStub.withInterceptors(any())).thenReturn(daprStub);
+    when(daprStub.withOption(any(), any())).thenReturn(daprStub);
     previewClient = new DaprClientImpl(
             channel, daprStub, daprHttp, new DefaultObjectSerializer(), new DefaultObjectSerializer());
     doNothing().when(channel).close();
@@ -562,6 +576,729 @@ public class DaprPreviewClientGrpcTest {
     assertEquals(numErrors, errors.size());
   }
 
+  @Test
+  public void subscribeEventFluxTest() throws Exception {
+    var numEvents = 10;
+    var pubsubName = "pubsubName";
+    var topicName = "topicName";
+    var data = "my message";
+
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> requests =
+            Collections.synchronizedList(new ArrayList<>());
+    final Set<String> acked = Collections.synchronizedSet(new HashSet<>());
+    final AtomicInteger sent = new AtomicInteger();
+    final CountDownLatch cancelled = new CountDownLatch(1);
+
+    DaprGrpc.DaprImplBase sidecar = new DaprGrpc.DaprImplBase() {
+      @Override
+      public StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> subscribeTopicEventsAlpha1(
+              StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> responseObserver) {
+        var events = (ServerCallStreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) responseObserver;
+        var subscribed = new AtomicBoolean();
+        // Events are only sent while the client has requested more.
+        Runnable send = () -> {
+          while (subscribed.get() && events.isReady() && (sent.get() < numEvents)) {
+            events.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                    .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                            .setId(Integer.toString(sent.getAndIncrement()))
+                            .setPubsubName(pubsubName)
+                            .setTopic(topicName)
+                            .setData(ByteString.copyFromUtf8("\"" + data + "\""))
+                            .setDataContentType("application/json")
+                            .build())
+                    .build());
+          }
+        };
+        events.setOnReadyHandler(send);
+        events.setOnCancelHandler(cancelled::countDown);
+        return new StreamObserver<>() {
+
+          @Override
+          public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+            requests.add(request);
+            if (request.hasInitialRequest()) {
+              subscribed.set(true);
+              send.run();
+            } else {
+              acked.add(request.getEventProcessed().getId());
+            }
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+          }
+
+          @Override
+          public void onCompleted() {
+          }
+        };
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    Server server = InProcessServerBuilder.forName(serverName).directExecutor().addService(sidecar).build().start();
+    ManagedChannel managedChannel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    try {
+      // The client from setup is left open, since tearDown expects the channel facade to be closed once.
+      previewClient = new DaprClientImpl(channel, DaprGrpc.newStub(managedChannel), daprHttp,
+              new DefaultObjectSerializer(), new DefaultObjectSerializer());
+
+      final List<SubscribedEvent<String>> received = Collections.synchronizedList(new ArrayList<>());
+      BaseSubscriber<SubscribedEvent<String>> subscriber = new BaseSubscriber<>() {
+        @Override
+        protected void hookOnSubscribe(org.reactivestreams.Subscription subscription) {
+          // Nothing is requested until the test asks for it.
+        }
+
+        @Override
+        protected void hookOnNext(SubscribedEvent<String> event) {
+          received.add(event);
+        }
+      };
+
+      // Both ends run on the calling thread, so each request is fully served before it returns.
+      previewClient.subscribeToEvents(pubsubName, topicName, TypeRef.STRING).subscribe(subscriber);
+      assertEquals(0, sent.get());
+
+      subscriber.request(2);
+      assertEquals(2, sent.get());
+      assertEquals(2, received.size());
+      assertEquals(data, received.get(0).getEvent().getData());
+      // Events are only acked once the subscriber is done with them.
+      assertTrue(acked.isEmpty());
+      received.get(0).ack(SubscriptionListener.Status.SUCCESS);
+      received.get(1).ack(SubscriptionListener.Status.RETRY);
+      received.get(1).ack(SubscriptionListener.Status.SUCCESS);
+      assertEquals(Set.of("0", "1"), acked);
+
+      subscriber.request(3);
+      assertEquals(5, sent.get());
+      assertEquals(5, received.size());
+      for (int i = 2; i < 5; i++) {
+        received.get(i).ack(SubscriptionListener.Status.SUCCESS);
+      }
+
+      subscriber.dispose();
+      assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    } finally {
+      managedChannel.shutdownNow();
+      server.shutdownNow();
+    }
+
+    assertEquals(topicName, requests.get(0).getInitialRequest().getTopic());
+    assertEquals(6, requests.size());
+    for (int i = 0; i < 5; i++) {
+      var processed = requests.get(i + 1).getEventProcessed();
+      assertEquals(Integer.toString(i), processed.getId());
+      assertEquals(i == 1
+                      ? DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.RETRY
+                      : DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.SUCCESS,
+              processed.getStatus().getStatus());
+    }
+  }
+
+  @Test
+  public void subscribeEventParallelTest() throws Exception {
+    var numEvents = 40;
+    var numKeys = 3;
+    var parallelism = 4;
+
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch acked = new CountDownLatch(1);
+
+    doAnswer((Answer<StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1>>) invocation -> {
+      StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> observer =
+              (StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) invocation.getArguments()[0];
+      return new StreamObserver<>() {
+
+        @Override
+        public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+          if (!request.hasInitialRequest()) {
+            acks.add(request);
+            if (acks.size() == numEvents) {
+              acked.countDown();
+            }
+            return;
+          }
+
+          for (int i = 0; i < numEvents; i++) {
+            observer.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                    .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                            .setId(Integer.toString(i))
+                            .setPubsubName("pubsubName")
+                            .setTopic("topicName")
+                            .setData(ByteString.copyFromUtf8(Integer.toString(i % numKeys)))
+                            .setDataContentType("application/json")
+                            .build())
+                    .build());
+          }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+      };
+    }).when(daprStub).subscribeTopicEventsAlpha1(any(StreamObserver.class));
+
+    final AtomicInteger running = new AtomicInteger();
+    final AtomicInteger maxRunning = new AtomicInteger();
+    final Map<Integer, List<Integer>> processed = new HashMap<>();
+
+    var subscription = previewClient.subscribeToEvents(
+            "pubsubName",
+            "topicName",
+            new SubscriptionListener<Integer>() {
+              @Override
+              public Mono<Status> onEvent(CloudEvent<Integer> event) {
+                return Mono.fromRunnable(() -> maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+                        .then(Mono.delay(Duration.ofMillis(2)))
+                        .then(Mono.fromSupplier(() -> {
+                          synchronized (processed) {
+                            processed.computeIfAbsent(event.getData(), k -> new ArrayList<>())
+                                    .add(Integer.parseInt(event.getId()));
+                          }
+                          running.decrementAndGet();
+                          return Status.SUCCESS;
+                        }));
+              }
+
+              @Override
+              public void onError(RuntimeException exception) {
+              }
+            },
+            TypeRef.INT,
+            new SubscriptionOptions()
+                    .setParallelism(parallelism)
+                    .setOrderingKey(event -> String.valueOf(event.getData())));
+    acked.await();
+    subscription.close();
+    subscription.awaitTermination();
+
+    assertEquals(numEvents, acks.size());
+    assertTrue(maxRunning.get() <= parallelism);
+    for (var ids : processed.values()) {
+      for (int i = 1; i < ids.size(); i++) {
+        assertTrue(ids.get(i - 1) < ids.get(i));
+      }
+    }
+  }
+
+  @Test
+  public void subscribeEventBatchedAcksTest() throws Exception {
+    var numEvents = 20;
+
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch acked = new CountDownLatch(1);
+
+    doAnswer((Answer<StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1>>) invocation -> {
+      StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> observer =
+              (StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) invocation.getArguments()[0];
+      return new StreamObserver<>() {
+
+        @Override
+        public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+          if (!request.hasInitialRequest()) {
+            acks.add(request);
+            if (acks.size() == numEvents) {
+              acked.countDown();
+            }
+            return;
+          }
+
+          for (int i = 0; i < numEvents; i++) {
+            observer.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                    .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                            .setId(Integer.toString(i))
+                            .setPubsubName("pubsubName")
+                            .setTopic("topicName")
+                            .setData(ByteString.copyFromUtf8("\"data\""))
+                            .setDataContentType("application/json")
+                            .build())
+                    .build());
+          }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+      };
+    }).when(daprStub).subscribeTopicEventsAlpha1(any(StreamObserver.class));
+
+    var subscription = previewClient.subscribeToEvents(
+            "pubsubName",
+            "topicName",
+            new SubscriptionListener<String>() {
+              @Override
+              public Mono<Status> onEvent(CloudEvent<String> event) {
+                return Mono.just(Status.SUCCESS);
+              }
+
+              @Override
+              public void onError(RuntimeException exception) {
+              }
+            },
+            TypeRef.STRING,
+            new SubscriptionOptions()
+                    .setAckFlushInterval(Duration.ofMillis(10))
+                    .setMaxAckBatchSize(8));
+    acked.await();
+    subscription.close();
+    subscription.awaitTermination();
+
+    Set<String> ids = new HashSet<>();
+    for (var ack : acks) {
+      assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.SUCCESS,
+              ack.getEventProcessed().getStatus().getStatus());
+      ids.add(ack.getEventProcessed().getId());
+    }
+    assertEquals(numEvents, ids.size());
+  }
+
+  @Test
+  public void subscribeEventBulkTest() throws Exception {
+    var numEvents = 10;
+    var maxBatchSize = 4;
+
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = Collections.synchronizedList(new ArrayList<>());
+    final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch acked = new CountDownLatch(1);
+
+    doAnswer((Answer<StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1>>) invocation -> {
+      StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> observer =
+              (StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) invocation.getArguments()[0];
+      return new StreamObserver<>() {
+
+        @Override
+        public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+          if (!request.hasInitialRequest()) {
+            acks.add(request);
+            if (acks.size() == numEvents) {
+              acked.countDown();
+            }
+            return;
+          }
+
+          for (int i = 0; i < numEvents; i++) {
+            observer.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                    .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                            .setId(Integer.toString(i))
+                            .setPubsubName("pubsubName")
+                            .setTopic("topicName")
+                            .setData(ByteString.copyFromUtf8("\"data\""))
+                            .setDataContentType("application/json")
+                            .build())
+                    .build());
+          }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+      };
+    }).when(daprStub).subscribeTopicEventsAlpha1(any(StreamObserver.class));
+
+    var subscription = previewClient.subscribeToEvents(
+            "pubsubName",
+            "topicName",
+            new BulkSubscriptionListener<String>() {
+              @Override
+              public Mono<List<BulkSubscribeAppResponseEntry>> onEvents(List<CloudEvent<String>> events) {
+                batchSizes.add(events.size());
+                List<BulkSubscribeAppResponseEntry> entries = new ArrayList<>();
+                for (CloudEvent<String> event : events) {
+                  if (event.getId().equals("7")) {
+                    // No status, so it should be retried.
+                    continue;
+                  }
+                  var status = event.getId().equals("3")
+                          ? BulkSubscribeAppResponseStatus.DROP
+                          : BulkSubscribeAppResponseStatus.SUCCESS;
+                  entries.add(new BulkSubscribeAppResponseEntry(event.getId(), status));
+                }
+                return Mono.just(entries);
+              }
+
+              @Override
+              public void onError(RuntimeException exception) {
+              }
+            },
+            TypeRef.STRING,
+            new SubscriptionOptions()
+                    .setMaxBatchSize(maxBatchSize)
+                    .setMaxBatchWait(Duration.ofMillis(10)));
+    acked.await();
+    subscription.close();
+    subscription.awaitTermination();
+
+    int received = 0;
+    for (int batchSize : batchSizes) {
+      assertTrue(batchSize <= maxBatchSize);
+      received += batchSize;
+    }
+    assertEquals(numEvents, received);
+
+    Map<String, DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus> statuses = new HashMap<>();
+    for (var ack : acks) {
+      statuses.put(ack.getEventProcessed().getId(), ack.getEventProcessed().getStatus().getStatus());
+    }
+    assertEquals(numEvents, statuses.size());
+    assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.DROP, statuses.get("3"));
+    assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.RETRY, statuses.get("7"));
+    assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.SUCCESS, statuses.get("0"));
+  }
+
+  @Test
+  public void subscribeEventBulkSlowListenerTest() throws Exception {
+    var numEvents = 10;
+
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch acked = new CountDownLatch(numEvents);
+
+    doAnswer((Answer<StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1>>) invocation -> {
+      StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> observer =
+              (StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) invocation.getArguments()[0];
+      return new StreamObserver<>() {
+
+        @Override
+        public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+          if (!request.hasInitialRequest()) {
+            acks.add(request);
+            acked.countDown();
+            return;
+          }
+
+          for (int i = 0; i < numEvents; i++) {
+            observer.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                    .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                            .setId(Integer.toString(i))
+                            .setPubsubName("pubsubName")
+                            .setTopic("topicName")
+                            .setData(ByteString.copyFromUtf8("\"data\""))
+                            .setDataContentType("application/json")
+                            .build())
+                    .build());
+          }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+      };
+    }).when(daprStub).subscribeTopicEventsAlpha1(any(StreamObserver.class));
+
+    final List<RuntimeException> errors = Collections.synchronizedList(new ArrayList<>());
+    var subscription = previewClient.subscribeToEvents(
+            "pubsubName",
+            "topicName",
+            new BulkSubscriptionListener<String>() {
+              @Override
+              public Mono<List<BulkSubscribeAppResponseEntry>> onEvents(List<CloudEvent<String>> events) {
+                List<BulkSubscribeAppResponseEntry> entries = new ArrayList<>();
+                for (CloudEvent<String> event : events) {
+                  entries.add(new BulkSubscribeAppResponseEntry(event.getId(), BulkSubscribeAppResponseStatus.SUCCESS));
+                }
+                // Much slower than the maximum batch wait, so batches are ready long before they are requested.
+                return Mono.delay(Duration.ofMillis(50)).thenReturn(entries);
+              }
+
+              @Override
+              public void onError(RuntimeException exception) {
+                errors.add(exception);
+              }
+            },
+            TypeRef.STRING,
+            new SubscriptionOptions()
+                    .setParallelism(1)
+                    .setMaxBatchSize(2)
+                    .setMaxBatchWait(Duration.ofMillis(1)));
+    assertTrue(acked.await(5, TimeUnit.SECONDS));
+    subscription.close();
+    subscription.awaitTermination();
+
+    assertTrue(errors.isEmpty());
+    Set<String> ids = new HashSet<>();
+    for (var ack : acks) {
+      assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.SUCCESS,
+              ack.getEventProcessed().getStatus().getStatus());
+      ids.add(ack.getEventProcessed().getId());
+    }
+    assertEquals(numEvents, ids.size());
+  }
+
+  @Test
+  public void subscribeEventReconnectTest() throws Exception {
+    final AtomicInteger connections = new AtomicInteger();
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch acked = new CountDownLatch(1);
+
+    doAnswer((Answer<StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1>>) invocation -> {
+      StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> observer =
+              (StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) invocation.getArguments()[0];
+      final int connection = connections.incrementAndGet();
+      return new StreamObserver<>() {
+
+        @Override
+        public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+          if (!request.hasInitialRequest()) {
+            acks.add(request);
+            acked.countDown();
+            return;
+          }
+
+          if (connection == 1) {
+            // The sidecar restarts before sending anything.
+            observer.onError(Status.UNAVAILABLE.asRuntimeException());
+            return;
+          }
+
+          observer.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                  .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                          .setId("1")
+                          .setPubsubName("pubsubName")
+                          .setTopic("topicName")
+                          .setData(ByteString.copyFromUtf8("\"data\""))
+                          .setDataContentType("application/json")
+                          .build())
+                  .build());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+      };
+    }).when(daprStub).subscribeTopicEventsAlpha1(any(StreamObserver.class));
+
+    final List<SubscriptionState> states = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger errors = new AtomicInteger();
+    var subscription = previewClient.subscribeToEvents(
+            "pubsubName",
+            "topicName",
+            new SubscriptionListener<String>() {
+              @Override
+              public Mono<Status> onEvent(CloudEvent<String> event) {
+                return Mono.just(Status.SUCCESS);
+              }
+
+              @Override
+              public void onError(RuntimeException exception) {
+                errors.incrementAndGet();
+              }
+
+              @Override
+              public void onStateChange(SubscriptionState state) {
+                states.add(state);
+              }
+            },
+            TypeRef.STRING);
+
+    acked.await();
+    subscription.close();
+    subscription.awaitTermination();
+
+    assertEquals(2, connections.get());
+    assertEquals(1, subscription.getReconnectCount());
+    assertEquals(1, errors.get());
+    assertEquals("1", acks.get(0).getEventProcessed().getId());
+    assertEquals(List.of(SubscriptionState.RECONNECTING, SubscriptionState.CONNECTING, SubscriptionState.CONNECTED,
+            SubscriptionState.CLOSED), states);
+    assertEquals(SubscriptionState.CLOSED, subscription.getState());
+  }
+
+  @Test
+  public void subscribeEventAckAfterReconnectTest() throws Exception {
+    final List<StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>> streams =
+            Collections.synchronizedList(new ArrayList<>());
+    final List<DaprProtos.SubscribeTopicEventsRequestAlpha1> acks = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch acked = new CountDownLatch(1);
+
+    doAnswer((Answer<StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1>>) invocation -> {
+      StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> observer =
+              (StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) invocation.getArguments()[0];
+      streams.add(observer);
+      final int connection = streams.size();
+      return new StreamObserver<>() {
+
+        @Override
+        public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+          if (!request.hasInitialRequest()) {
+            if (connection == 2) {
+              acks.add(request);
+              acked.countDown();
+            }
+            return;
+          }
+
+          if (connection == 1) {
+            observer.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                    .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                            .setId("1")
+                            .setPubsubName("pubsubName")
+                            .setTopic("topicName")
+                            .setData(ByteString.copyFromUtf8("\"data\""))
+                            .setDataContentType("application/json")
+                            .build())
+                    .build());
+          }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+      };
+    }).when(daprStub).subscribeTopicEventsAlpha1(any(StreamObserver.class));
+
+    final CountDownLatch processing = new CountDownLatch(1);
+    final Sinks.Empty<Void> gate = Sinks.empty();
+    var subscription = previewClient.subscribeToEvents(
+            "pubsubName",
+            "topicName",
+            new SubscriptionListener<String>() {
+              @Override
+              public Mono<Status> onEvent(CloudEvent<String> event) {
+                processing.countDown();
+                return gate.asMono().thenReturn(Status.SUCCESS);
+              }
+
+              @Override
+              public void onError(RuntimeException exception) {
+              }
+            },
+            TypeRef.STRING,
+            new SubscriptionOptions().setMinReconnectBackoff(Duration.ofMillis(10)));
+
+    assertTrue(processing.await(5, TimeUnit.SECONDS));
+    // The sidecar goes away while the event is still being processed.
+    streams.get(0).onError(Status.UNAVAILABLE.asRuntimeException());
+    gate.tryEmitEmpty();
+    assertTrue(acked.await(5, TimeUnit.SECONDS));
+    subscription.close();
+    subscription.awaitTermination();
+
+    assertEquals(2, streams.size());
+    assertEquals("1", acks.get(0).getEventProcessed().getId());
+    assertEquals(DaprAppCallbackProtos.TopicEventResponse.TopicEventResponseStatus.SUCCESS,
+            acks.get(0).getEventProcessed().getStatus().getStatus());
+  }
+
+  @Test
+  public void subscribeEventIdleTimeoutWithFullWindowTest() throws Exception {
+    final AtomicInteger connections = new AtomicInteger();
+    final CountDownLatch reconnected = new CountDownLatch(1);
+    final CountDownLatch acked = new CountDownLatch(1);
+
+    DaprGrpc.DaprImplBase sidecar = new DaprGrpc.DaprImplBase() {
+      @Override
+      public StreamObserver<DaprProtos.SubscribeTopicEventsRequestAlpha1> subscribeTopicEventsAlpha1(
+              StreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1> responseObserver) {
+        var events = (ServerCallStreamObserver<DaprProtos.SubscribeTopicEventsResponseAlpha1>) responseObserver;
+        final int connection = connections.incrementAndGet();
+        if (connection == 2) {
+          reconnected.countDown();
+        }
+        var subscribed = new AtomicBoolean();
+        var sent = new AtomicBoolean();
+        // A single event is sent on the first stream, once the client has requested it.
+        Runnable send = () -> {
+          if ((connection == 1) && subscribed.get() && events.isReady() && sent.compareAndSet(false, true)) {
+            events.onNext(DaprProtos.SubscribeTopicEventsResponseAlpha1.newBuilder()
+                    .setEventMessage(DaprAppCallbackProtos.TopicEventRequest.newBuilder()
+                            .setId("1")
+                            .setPubsubName("pubsubName")
+                            .setTopic("topicName")
+                            .setData(ByteString.copyFromUtf8("\"data\""))
+                            .setDataContentType("application/json")
+                            .build())
+                    .build());
+          }
+        };
+        events.setOnReadyHandler(send);
+        return new StreamObserver<>() {
+
+          @Override
+          public void onNext(DaprProtos.SubscribeTopicEventsRequestAlpha1 request) {
+            if (request.hasInitialRequest()) {
+              subscribed.set(true);
+              send.run();
+            } else {
+              acked.countDown();
+            }
+          }
+
+          @Override
+          public void onError(Throwable throwable) {
+          }
+
+          @Override
+          public void onCompleted() {
+          }
+        };
+      }
+    };
+
+    String serverName = InProcessServerBuilder.generateName();
+    Server server = InProcessServerBuilder.forName(serverName).directExecutor().addService(sidecar).build().start();
+    ManagedChannel managedChannel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    try {
+      // The client from setup is left open, since tearDown expects the channel facade to be closed once.
+      previewClient = new DaprClientImpl(channel, DaprGrpc.newStub(managedChannel), daprHttp,
+              new DefaultObjectSerializer(), new DefaultObjectSerializer());
+
+      var subscription = previewClient.subscribeToEvents(
+              "pubsubName",
+              "topicName",
+              new SubscriptionListener<String>() {
+                @Override
+                public Mono<Status> onEvent(CloudEvent<String> event) {
+                  return Mono.delay(Duration.ofMillis(500)).thenReturn(Status.SUCCESS);
+                }
+
+                @Override
+                public void onError(RuntimeException exception) {
+                }
+              },
+              TypeRef.STRING,
+              new SubscriptionOptions()
+                      .setMaxInFlight(1)
+                      .setIdleTimeout(Duration.ofMillis(200))
+                      .setMinReconnectBackoff(Duration.ofMillis(10)));
+
+      assertTrue(acked.await(5, TimeUnit.SECONDS));
+      // The sidecar could not send anything while the handler held the only slot, so that was not idle time.
+      assertEquals(1, connections.get());
+      // Once the event is acked the sidecar may send again, and its silence counts.
+      assertTrue(reconnected.await(5, TimeUnit.SECONDS));
+      subscription.close();
+      subscription.awaitTermination();
+    } finally {
+      managedChannel.shutdownNow();
+      server.shutdownNow();
+    }
+  }
+
   @Test
   public void converseShouldThrowIllegalArgumentExceptionWhenComponentNameIsNull() throws Exception {
     List<ConversationInput> inputs = new ArrayList<>();
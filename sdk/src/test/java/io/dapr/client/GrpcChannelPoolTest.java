@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.client;
+
+import io.dapr.v1.DaprGrpc;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GrpcChannelPoolTest {
+
+  private ManagedChannel channel0;
+
+  private ManagedChannel channel1;
+
+  private ClientCall<Object, Object> call0;
+
+  private ClientCall<Object, Object> call1;
+
+  private GrpcChannelPool pool;
+
+  @BeforeEach
+  public void setup() {
+    channel0 = mock(ManagedChannel.class);
+    channel1 = mock(ManagedChannel.class);
+    call0 = mock(ClientCall.class);
+    call1 = mock(ClientCall.class);
+    when(channel0.newCall(any(), any())).thenReturn((ClientCall) call0);
+    when(channel1.newCall(any(), any())).thenReturn((ClientCall) call1);
+    pool = new GrpcChannelPool(List.of(channel0, channel1));
+  }
+
+  @Test
+  public void emptyPoolIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> new GrpcChannelPool(List.of()));
+  }
+
+  @Test
+  public void idleCallsRotateAcrossChannels() {
+    pool.newCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT);
+    pool.newCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT);
+
+    verify(channel0).newCall(any(), any());
+    verify(channel1).newCall(any(), any());
+  }
+
+  @Test
+  public void callsGoToLeastLoadedChannel() {
+    ClientCall<?, ?> inFlight = pool.newCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT);
+    inFlight.start(mock(ClientCall.Listener.class), new Metadata());
+    assertEquals(1, pool.getActiveCalls(0));
+
+    pool.newCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT);
+    pool.newCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT);
+
+    verify(channel0, times(1)).newCall(any(), any());
+    verify(channel1, times(2)).newCall(any(), any());
+  }
+
+  @Test
+  public void closedCallsReleaseTheChannel() {
+    ClientCall<?, ?> call = pool.newCall(DaprGrpc.getGetStateMethod(), CallOptions.DEFAULT);
+    call.start(mock(ClientCall.Listener.class), new Metadata());
+    ArgumentCaptor<ClientCall.Listener<Object>> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+    verify(call0).start(listener.capture(), any());
+
+    listener.getValue().onClose(Status.OK, new Metadata());
+
+    assertEquals(0, pool.getActiveCalls(0));
+  }
+
+  @Test
+  public void shutdownClosesAllChannels() {
+    when(channel0.isShutdown()).thenReturn(true);
+    when(channel1.isShutdown()).thenReturn(true);
+
+    pool.shutdown();
+
+    verify(channel0).shutdown();
+    verify(channel1).shutdown();
+    assertTrue(pool.isShutdown());
+  }
+
+  @Test
+  public void stateIsMostUsableChannelState() {
+    when(channel0.getState(true)).thenReturn(ConnectivityState.TRANSIENT_FAILURE);
+    when(channel1.getState(true)).thenReturn(ConnectivityState.READY);
+
+    assertEquals(ConnectivityState.READY, pool.getState(true));
+    verify(channel0).getState(true);
+  }
+
+  @Test
+  public void notifiesWhenPoolStateChanges() {
+    when(channel0.getState(false)).thenReturn(ConnectivityState.CONNECTING);
+    when(channel1.getState(false)).thenReturn(ConnectivityState.CONNECTING);
+    AtomicInteger notified = new AtomicInteger();
+
+    pool.notifyWhenStateChanged(ConnectivityState.CONNECTING, notified::incrementAndGet);
+    ArgumentCaptor<Runnable> watcher0 = ArgumentCaptor.forClass(Runnable.class);
+    ArgumentCaptor<Runnable> watcher1 = ArgumentCaptor.forClass(Runnable.class);
+    verify(channel0).notifyWhenStateChanged(eq(ConnectivityState.CONNECTING), watcher0.capture());
+    verify(channel1).notifyWhenStateChanged(eq(ConnectivityState.CONNECTING), watcher1.capture());
+
+    when(channel0.getState(false)).thenReturn(ConnectivityState.READY);
+    watcher0.getValue().run();
+    watcher1.getValue().run();
+
+    assertEquals(1, notified.get());
+  }
+
+  @Test
+  public void backoffAndIdleReachAllChannels() {
+    pool.resetConnectBackoff();
+    pool.enterIdle();
+
+    verify(channel0).resetConnectBackoff();
+    verify(channel1).resetConnectBackoff();
+    verify(channel0).enterIdle();
+    verify(channel1).enterIdle();
+  }
+}
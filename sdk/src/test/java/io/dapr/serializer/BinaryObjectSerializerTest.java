@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 The Dapr Authors
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+limitations under the License.
+*/
+
+package io.dapr.serializer;
+
+import com.google.protobuf.ByteString;
+import io.dapr.utils.TypeRef;
+import io.dapr.v1.CommonProtos;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryObjectSerializerTest {
+
+  private static final DefaultObjectSerializer JSON = new DefaultObjectSerializer();
+
+  public static class Reading {
+    private String sensor;
+    private double value;
+    private List<Integer> samples;
+
+    public Reading() {
+    }
+
+    public Reading(String sensor, double value, List<Integer> samples) {
+      this.sensor = sensor;
+      this.value = value;
+      this.samples = samples;
+    }
+
+    public String getSensor() {
+      return sensor;
+    }
+
+    public void setSensor(String sensor) {
+      this.sensor = sensor;
+    }
+
+    public double getValue() {
+      return value;
+    }
+
+    public void setValue(double value) {
+      this.value = value;
+    }
+
+    public List<Integer> getSamples() {
+      return samples;
+    }
+
+    public void setSamples(List<Integer> samples) {
+      this.samples = samples;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Reading)) {
+        return false;
+      }
+      Reading that = (Reading) o;
+      return Double.compare(value, that.value) == 0
+          && Objects.equals(sensor, that.sensor)
+          && Objects.equals(samples, that.samples);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sensor, value, samples);
+    }
+  }
+
+  @Test
+  public void smileRoundTrip() throws Exception {
+    assertRoundTrip(new SmileObjectSerializer());
+    assertEquals("application/x-jackson-smile", new SmileObjectSerializer().getContentType());
+  }
+
+  @Test
+  public void cborRoundTrip() throws Exception {
+    assertRoundTrip(new CborObjectSerializer());
+    assertEquals("application/cbor", new CborObjectSerializer().getContentType());
+  }
+
+  @Test
+  public void binaryEncodingsAreSmallerThanJson() throws Exception {
+    Reading reading = new Reading("temperature", 21.5, List.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+    int json = JSON.serialize(reading).length;
+
+    assertTrue(new SmileObjectSerializer().serialize(reading).length < json);
+    assertTrue(new CborObjectSerializer().serialize(reading).length < json);
+  }
+
+  @Test
+  public void protobufRoundTrip() throws Exception {
+    ProtobufObjectSerializer serializer = new ProtobufObjectSerializer();
+    CommonProtos.Etag etag = CommonProtos.Etag.newBuilder().setValue("myValue").build();
+
+    byte[] data = serializer.serialize(etag);
+    assertArrayEquals(etag.toByteArray(), data);
+    assertEquals(etag, serializer.deserialize(data, TypeRef.get(CommonProtos.Etag.class)));
+    assertEquals(etag,
+        serializer.deserializeFrom(ByteBuffer.wrap(data), TypeRef.get(CommonProtos.Etag.class)));
+
+    ByteString.Output output = ByteString.newOutput();
+    assertTrue(serializer.serializeTo(etag, output));
+    assertEquals(etag.toByteString(), output.toByteString());
+    assertEquals("application/x-protobuf", serializer.getContentType());
+  }
+
+  @Test
+  public void protobufEmptyContentIsNull() throws Exception {
+    ProtobufObjectSerializer serializer = new ProtobufObjectSerializer();
+
+    assertNull(serializer.serialize(null));
+    assertNull(serializer.deserialize(null, TypeRef.get(CommonProtos.Etag.class)));
+    assertNull(serializer.deserialize(new byte[0], TypeRef.get(CommonProtos.Etag.class)));
+    assertNull(serializer.deserializeFrom(ByteBuffer.allocate(0), TypeRef.get(CommonProtos.Etag.class)));
+  }
+
+  @Test
+  public void protobufRejectsOtherTypes() {
+    ProtobufObjectSerializer serializer = new ProtobufObjectSerializer();
+
+    assertThrows(IllegalArgumentException.class, () -> serializer.serialize(new Reading()));
+    assertThrows(IllegalArgumentException.class,
+        () -> serializer.deserialize(new byte[] {1}, TypeRef.get(Reading.class)));
+  }
+
+  private static void assertRoundTrip(DaprStreamingObjectSerializer serializer) throws Exception {
+    Reading reading = new Reading("temperature", 21.5, List.of(1, 2, 3));
+    byte[] data = serializer.serialize(reading);
+    assertEquals(reading, serializer.deserialize(data, TypeRef.get(Reading.class)));
+    assertEquals(reading, serializer.deserializeFrom(ByteBuffer.wrap(data), TypeRef.get(Reading.class)));
+
+    ByteString.Output output = ByteString.newOutput();
+    assertTrue(serializer.serializeTo(reading, output));
+    assertArrayEquals(data, output.toByteString().toByteArray());
+
+    assertEquals(42, (int) serializer.deserialize(serializer.serialize(42), TypeRef.get(int.class)));
+    assertEquals("text", serializer.deserialize(serializer.serialize("text"), TypeRef.STRING));
+    byte[] raw = new byte[] {1, 2, 3};
+    assertArrayEquals(raw, serializer.deserialize(serializer.serialize(raw), TypeRef.BYTE_ARRAY));
+    assertNull(serializer.deserialize(null, TypeRef.get(Reading.class)));
+  }
+}
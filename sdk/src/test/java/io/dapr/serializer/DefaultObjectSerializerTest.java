@@ -36,6 +36,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -44,6 +45,7 @@ import java.util.List;
 import java.util.TreeMap;
 import java.util.function.Function;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -464,6 +466,48 @@ public class DefaultObjectSerializerTest {
     assertEquals(valueToSerialize, deserializedValue);
   }
 
+  @Test
+  public void deserializeInvalidProtoTest() {
+    byte[] truncated = new byte[] {0x0A, (byte) 0xFF};
+
+    assertThrows(IOException.class, () -> SERIALIZER.deserialize(truncated, CommonProtos.Etag.class));
+    assertThrows(IOException.class,
+        () -> SERIALIZER.deserializeFrom(ByteBuffer.wrap(truncated), TypeRef.get(CommonProtos.Etag.class)));
+  }
+
+  @Test
+  public void serializeToAndDeserializeFromBufferTest() throws Exception {
+    MyObjectTestToSerialize obj = new MyObjectTestToSerialize();
+    obj.setStringValue("A String");
+    obj.setIntValue(2147483647);
+    obj.setLongValue(9223372036854775807L);
+
+    ByteString.Output output = ByteString.newOutput();
+    assertTrue(SERIALIZER.serializeTo(obj, output));
+    ByteString serialized = output.toByteString();
+    assertArrayEquals(SERIALIZER.serialize(obj), serialized.toByteArray());
+
+    ByteBuffer buffer = serialized.asReadOnlyByteBuffer();
+    MyObjectTestToSerialize result = SERIALIZER.deserializeFrom(buffer, TypeRef.get(MyObjectTestToSerialize.class));
+    assertEquals(obj, result);
+    assertEquals(serialized.size(), buffer.remaining());
+
+    CommonProtos.Etag proto = CommonProtos.Etag.newBuilder().setValue("myValue").build();
+    output = ByteString.newOutput();
+    assertTrue(SERIALIZER.serializeTo(proto, output));
+    assertEquals(proto,
+        SERIALIZER.deserializeFrom(output.toByteString().asReadOnlyByteBuffer(), TypeRef.get(CommonProtos.Etag.class)));
+  }
+
+  @Test
+  public void serializeToAndDeserializeFromBufferEmptyTest() throws Exception {
+    assertFalse(SERIALIZER.serializeTo(null, ByteString.newOutput()));
+    assertNull(SERIALIZER.deserializeFrom(null, TypeRef.get(MyObjectTestToSerialize.class)));
+    assertNull(SERIALIZER.deserializeFrom(ByteBuffer.allocate(0), TypeRef.get(MyObjectTestToSerialize.class)));
+    assertEquals(0, (int) SERIALIZER.deserializeFrom(ByteBuffer.allocate(0), TypeRef.get(int.class)));
+    assertArrayEquals(new byte[0], SERIALIZER.deserializeFrom(ByteBuffer.allocate(0), TypeRef.get(byte[].class)));
+  }
+
   @Test
   public void serializeFakeProtoTest() throws Exception {
     FakeProtoClass valueToSerialize = new FakeProtoClass();
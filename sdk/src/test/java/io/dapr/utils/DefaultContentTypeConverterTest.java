@@ -17,6 +17,10 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.client.domain.CloudEvent;
+import io.dapr.serializer.CborObjectSerializer;
+import io.dapr.serializer.ProtobufObjectSerializer;
+import io.dapr.serializer.SmileObjectSerializer;
+import io.dapr.v1.CommonProtos;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -239,4 +243,38 @@ public class DefaultContentTypeConverterTest {
     assertThrows(IllegalArgumentException.class, () -> DefaultContentTypeConverter.convertBytesToEventFromHttp(event,
         "text/plain;charset=utf-8", TypeRef.BYTE_ARRAY));
   }
+
+  @Test
+  public void testBinarySerializerContentTypesOverGrpc() throws IOException {
+    Map<String, String> event = Map.of("key", "value");
+    byte[] smile = DefaultContentTypeConverter.convertEventToBytesForGrpc(event, "application/x-jackson-smile");
+    Assertions.assertArrayEquals(new SmileObjectSerializer().serialize(event), smile);
+    Assertions.assertEquals(event, DefaultContentTypeConverter.convertBytesToEventFromGrpc(
+        smile, "application/x-jackson-smile", new TypeRef<Map<String, String>>() {}));
+
+    byte[] cbor = DefaultContentTypeConverter.convertEventToBytesForGrpc(event, "application/cbor; charset=binary");
+    Assertions.assertArrayEquals(new CborObjectSerializer().serialize(event), cbor);
+
+    CommonProtos.Etag proto = CommonProtos.Etag.newBuilder().setValue("v1").build();
+    byte[] protobuf = DefaultContentTypeConverter.convertEventToBytesForGrpc(proto, "application/x-protobuf");
+    Assertions.assertArrayEquals(new ProtobufObjectSerializer().serialize(proto), protobuf);
+    Assertions.assertEquals(proto, DefaultContentTypeConverter.convertBytesToEventFromGrpc(
+        protobuf, "application/x-protobuf", TypeRef.get(CommonProtos.Etag.class)));
+  }
+
+  @Test
+  public void testBinarySerializerContentTypesOverHttp() throws IOException {
+    Map<String, String> event = Map.of("key", "value");
+    byte[] res = DefaultContentTypeConverter.convertEventToBytesForHttp(event, "application/cbor");
+    Assertions.assertArrayEquals(Base64.getEncoder().encode(new CborObjectSerializer().serialize(event)), res);
+    Assertions.assertEquals(event, DefaultContentTypeConverter.convertBytesToEventFromHttp(
+        res, "application/cbor", new TypeRef<Map<String, String>>() {}));
+  }
+
+  @Test
+  public void testBinarySerializerNullEventOverHttp() throws IOException {
+    Assertions.assertNull(DefaultContentTypeConverter.convertEventToBytesForHttp(null, "application/cbor"));
+    Assertions.assertNull(DefaultContentTypeConverter.convertBytesToEventFromHttp(
+        null, "application/cbor", new TypeRef<Map<String, String>>() {}));
+  }
 }
@@ -17,6 +17,7 @@ import io.dapr.config.Properties;
 import io.dapr.exceptions.DaprException;
 import io.dapr.utils.NetworkUtils.GrpcEndpointSettings;
 import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
 import org.junit.Assert;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -655,4 +656,50 @@ public class NetworkUtilsTest {
     Assertions.assertEquals(123456, settings.maxInboundMetadataSize);
     
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testDefaultTransportSettings() throws Exception {
+    GrpcEndpointSettings settings = NetworkUtils.GrpcEndpointSettings.parse(new Properties());
+    Assertions.assertFalse(settings.nativeTransport);
+    Assertions.assertEquals(0, settings.eventLoopThreads);
+    Assertions.assertFalse(settings.directExecutor);
+  }
+
+  @Test
+  public void testTransportSettings() throws Exception {
+    Properties properties = new Properties(Map.of(
+        Properties.GRPC_NATIVE_TRANSPORT_ENABLED.getName(), "true",
+        Properties.GRPC_EVENT_LOOP_THREADS.getName(), "2",
+        Properties.GRPC_DIRECT_EXECUTOR_ENABLED.getName(), "true"
+    ));
+
+    GrpcEndpointSettings settings = NetworkUtils.GrpcEndpointSettings.parse(properties);
+    Assertions.assertTrue(settings.nativeTransport);
+    Assertions.assertEquals(2, settings.eventLoopThreads);
+    Assertions.assertTrue(settings.directExecutor);
+  }
+
+  @Test
+  public void testDomainSocketAddress() {
+    Assertions.assertEquals("/tmp/dapr.sock", NetworkUtils.toDomainSocketAddress("unix:///tmp/dapr.sock").path());
+    Assertions.assertEquals("dapr.sock", NetworkUtils.toDomainSocketAddress("unix:dapr.sock").path());
+    Assertions.assertEquals("\0dapr", NetworkUtils.toDomainSocketAddress("unix-abstract:dapr").path());
+    Assertions.assertNull(NetworkUtils.toDomainSocketAddress("dns:///localhost:50001"));
+  }
+
+  @Test
+  @EnabledOnOs(OS.LINUX)
+  public void testBuildGrpcManagedChannelWithNativeTransport() {
+    Assumptions.assumeTrue(Epoll.isAvailable());
+    Properties properties = new Properties(Map.of(
+        Properties.GRPC_ENDPOINT.getName(), "unix:/tmp/dapr.sock",
+        Properties.GRPC_NATIVE_TRANSPORT_ENABLED.getName(), "true",
+        Properties.GRPC_DIRECT_EXECUTOR_ENABLED.getName(), "true"
+    ));
+
+    channel = NetworkUtils.buildGrpcManagedChannel(properties);
+
+    Assertions.assertNotNull(channel);
+    Assertions.assertFalse(channel.isShutdown());
+  }
+}